@@ -65,4 +65,12 @@ public class Main extends Application {
             assert false : "FXML loading failed with IOException: " + e.getMessage();
         }
     }
+
+    /**
+     * Saves any pending changes before the application exits.
+     */
+    @Override
+    public void stop() {
+        mintel.close();
+    }
 }
@@ -1,20 +1,39 @@
 package mintel;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import mintel.exception.MintelException;
 import mintel.logic.command.Command;
 import mintel.logic.parser.Parser;
+import mintel.model.tasklist.ConcurrentTaskList;
 import mintel.model.tasklist.TaskList;
+import mintel.storage.BufferedNioTaskStore;
+import mintel.storage.FileCompression;
+import mintel.storage.InMemoryTaskStore;
 import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * Main class for the Mintel chatbot application.
  * Mintel is a task management chatbot that helps users track todos, deadlines, and events.
  * It supports saving tasks to file and loading them on startup.
+ * The storage backend is chosen with the {@code mintel.store} system property:
+ * {@code file} (the default), {@code nio} or {@code memory}. Setting {@code mintel.compress} to true
+ * makes the file backend gzip-compress its files. {@code mintel.historyBytes} limits the memory kept for
+ * undo and redo.
  */
 public class Mintel {
-    private final Storage storage;
+    private static final long MAX_SAVE_STALENESS_MILLIS = 500;
+    private static final String STORE_PROPERTY = "mintel.store";
+    private static final String COMPRESS_PROPERTY = "mintel.compress";
+    private static final String HISTORY_PROPERTY = "mintel.historyBytes";
+    private static final Logger LOGGER = Logger.getLogger(Mintel.class.getName());
+
+    private final Object taskLock = new Object();
+    private final TaskStore storage;
     private TaskList tasks;
     private boolean isExit;
     private MainWindow mainWindow;
@@ -28,10 +47,42 @@ public class Mintel {
         assert filePath != null : "File path must not be null";
         assert !filePath.trim().isEmpty() : "File path must not be empty";
 
-        this.storage = new Storage(filePath);
+        this.storage = createStore(filePath, System.getProperty(STORE_PROPERTY, "file"));
+        this.isExit = false;
+    }
+
+    /**
+     * Constructs a Mintel chatbot instance that keeps its tasks in the given store.
+     *
+     * @param storage The store to load tasks from and save them to.
+     */
+    public Mintel(TaskStore storage) {
+        assert storage != null : "Task store must not be null";
+
+        this.storage = storage;
         this.isExit = false;
     }
 
+    /**
+     * Creates the storage backend with the given name.
+     */
+    private TaskStore createStore(String filePath, String backend) {
+        switch (backend) {
+        case "memory":
+            return new InMemoryTaskStore();
+        case "nio":
+            return new BufferedNioTaskStore(filePath);
+        default:
+            String storagePath = Boolean.getBoolean(COMPRESS_PROPERTY)
+                    ? filePath + FileCompression.GZIP.getExtension()
+                    : filePath;
+            Storage fileStorage = new Storage(storagePath);
+            fileStorage.setLazyLoading(true);
+            fileStorage.enableWriteBehind(taskLock, MAX_SAVE_STALENESS_MILLIS);
+            return fileStorage;
+        }
+    }
+
     /**
      * Sets the main window for GUI interactions.
      */
@@ -41,27 +92,26 @@ public class Mintel {
 
     /**
      * Initializes tasks by loading from storage.
+     * The tasks go into a ConcurrentTaskList, whose published snapshots the background saver writes
+     * without copying the list while holding the task lock.
      * Should be called after mainWindow is set.
      */
     public void initializeTasks() {
         assert mainWindow != null : "MainWindow must be set before loading tasks";
 
         try {
-            tasks = new TaskList(storage.loadTasks());
+            tasks = new ConcurrentTaskList(storage.loadTasks());
 
-            List<String> warnings = storage.getWarnings();
+            List<String> warnings = storage.takeNewWarnings();
             if (!warnings.isEmpty()) {
-                StringBuilder warningMessage = new StringBuilder();
-                for (String warning : warnings) {
-                    warningMessage.append(warning).append("\n");
-                }
-                mainWindow.showMessage(warningMessage.toString().trim());
+                mainWindow.showMessage(joinWarnings(warnings));
             }
 
         } catch (MintelException e) {
             mainWindow.showMessage(e.getMessage());
-            tasks = new TaskList();
+            tasks = new ConcurrentTaskList();
         }
+        tasks.setHistoryLimit(Math.max(0, Long.getLong(HISTORY_PROPERTY, TaskList.DEFAULT_HISTORY_BYTES)));
     }
 
     /**
@@ -78,7 +128,19 @@ public class Mintel {
 
         try {
             Command command = Parser.parse(input);
-            String response = command.execute(tasks, mainWindow, storage);
+            String response;
+            List<String> warnings;
+            synchronized (taskLock) {
+                response = command.execute(tasks, mainWindow, storage);
+                storage.saveIfDirty(tasks);
+                // Invalid lines of a lazily loaded file are only found when something reaches them,
+                // which may be the background saver, so the warnings are taken under the same lock
+                warnings = storage.takeNewWarnings();
+            }
+
+            if (!warnings.isEmpty()) {
+                response = joinWarnings(warnings) + "\n" + response;
+            }
             isExit = command.isExit();
 
             if (isExit) {
@@ -90,10 +152,34 @@ public class Mintel {
         }
     }
 
+    /**
+     * Joins storage warnings into a single message, one warning per line.
+     */
+    private String joinWarnings(List<String> warnings) {
+        StringBuilder warningMessage = new StringBuilder();
+        for (String warning : warnings) {
+            warningMessage.append(warning).append("\n");
+        }
+        return warningMessage.toString().trim();
+    }
+
     public boolean isExit() {
         return this.isExit;
     }
 
+    /**
+     * Writes any pending changes to storage and stops background saving.
+     * Called when the application shuts down, once the window is gone, so a failure is logged rather
+     * than shown.
+     */
+    public void close() {
+        try {
+            storage.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not save tasks before exiting! Meow...", e);
+        }
+    }
+
     /**
      * The entry point of the Mintel application (CLI mode).
      * Note: This is not used when running with GUI.
@@ -7,8 +7,10 @@ import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.exception.MissingParameterException;
 import mintel.model.task.Deadline;
+import mintel.model.task.StringInterner;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
 
 /**
  * AddDeadlineCommand in the Mintel application.
@@ -38,12 +40,12 @@ public class AddDeadlineCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
 
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
         assert this.input != null : "Input should be initialized";
 
         if (this.input.length() <= DEADLINE_MIN_LENGTH) {
@@ -68,16 +70,16 @@ public class AddDeadlineCommand extends Command {
             throw new EmptyDescriptionException("deadline time (after /by)");
         }
 
-        Deadline deadline = new Deadline(name, by);
+        Deadline deadline = new Deadline(StringInterner.intern(name), by);
 
         assert deadline != null : "Deadline creation failed";
         assert deadline.getName().equals(name) : "Deadline name not set correctly";
         assert !deadline.getIsDone() : "New deadline should not be marked done";
 
         tasks.add(deadline);
-        assert tasks.get(tasks.size() - 1) == deadline : "Event not at end of list";
+        assert tasks.get(tasks.size() - 1).getId() == deadline.getId() : "Event not at end of list";
 
-        storage.saveTasks(tasks.getAllTasks());
+        storage.appendMutation(TaskMutation.add(deadline), tasks);
 
         return "MEOWRiffic! I've added this task:\n  " + deadline
                 + "\nNow you have " + tasks.size() + " tasks in the list.";
@@ -7,8 +7,10 @@ import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.exception.MissingParameterException;
 import mintel.model.task.Event;
+import mintel.model.task.StringInterner;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
 
 /**
  * AddEventCommand in the Mintel application.
@@ -42,11 +44,11 @@ public class AddEventCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
         assert this.input != null : "Input should be initialized";
 
         if (this.input.length() <= EVENT_MIN_LENGTH) {
@@ -82,16 +84,16 @@ public class AddEventCommand extends Command {
             throw new MissingParameterException("end time (after /to)");
         }
 
-        Event event = new Event(name, from, to);
+        Event event = new Event(StringInterner.intern(name), from, to);
 
         assert event != null : "Event creation failed";
         assert event.getName().equals(name) : "Event name not set correctly";
         assert !event.getIsDone() : "New event should not be marked done";
 
         tasks.add(event);
-        assert tasks.get(tasks.size() - 1) == event : "Event not at end of list";
+        assert tasks.get(tasks.size() - 1).getId() == event.getId() : "Event not at end of list";
 
-        storage.saveTasks(tasks.getAllTasks());
+        storage.appendMutation(TaskMutation.add(event), tasks);
 
         return "MEOWRiffic! I've added this task:\n  " + event
                 + "\nNow you have " + tasks.size() + " tasks in the list.";
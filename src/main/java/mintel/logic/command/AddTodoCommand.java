@@ -5,9 +5,11 @@ import java.io.IOException;
 import mintel.MainWindow;
 import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
+import mintel.model.task.StringInterner;
 import mintel.model.task.Todo;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
 
 /**
  * AddTodoCommand in the Mintel application.
@@ -40,11 +42,11 @@ public class AddTodoCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
 
         if (this.input.length() <= TODO_MIN_LENGTH) {
             throw new EmptyDescriptionException("todo");
@@ -58,11 +60,11 @@ public class AddTodoCommand extends Command {
             throw new EmptyDescriptionException("todo");
         }
 
-        Todo todo = new Todo(description);
+        Todo todo = new Todo(StringInterner.intern(description));
         assert todo != null : "todo cannot be null";
 
         tasks.add(todo);
-        storage.saveTasks(tasks.getAllTasks());
+        storage.appendMutation(TaskMutation.add(todo), tasks);
 
         return "MEOWRiffic! I've added this task:\n  " + todo
                 + "\nNow you have " + tasks.size() + " tasks in the list.";
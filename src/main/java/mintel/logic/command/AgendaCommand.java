@@ -0,0 +1,67 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import mintel.MainWindow;
+import mintel.exception.MintelException;
+import mintel.model.tasklist.TaskList;
+import mintel.storage.TaskStore;
+
+/**
+ * AgendaCommand displays the deadlines and events of the coming week or month, starting today,
+ * grouped by day.
+ */
+public class AgendaCommand extends Command {
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Constructs an AgendaCommand from the user's input: "agenda week" or "agenda month".
+     *
+     * @param inputList List of strings which contains the command given by the user but split by " ".
+     * @throws MintelException If the period is not week or month.
+     */
+    public AgendaCommand(String[] inputList) throws MintelException {
+        this(inputList, LocalDate.now());
+    }
+
+    /**
+     * Constructs an AgendaCommand for the week or month starting on the given day.
+     *
+     * @param inputList List of strings which contains the command given by the user but split by " ".
+     * @param today     The first day of the agenda.
+     * @throws MintelException If the period is not week or month.
+     */
+    public AgendaCommand(String[] inputList, LocalDate today) throws MintelException {
+        assert inputList != null : "Input list cannot be null";
+        assert inputList.length > 0 && inputList[0].equals("agenda") : "AgendaCommand should only handle agenda";
+        assert today != null : "Today cannot be null";
+
+        if (inputList.length != 2) {
+            throw new MintelException("Please use agenda week or agenda month! Meow...");
+        }
+
+        this.from = today;
+        if (inputList[1].equals("week")) {
+            this.to = today.plusWeeks(1).minusDays(1);
+        } else if (inputList[1].equals("month")) {
+            this.to = today.plusMonths(1).minusDays(1);
+        } else {
+            throw new MintelException("Please use agenda week or agenda month! Meow...");
+        }
+    }
+
+    @Override
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
+        assert tasks != null : "TaskList cannot be null";
+
+        return tasks.getScheduleBetween(from, to);
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+import java.util.List;
+
+import mintel.MainWindow;
+import mintel.exception.MintelException;
+import mintel.logic.parser.TaskSelection;
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskList;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
+
+/**
+ * Deletes several tasks at once, e.g. "delete 3,7,9-20" or "delete all".
+ * Task numbers refer to the list before the deletion, and the tasks are removed in a single pass.
+ */
+public class BulkDeleteCommand extends Command {
+    private static final int MAX_LISTED_TASKS = 5;
+
+    private final TaskSelection selection;
+
+    /**
+     * Constructs a BulkDeleteCommand.
+     *
+     * @param selection The tasks to delete, as typed after the command word.
+     * @throws MintelException If the selection is not valid.
+     */
+    public BulkDeleteCommand(String selection) throws MintelException {
+        assert selection != null : "Selection cannot be null";
+
+        this.selection = TaskSelection.parse(selection);
+    }
+
+    /**
+     * Deletes every selected task, then records the change once.
+     *
+     * @param tasks   The task list to operate on.
+     * @param mainWindow      The window interface for displaying messages.
+     * @param storage The storage handler for saving tasks.
+     * @throws MintelException If a selected task number is out of range.
+     * @throws IOException     If there's an error saving tasks to file.
+     */
+    @Override
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
+        assert tasks != null : "TaskList cannot be null";
+        assert storage != null : "Task store cannot be null";
+
+        int[] indexes = selection.resolve(tasks.size());
+        if (indexes.length == 0) {
+            return "Meow~ Your list is empty!";
+        }
+
+        List<Task> deletedTasks = tasks.removeTasks(indexes);
+        storage.appendMutation(TaskMutation.delete(indexes), tasks);
+
+        StringBuilder sb = new StringBuilder("MEOWRiffic! I've removed ").append(deletedTasks.size())
+                .append(deletedTasks.size() == 1 ? " task:" : " tasks:");
+        for (int i = 0; i < Math.min(MAX_LISTED_TASKS, deletedTasks.size()); i++) {
+            sb.append("\n  ").append(deletedTasks.get(i));
+        }
+        if (deletedTasks.size() > MAX_LISTED_TASKS) {
+            sb.append("\n  ...and ").append(deletedTasks.size() - MAX_LISTED_TASKS).append(" more");
+        }
+        return sb.append("\nNow you have ").append(tasks.size()).append(" tasks in the list.").toString();
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
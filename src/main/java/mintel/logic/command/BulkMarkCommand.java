@@ -0,0 +1,65 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+
+import mintel.MainWindow;
+import mintel.exception.MintelException;
+import mintel.logic.parser.TaskSelection;
+import mintel.model.tasklist.TaskList;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
+
+/**
+ * Marks or unmarks several tasks at once, e.g. "mark 1-500" or "unmark all".
+ * All the tasks change together and are persisted as a single mutation.
+ */
+public class BulkMarkCommand extends Command {
+    private final TaskSelection selection;
+    private final boolean isMarkAsCompleted;
+
+    /**
+     * Constructs a BulkMarkCommand.
+     *
+     * @param selection         The tasks to mark, as typed after the command word.
+     * @param isMarkAsCompleted Status of the tasks.
+     * @throws MintelException If the selection is not valid.
+     */
+    public BulkMarkCommand(String selection, boolean isMarkAsCompleted) throws MintelException {
+        assert selection != null : "Selection cannot be null";
+
+        this.selection = TaskSelection.parse(selection);
+        this.isMarkAsCompleted = isMarkAsCompleted;
+    }
+
+    /**
+     * Marks or unmarks every selected task, then records the change once.
+     *
+     * @param tasks   The task list to operate on.
+     * @param mainWindow      The window interface for displaying messages.
+     * @param storage The storage handler for saving tasks.
+     * @throws MintelException If a selected task number is out of range.
+     * @throws IOException     If there's an error saving tasks to file.
+     */
+    @Override
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
+        assert tasks != null : "TaskList cannot be null";
+        assert storage != null : "Task store cannot be null";
+
+        int[] indexes = selection.resolve(tasks.size());
+        if (indexes.length == 0) {
+            return "Meow~ Your list is empty!";
+        }
+
+        tasks.markTasks(indexes, isMarkAsCompleted);
+        storage.appendMutation(TaskMutation.mark(indexes, isMarkAsCompleted), tasks);
+
+        return "MEOWRiffic! I've marked " + indexes.length + (indexes.length == 1 ? " task" : " tasks")
+                + (isMarkAsCompleted ? " as done." : " as not done yet.");
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -5,7 +5,7 @@ import java.io.IOException;
 import mintel.MainWindow;
 import mintel.exception.MintelException;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * Abstract base class for all commands in the Mintel application.
@@ -22,7 +22,7 @@ public abstract class Command {
      * @throws MintelException If there's an error during command execution.
      * @throws IOException     If there's an error saving tasks to file.
      */
-    public abstract String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public abstract String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, IOException;
 
     /**
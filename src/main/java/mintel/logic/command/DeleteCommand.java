@@ -7,7 +7,8 @@ import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.model.task.Task;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
 
 /**
  * DeleteCommand in the Mintel application.
@@ -42,11 +43,11 @@ public class DeleteCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
 
         if (this.inputList.length <= 1) {
             throw new EmptyDescriptionException("delete");
@@ -58,7 +59,7 @@ public class DeleteCommand extends Command {
             Task deletedTask = tasks.remove(index);
             assert deletedTask != null : "Deleted Task cannot be null";
 
-            storage.saveTasks(tasks.getAllTasks());
+            storage.appendMutation(TaskMutation.delete(index), tasks);
 
             return "MEOWRiffic! I've removed this task:\n  " + deletedTask
                     + "\nNow you have " + tasks.size() + " tasks in the list.";
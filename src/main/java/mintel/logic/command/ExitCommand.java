@@ -1,8 +1,10 @@
 package mintel.logic.command;
 
+import java.io.IOException;
+
 import mintel.MainWindow;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * ExitCommand in the Mintel application.
@@ -10,17 +12,21 @@ import mintel.storage.Storage;
 public class ExitCommand extends Command {
 
     /**
-     * Exit the program.
+     * Exit the program after making sure every change has been saved to the task file itself,
+     * rather than only to the journal.
      *
      * @param tasks   The task list to operate on.
      * @param mainWindow      The window interface for displaying messages.
      * @param storage The storage handler for saving tasks.
+     * @throws IOException If pending changes cannot be saved.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage) {
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage) throws IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
+
+        storage.checkpoint(tasks);
 
         return "Meow Meow~ Bye! See you again soon!"
                 + "\n(The window will close automatically after 3 seconds)";
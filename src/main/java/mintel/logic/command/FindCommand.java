@@ -6,7 +6,7 @@ import mintel.MainWindow;
 import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * FindCommand in the Mintel application.
@@ -44,11 +44,11 @@ public class FindCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
         assert this.inputList != null : "Input list should be initialized";
 
         if (this.inputList.length <= 1) {
@@ -4,7 +4,7 @@ import java.io.IOException;
 
 import mintel.MainWindow;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * Displays a list of all available commands and their usage.
@@ -22,18 +22,30 @@ public class HelpCommand extends Command {
             + "e.g., event meeting /from 2026-03-15 /to 2026-03-16\n"
             + "e.g., event conference /from Mar 15 2026 /to Mar 18 2026\n\n"
             + "Viewing Tasks:\n"
-            + "list - Show all tasks\n"
+            + "list - Show the first " + ListCommand.PAGE_SIZE + " tasks\n"
+            + "list page N - Show page N of your tasks\n"
+            + "list A-B - Show tasks A to B, up to " + ListCommand.PAGE_SIZE + " at a time\n"
+            + "e.g., list 101-200\n"
             + "find KEYWORDS - Find tasks containing keywords\n"
             + "e.g., find book read\n"
             + "view DATE - Show schedule for a specific date\n"
-            + "e.g., view 2026-03-15\n\n"
+            + "e.g., view 2026-03-15\n"
+            + "view FROM TO - Show schedule from one date to another\n"
+            + "e.g., view 2026-03-15 2026-03-21\n"
+            + "agenda week|month - Show schedule for the coming week or month\n"
+            + "e.g., agenda week\n"
+            + "stats - Show counts of done, pending and overdue tasks\n\n"
             + "Managing Tasks:\n"
             + "mark INDEX - Mark task as done\n"
             + "e.g., mark 2\n"
             + "unmark INDEX - Mark task as not done\n"
             + "e.g., unmark 2\n"
             + "delete INDEX - Delete task\n"
-            + "e.g., delete 3\n\n"
+            + "e.g., delete 3\n"
+            + "mark, unmark and delete also take ranges, lists or all\n"
+            + "e.g., mark 1-500, delete 3,7,9-20, unmark all\n"
+            + "undo - Take back the last change\n"
+            + "redo - Make the last undone change again\n\n"
             + "Other Commands:\n"
             + "/help - Show this help message\n"
             + "bye - Exit Mintel\n\n"
@@ -42,9 +54,8 @@ public class HelpCommand extends Command {
             + "MMM d yyyy (e.g., Mar 15 2026)";
 
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage) throws IOException {
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage) throws IOException {
         assert mainWindow != null : "mainWindow cannot be null";
-        storage.saveTasks(tasks.getAllTasks());
         return HELP_MESSAGE;
     }
 
@@ -3,32 +3,84 @@ package mintel.logic.command;
 import java.io.IOException;
 
 import mintel.MainWindow;
+import mintel.exception.MintelException;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
  * ListCommand in the Mintel application.
+ * Shows one page of tasks at a time, so a long list is never rendered in full.
  */
 public class ListCommand extends Command {
+    public static final int PAGE_SIZE = 100;
+
+    private final int from;
+    private final int to;
+
+    /**
+     * Constructs a ListCommand from the user's input: "list", "list page N" or "list A-B".
+     * A range may span at most {@code PAGE_SIZE} tasks, like a page.
+     *
+     * @param inputList List of strings which contains the command given by the user but split by " ".
+     * @throws MintelException If the page number or range is not valid.
+     */
+    public ListCommand(String[] inputList) throws MintelException {
+        assert inputList != null : "Input list cannot be null";
+        assert inputList.length > 0 && inputList[0].equals("list") : "ListCommand should only handle list";
+
+        try {
+            if (inputList.length == 1) {
+                this.from = 0;
+                this.to = PAGE_SIZE;
+            } else if (inputList.length == 3 && inputList[1].equals("page")) {
+                int page = Integer.parseInt(inputList[2]);
+                if (page < 1 || page > Integer.MAX_VALUE / PAGE_SIZE) {
+                    throw new MintelException("Please provide a valid page number! Meow...");
+                }
+                this.from = (page - 1) * PAGE_SIZE;
+                this.to = page * PAGE_SIZE;
+            } else if (inputList.length == 2 && inputList[1].matches("\\d+-\\d+")) {
+                String[] bounds = inputList[1].split("-");
+                int first = Integer.parseInt(bounds[0]);
+                int last = Integer.parseInt(bounds[1]);
+                if (first < 1 || last < first) {
+                    throw new MintelException("Please provide a valid range of task numbers! Meow...");
+                }
+                if (last - first >= PAGE_SIZE) {
+                    throw new MintelException("Please list at most " + PAGE_SIZE + " tasks at a time! Meow...");
+                }
+                this.from = first - 1;
+                this.to = last;
+            } else {
+                throw new MintelException("Please use list, list page N or list A-B! Meow...");
+            }
+        } catch (NumberFormatException e) {
+            throw new MintelException("Please provide a valid page number! Meow...");
+        }
+    }
 
     /**
-     * Prints out each task in the task list.
+     * Prints out the requested page of the task list, with a hint when more tasks follow it.
      *
      * @param tasks   The task list to operate on.
      * @param mainWindow      The window interface for displaying messages.
      * @param storage The storage handler for saving tasks.
+     * @throws MintelException If the list has no task at the start of the page.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage) throws IOException {
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "mainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
 
-        String tasksListString = tasks.getListString();
+        String tasksListString = tasks.getListPage(from, to);
         assert tasksListString != null : "List result should not be null";
 
-        storage.saveTasks(tasks.getAllTasks());
-
+        if (tasks.hasTaskAt(to)) {
+            return tasksListString + "\nMeow~ There are more tasks! Enter 'list " + (to + 1) + "-"
+                    + ((long) to + PAGE_SIZE) + "' to see the next ones.";
+        }
         return tasksListString;
     }
 
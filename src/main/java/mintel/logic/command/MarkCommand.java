@@ -6,7 +6,8 @@ import mintel.MainWindow;
 import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
 
 /**
  * MarkCommand in the Mintel application.
@@ -46,11 +47,11 @@ public class MarkCommand extends Command {
      * @throws IOException     If there's an error saving tasks to file.
      */
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage)
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
             throws MintelException, java.io.IOException {
         assert tasks != null : "TaskList cannot be null";
         assert mainWindow != null : "MainWindow cannot be null";
-        assert storage != null : "Storage cannot be null";
+        assert storage != null : "Task store cannot be null";
         assert this.inputList != null : "Input list should be initialized";
 
         if (this.inputList.length <= 1) {
@@ -60,7 +61,7 @@ public class MarkCommand extends Command {
         try {
             int index = Integer.parseInt(inputList[1]) - 1;
             tasks.markTask(index, isMarkAsCompleted);
-            storage.saveTasks(tasks.getAllTasks());
+            storage.appendMutation(TaskMutation.mark(index, isMarkAsCompleted), tasks);
 
             String message = isMarkAsCompleted
                     ? "MEOWRiffic! I've marked this task as done:\n  "
@@ -0,0 +1,79 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+import mintel.MainWindow;
+import mintel.model.tasklist.TaskList;
+import mintel.model.tasklist.TaskStats;
+import mintel.storage.TaskStore;
+
+/**
+ * StatsCommand shows how many tasks there are of each type, how many are done or overdue,
+ * and how many deadlines are due each month.
+ */
+public class StatsCommand extends Command {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+
+    private final LocalDate today;
+
+    /**
+     * Constructs a StatsCommand that treats deadlines before today as overdue.
+     */
+    public StatsCommand() {
+        this(LocalDate.now());
+    }
+
+    /**
+     * Constructs a StatsCommand that treats deadlines before the given day as overdue.
+     *
+     * @param today The current day.
+     */
+    public StatsCommand(LocalDate today) {
+        assert today != null : "Today cannot be null";
+        this.today = today;
+    }
+
+    @Override
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage) throws IOException {
+        assert tasks != null : "TaskList cannot be null";
+
+        TaskStats stats = tasks.getStats(today);
+        if (stats.getTotalCount() == 0) {
+            return "Meow~ Your list is empty!";
+        }
+
+        StringBuilder sb = new StringBuilder("MEOWRiffic! Here are your task stats:\n");
+        sb.append("Total: ").append(stats.getTotalCount()).append(" (")
+                .append(stats.getDoneCount()).append(" done, ")
+                .append(stats.getTotalCount() - stats.getDoneCount()).append(" pending)\n");
+        appendType(sb, "Todos", stats, TaskStats.Type.TODO);
+        appendType(sb, "Deadlines", stats, TaskStats.Type.DEADLINE);
+        appendType(sb, "Events", stats, TaskStats.Type.EVENT);
+        sb.append("Overdue deadlines: ").append(stats.getOverdueCount()).append("\n");
+
+        if (!stats.getDeadlinesByMonth().isEmpty()) {
+            sb.append("Deadlines by month:\n");
+            for (Map.Entry<YearMonth, Integer> month : stats.getDeadlinesByMonth().entrySet()) {
+                sb.append(month.getKey().format(MONTH_FORMAT)).append(": ").append(month.getValue())
+                        .append(" (").append(stats.getDoneDeadlinesByMonth().getOrDefault(month.getKey(), 0))
+                        .append(" done)\n");
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    private static void appendType(StringBuilder sb, String label, TaskStats stats, TaskStats.Type type) {
+        sb.append(label).append(": ").append(stats.getCount(type))
+                .append(" (").append(stats.getDoneCount(type)).append(" done)\n");
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
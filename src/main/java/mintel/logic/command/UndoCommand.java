@@ -0,0 +1,54 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+
+import mintel.MainWindow;
+import mintel.exception.MintelException;
+import mintel.model.tasklist.TaskList;
+import mintel.model.tasklist.TaskSplice;
+import mintel.storage.TaskMutation;
+import mintel.storage.TaskStore;
+
+/**
+ * UndoCommand takes back the last change to the task list, or makes the last undone change again.
+ *
+ * <p>The undo or redo is journaled as the run of tasks it replaced, so that the records after it are
+ * replayed onto the list as it was after the undo, without saving the whole list.
+ */
+public class UndoCommand extends Command {
+    private final boolean isUndo;
+
+    /**
+     * Constructs an UndoCommand.
+     *
+     * @param isUndo {@code true} to undo the last change, {@code false} to redo the last undone change.
+     */
+    public UndoCommand(boolean isUndo) {
+        this.isUndo = isUndo;
+    }
+
+    @Override
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
+        assert tasks != null : "TaskList cannot be null";
+        assert storage != null : "Task store cannot be null";
+
+        String done;
+        TaskSplice change;
+        if (isUndo) {
+            change = tasks.undo();
+            done = "MEOWRiffic! I've undone your last change.";
+        } else {
+            change = tasks.redo();
+            done = "MEOWRiffic! I've redone your last undone change.";
+        }
+        storage.appendMutation(TaskMutation.splice(change), tasks);
+
+        return done + "\nNow you have " + tasks.size() + " tasks in the list.";
+    }
+
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+}
@@ -6,18 +6,20 @@ import mintel.MainWindow;
 import mintel.exception.EmptyDescriptionException;
 import mintel.exception.MintelException;
 import mintel.model.tasklist.TaskList;
-import mintel.storage.Storage;
+import mintel.storage.TaskStore;
 
 /**
- * ViewScheduleCommand displays all deadlines and events scheduled on a specific date.
+ * ViewScheduleCommand displays all deadlines and events scheduled on a specific date,
+ * or from one date to another grouped by day.
  */
 public class ViewScheduleCommand extends Command {
     private final String date;
+    private final String toDate;
 
     /**
-     * Constructs a ViewScheduleCommand with the specified date.
+     * Constructs a ViewScheduleCommand with the specified date or range of dates.
      *
-     * @param input The full user input (e.g., "view 2026-03-15")
+     * @param input The full user input (e.g., "view 2026-03-15" or "view 2026-03-15 2026-03-21")
      * @throws EmptyDescriptionException If no date is provided
      */
     public ViewScheduleCommand(String input) throws EmptyDescriptionException {
@@ -30,17 +32,26 @@ public class ViewScheduleCommand extends Command {
             throw new EmptyDescriptionException("view (date required)");
         }
 
-        this.date = parts[1].trim();
+        String[] dates = parts[1].trim().split("\\s+");
+        if (dates.length == 2) {
+            this.date = dates[0];
+            this.toDate = dates[1];
+        } else {
+            this.date = parts[1].trim();
+            this.toDate = null;
+        }
         assert !this.date.isEmpty() : "Date should not be empty";
     }
 
     @Override
-    public String execute(TaskList tasks, MainWindow mainWindow, Storage storage) throws MintelException, IOException {
+    public String execute(TaskList tasks, MainWindow mainWindow, TaskStore storage)
+            throws MintelException, IOException {
         assert tasks != null : "TaskList cannot be null";
         assert date != null : "Date must be set";
 
-        storage.saveTasks(tasks.getAllTasks());
-
+        if (toDate != null) {
+            return tasks.getScheduleBetween(date, toDate);
+        }
         return tasks.getScheduleByDate(date);
     }
 
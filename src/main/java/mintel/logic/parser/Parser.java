@@ -5,6 +5,9 @@ import mintel.exception.MintelException;
 import mintel.logic.command.AddDeadlineCommand;
 import mintel.logic.command.AddEventCommand;
 import mintel.logic.command.AddTodoCommand;
+import mintel.logic.command.AgendaCommand;
+import mintel.logic.command.BulkDeleteCommand;
+import mintel.logic.command.BulkMarkCommand;
 import mintel.logic.command.Command;
 import mintel.logic.command.DeleteCommand;
 import mintel.logic.command.ExitCommand;
@@ -12,6 +15,8 @@ import mintel.logic.command.FindCommand;
 import mintel.logic.command.HelpCommand;
 import mintel.logic.command.ListCommand;
 import mintel.logic.command.MarkCommand;
+import mintel.logic.command.StatsCommand;
+import mintel.logic.command.UndoCommand;
 import mintel.logic.command.ViewScheduleCommand;
 
 /**
@@ -32,12 +37,14 @@ public class Parser {
         assert inputList.length > 0 : "Input split resulted in empty array";
         assert inputList[0] != null : "First word of command should not be null";
 
-        if (input.equals("list")) {
-            return new ListCommand();
-        } else if (inputList[0].equals("mark")) {
-            return new MarkCommand(inputList, true);
-        } else if (inputList[0].equals("unmark")) {
-            return new MarkCommand(inputList, false);
+        if (inputList[0].equals("list")) {
+            return new ListCommand(inputList);
+        } else if (inputList[0].equals("mark") || inputList[0].equals("unmark")) {
+            boolean isMarkAsCompleted = inputList[0].equals("mark");
+            String selection = input.substring(inputList[0].length());
+            return TaskSelection.isSelection(selection)
+                    ? new BulkMarkCommand(selection, isMarkAsCompleted)
+                    : new MarkCommand(inputList, isMarkAsCompleted);
         } else if (input.startsWith("todo")) {
             return new AddTodoCommand(input);
         } else if (input.startsWith("event")) {
@@ -46,12 +53,21 @@ public class Parser {
             return new AddDeadlineCommand(input);
         } else if (input.equals("bye")) {
             return new ExitCommand();
-        } else if (input.startsWith("delete")) {
-            return new DeleteCommand(inputList);
+        } else if (inputList[0].equals("delete")) {
+            String selection = input.substring(inputList[0].length());
+            return TaskSelection.isSelection(selection)
+                    ? new BulkDeleteCommand(selection)
+                    : new DeleteCommand(inputList);
         } else if (input.startsWith("find")) {
             return new FindCommand(inputList, input);
         } else if (input.startsWith("view")) {
             return new ViewScheduleCommand(input);
+        } else if (inputList[0].equals("agenda")) {
+            return new AgendaCommand(inputList);
+        } else if (input.equals("stats")) {
+            return new StatsCommand();
+        } else if (input.equals("undo") || input.equals("redo")) {
+            return new UndoCommand(input.equals("undo"));
         } else if (input.equals("/help")) {
             return new HelpCommand();
         } else {
@@ -0,0 +1,93 @@
+package mintel.logic.parser;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.exception.OutOfRangeException;
+
+/**
+ * A set of task numbers given by the user, such as "3", "1-500", "3,7,9-20" or "all".
+ * Numbers are 1-based as displayed; {@link #resolve(int)} turns them into sorted 0-based indexes.
+ */
+public class TaskSelection {
+    private static final String ALL = "all";
+
+    private final boolean isAll;
+    private final List<int[]> ranges;
+
+    private TaskSelection(boolean isAll, List<int[]> ranges) {
+        this.isAll = isAll;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Parses a selection. Spaces around commas and dashes are ignored, so "3, 7" is the same as "3,7",
+     * but spaces between two numbers are rejected rather than joining them, so "1 2" is not task 12.
+     *
+     * @param spec The selection as typed by the user.
+     * @return The parsed selection.
+     * @throws MintelException If the selection is empty or not made of numbers, ranges and "all".
+     */
+    public static TaskSelection parse(String spec) throws MintelException {
+        assert spec != null : "Selection cannot be null";
+
+        String compact = spec.trim().replaceAll("\\s*([,-])\\s*", "$1");
+        if (compact.equals(ALL)) {
+            return new TaskSelection(true, List.of());
+        }
+
+        List<int[]> ranges = new ArrayList<>();
+        for (String part : compact.split(",", -1)) {
+            if (!part.matches("\\d{1,9}(-\\d{1,9})?")) {
+                throw new MintelException("Please provide task numbers like 3, 1-500, 3,7,9-20 or all! Meow...");
+            }
+            String[] bounds = part.split("-");
+            int first = Integer.parseInt(bounds[0]);
+            int last = bounds.length > 1 ? Integer.parseInt(bounds[1]) : first;
+            if (first < 1 || last < first) {
+                throw new MintelException("Please provide a valid range of task numbers! Meow...");
+            }
+            ranges.add(new int[] {first, last});
+        }
+        return new TaskSelection(false, ranges);
+    }
+
+    /**
+     * Returns whether the text is meant as a selection, that is "all" or anything with a comma or a dash.
+     * Other text is left to the single-task commands, which report their own errors.
+     *
+     * @param spec The text after the command word.
+     * @return true if the text should be parsed as a selection.
+     */
+    public static boolean isSelection(String spec) {
+        assert spec != null : "Selection cannot be null";
+
+        String trimmed = spec.trim();
+        return trimmed.equals(ALL) || trimmed.indexOf(',') >= 0 || trimmed.indexOf('-') >= 0;
+    }
+
+    /**
+     * Returns the selected tasks as sorted, distinct 0-based indexes into a list of the given size.
+     *
+     * @param size The number of tasks in the list.
+     * @return The indexes.
+     * @throws OutOfRangeException If a selected number is larger than the list.
+     */
+    public int[] resolve(int size) throws OutOfRangeException {
+        assert size >= 0 : "Size cannot be negative";
+
+        BitSet selected = new BitSet(size);
+        if (isAll) {
+            selected.set(0, size);
+        }
+        for (int[] range : ranges) {
+            if (range[1] > size) {
+                throw new OutOfRangeException();
+            }
+            selected.set(range[0] - 1, range[1]);
+        }
+        return selected.stream().toArray();
+    }
+}
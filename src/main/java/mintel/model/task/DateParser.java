@@ -0,0 +1,222 @@
+package mintel.model.task;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+import mintel.exception.InvalidDateFormatException;
+
+/**
+ * Parses the dates of deadlines and events, and formats them for display.
+ *
+ * <p>Both accepted formats, yyyy-MM-dd and MMM d yyyy, are recognised in a single pass over the text
+ * without creating formatters, and text that is not a valid date is reported by returning null rather than
+ * by throwing, so trying one format after another costs nothing. The day of the word format may have one
+ * or two digits, so the "MMM dd yyyy" display strings read back as the same date.
+ *
+ * <p>Display strings are kept in a small cache indexed by epoch day. Tasks tend to be due within a few
+ * years of each other, so most tasks share a cached string rather than formatting their own.
+ */
+public final class DateParser {
+    private static final String[] MONTH_NAMES = {
+        "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+    };
+    private static final int DISPLAY_CACHE_SIZE = 4096;
+    private static final int ISO_LENGTH = 10;
+
+    private static final DisplayEntry[] displayCache = new DisplayEntry[DISPLAY_CACHE_SIZE];
+
+    /**
+     * A cached display string with the day it belongs to.
+     * Entries are immutable, so a cache slot can be read and replaced by any thread without locking.
+     */
+    private static final class DisplayEntry {
+        private final long epochDay;
+        private final String text;
+
+        DisplayEntry(long epochDay, String text) {
+            this.epochDay = epochDay;
+            this.text = text;
+        }
+    }
+
+    private DateParser() {
+    }
+
+    /**
+     * Parses a date in yyyy-MM-dd or MMM d yyyy format, ignoring surrounding spaces and the case of the month.
+     *
+     * @param text The date, e.g. "2026-03-15", "Mar 15 2026" or "mar 5 2026".
+     * @return The date, or null if the text is not a valid date in either format.
+     */
+    public static LocalDate parseOrNull(CharSequence text) {
+        assert text != null : "Date text cannot be null";
+        return parseOrNull(text, 0, text.length());
+    }
+
+    /**
+     * Parses a date in yyyy-MM-dd or MMM d yyyy format from part of a longer text, without copying it.
+     *
+     * @param text  The text containing the date.
+     * @param start The index of the first character of the date.
+     * @param end   The index just past the last character of the date.
+     * @return The date, or null if that part of the text is not a valid date in either format.
+     */
+    public static LocalDate parseOrNull(CharSequence text, int start, int end) {
+        assert text != null : "Date text cannot be null";
+        assert 0 <= start && start <= end && end <= text.length() : "Invalid date range";
+
+        while (start < end && text.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        return isDigit(text.charAt(start)) ? parseIso(text, start, end) : parseWords(text, start, end);
+    }
+
+    /**
+     * Parses a date in yyyy-MM-dd or MMM d yyyy format.
+     *
+     * @param text The date.
+     * @return The date.
+     * @throws InvalidDateFormatException If the text is not a valid date in either format.
+     */
+    public static LocalDate parse(CharSequence text) throws InvalidDateFormatException {
+        LocalDate date = parseOrNull(text);
+        if (date == null) {
+            throw new InvalidDateFormatException("");
+        }
+        return date;
+    }
+
+    /**
+     * Returns a date in the "MMM dd yyyy" display format, e.g. "Mar 05 2026".
+     *
+     * @param date The date.
+     * @return The display string, shared with other tasks on the same day where possible.
+     */
+    public static String format(LocalDate date) {
+        assert date != null : "Date cannot be null";
+
+        long epochDay = date.toEpochDay();
+        int slot = (int) (epochDay & (DISPLAY_CACHE_SIZE - 1));
+        DisplayEntry entry = displayCache[slot];
+        if (entry == null || entry.epochDay != epochDay) {
+            entry = new DisplayEntry(epochDay, formatUncached(date));
+            displayCache[slot] = entry;
+        }
+        return entry.text;
+    }
+
+    private static String formatUncached(LocalDate date) {
+        StringBuilder sb = new StringBuilder(11);
+        sb.append(MONTH_NAMES[date.getMonthValue() - 1]).append(' ');
+        if (date.getDayOfMonth() < 10) {
+            sb.append('0');
+        }
+        sb.append(date.getDayOfMonth()).append(' ');
+
+        String year = Integer.toString(date.getYear());
+        for (int digits = year.length(); digits < 4; digits++) {
+            sb.append('0');
+        }
+        return sb.append(year).toString();
+    }
+
+    /**
+     * Parses yyyy-MM-dd from the text between start and end.
+     */
+    private static LocalDate parseIso(CharSequence text, int start, int end) {
+        if (end - start != ISO_LENGTH || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-') {
+            return null;
+        }
+        int year = readNumber(text, start, start + 4);
+        int month = readNumber(text, start + 5, start + 7);
+        int day = readNumber(text, start + 8, end);
+        return toDate(year, month, day);
+    }
+
+    /**
+     * Parses MMM d yyyy from the text between start and end, with one or more spaces between the parts.
+     */
+    private static LocalDate parseWords(CharSequence text, int start, int end) {
+        if (end - start < 3) {
+            return null;
+        }
+        int month = readMonth(text, start);
+        int position = start + 3;
+
+        int dayStart = skipSpaces(text, position, end);
+        int dayEnd = dayStart;
+        while (dayEnd < end && isDigit(text.charAt(dayEnd))) {
+            dayEnd++;
+        }
+        if (dayStart == position || dayEnd == dayStart || dayEnd - dayStart > 2) {
+            return null;
+        }
+
+        int yearStart = skipSpaces(text, dayEnd, end);
+        if (yearStart == dayEnd || end - yearStart != 4) {
+            return null;
+        }
+        return toDate(readNumber(text, yearStart, end), month, readNumber(text, dayStart, dayEnd));
+    }
+
+    /**
+     * Returns the month named by the three letters at the position, ignoring case, or -1 if there is none.
+     */
+    private static int readMonth(CharSequence text, int position) {
+        for (int month = 0; month < MONTH_NAMES.length; month++) {
+            String name = MONTH_NAMES[month];
+            if (Character.toLowerCase(text.charAt(position)) == Character.toLowerCase(name.charAt(0))
+                    && Character.toLowerCase(text.charAt(position + 1)) == name.charAt(1)
+                    && Character.toLowerCase(text.charAt(position + 2)) == name.charAt(2)) {
+                return month + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number written in decimal digits between start and end, or -1 if a character is not a digit.
+     */
+    private static int readNumber(CharSequence text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int skipSpaces(CharSequence text, int position, int end) {
+        while (position < end && text.charAt(position) == ' ') {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns the date, or null if the year, month or day is out of range, e.g. Feb 29 in a common year.
+     */
+    private static LocalDate toDate(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+}
@@ -1,11 +1,6 @@
 package mintel.model.task;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.util.Locale;
 
 import mintel.exception.InvalidDateFormatException;
 
@@ -27,93 +22,37 @@ public class Deadline extends Task {
     public Deadline(String description, String by) throws InvalidDateFormatException {
         super(description);
         assert description != null : "Deadline description cannot be null";
-        this.byDate = parseDate(by.trim());
-        DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
-        this.displayBy = this.byDate.format(displayFormatter);
+        this.byDate = DateParser.parse(by);
+        this.displayBy = DateParser.format(this.byDate);
     }
 
     /**
-     * Parses a date string into a LocalDate object.
-     * Uses SMART mode for flexibility but validates against invalid dates.
+     * Constructs a Deadline task from an already parsed due date.
+     * The display string is only formatted when it is first needed.
      *
-     * @param dateStr The date string to parse.
-     * @return Parsed LocalDate object.
-     * @throws InvalidDateFormatException If parsing fails or date is invalid.
+     * @param description The description of the deadline.
+     * @param byDate      The due date.
      */
-    private LocalDate parseDate(String dateStr) throws InvalidDateFormatException {
-        try {
-            DateTimeFormatter mmmSmart = new DateTimeFormatterBuilder()
-                    .parseCaseInsensitive()
-                    .appendPattern("MMM d yyyy")
-                    .toFormatter(Locale.ENGLISH)
-                    .withResolverStyle(ResolverStyle.SMART);
-
-            LocalDate date = LocalDate.parse(dateStr, mmmSmart);
-
-            String roundTrip = date.format(DateTimeFormatter.ofPattern("MMM d yyyy"));
-            if (!roundTrip.equalsIgnoreCase(dateStr)
-                    && !roundTrip.replace("  ", " ").equals(dateStr)) {
-                throw new InvalidDateFormatException("Invalid date: " + dateStr
-                        + " does not exist. Did you mean " + roundTrip + "?");
-            }
-
-            return date;
-
-        } catch (DateTimeParseException e1) {
-            try {
-                DateTimeFormatter yyyySmart = DateTimeFormatter.ofPattern("yyyy-M-d")
-                        .withResolverStyle(ResolverStyle.SMART);
-
-                LocalDate date = LocalDate.parse(dateStr, yyyySmart);
-
-                String roundTrip = date.toString();
-                if (!roundTrip.equals(dateStr)) {
-                    String padded = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                    if (!padded.equals(dateStr)) {
-                        throw new InvalidDateFormatException("Invalid date: " + dateStr
-                                + " does not exist. Did you mean " + roundTrip + "?");
-                    }
-                }
-
-                return date;
-
-            } catch (DateTimeParseException e2) {
-                return parseDateStrict(dateStr);
-            }
-        }
+    public Deadline(String description, LocalDate byDate) {
+        super(description);
+        assert byDate != null : "Deadline date cannot be null";
+        this.byDate = byDate;
     }
 
     /**
-     * Fallback method using strict formats.
+     * Constructs a copy of another Deadline task.
+     *
+     * @param other The deadline to copy.
      */
-    private LocalDate parseDateStrict(String dateStr) throws InvalidDateFormatException {
-        DateTimeFormatter mmmStrict = new DateTimeFormatterBuilder()
-                .parseCaseInsensitive()
-                .appendPattern("MMM dd yyyy")
-                .toFormatter(Locale.ENGLISH)
-                .withResolverStyle(ResolverStyle.STRICT);
-
-        DateTimeFormatter yyyyStrict = DateTimeFormatter.ofPattern("yyyy-MM-dd")
-                .withResolverStyle(ResolverStyle.STRICT);
-
-        try {
-            return LocalDate.parse(dateStr, mmmStrict);
-        } catch (DateTimeParseException e1) {
-            try {
-                LocalDate date = LocalDate.parse(dateStr, yyyyStrict);
-
-                String roundTrip = date.toString();
-                if (!roundTrip.equals(dateStr)) {
-                    throw new InvalidDateFormatException("Invalid date: " + dateStr
-                            + " does not exist. Did you mean " + roundTrip + "?");
-                }
-                return date;
+    private Deadline(Deadline other) {
+        super(other);
+        this.byDate = other.byDate;
+        this.displayBy = other.displayBy;
+    }
 
-            } catch (DateTimeParseException e2) {
-                throw new InvalidDateFormatException("Invalid date format. "
-                        + "Use yyyy-MM-dd or MMM d yyyy (e.g., 2026-03-15 or Mar 15 2026)");
-            }
-        }
+    @Override
+    public Deadline copy() {
+        return new Deadline(this);
     }
 
     /**
@@ -125,6 +64,16 @@ public class Deadline extends Task {
         return this.byDate;
     }
 
+    /**
+     * Returns the due date formatted for display, formatting it on first use.
+     */
+    private String getDisplayBy() {
+        if (this.displayBy == null) {
+            this.displayBy = DateParser.format(this.byDate);
+        }
+        return this.displayBy;
+    }
+
     /**
      * Returns a string representation of the deadline for display.
      * Format: [D][status] description (by: formatted date)
@@ -133,7 +82,7 @@ public class Deadline extends Task {
      */
     @Override
     public String toString() {
-        return "[D]" + super.toString() + " (by: " + this.displayBy + ")";
+        return "[D]" + super.toString() + " (by: " + getDisplayBy() + ")";
     }
 
     /**
@@ -144,6 +93,6 @@ public class Deadline extends Task {
      */
     @Override
     public String toStringFile() {
-        return "D | " + super.getStatusIconFile() + " | " + super.name + " | " + this.displayBy;
+        return "D | " + super.getStatusIconFile() + " | " + super.name + " | " + getDisplayBy();
     }
 }
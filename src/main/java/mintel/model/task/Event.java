@@ -1,10 +1,6 @@
 package mintel.model.task;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.util.Locale;
 
 import mintel.exception.DateLogicException;
 import mintel.exception.InvalidDateFormatException;
@@ -30,40 +26,50 @@ public class Event extends Task {
     public Event(String name, String from, String to) throws InvalidDateFormatException, DateLogicException {
         super(name);
         assert name != null : "Event description cannot be null";
-        this.from = parseDate(from.trim());
-        this.to = parseDate(to.trim());
-        DateTimeFormatter displayFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
-        this.displayFrom = this.from.format(displayFormatter);
-        this.displayTo = this.to.format(displayFormatter);
+        this.from = DateParser.parse(from);
+        this.to = DateParser.parse(to);
+        this.displayFrom = DateParser.format(this.from);
+        this.displayTo = DateParser.format(this.to);
         if (!this.from.isBefore(this.to)) {
             throw new DateLogicException("");
         }
     }
 
     /**
-     * Parses a date string in either "MMM dd yyyy" or "yyyy-MM-dd" format.
+     * Constructs an Event task from already parsed dates.
+     * The display strings are only formatted when they are first needed.
      *
-     * @param dateStr Date string to parse (e.g., "Mar 15 2026" or "2026-03-15")
-     * @return LocalDate object representing the parsed date
-     * @throws InvalidDateFormatException if the date format is not supported
+     * @param name The description of the event.
+     * @param from The starting date.
+     * @param to   The ending date.
+     * @throws DateLogicException If the starting date is not before the ending date.
      */
-    private LocalDate parseDate(String dateStr) throws InvalidDateFormatException {
-        DateTimeFormatter mmmFormatter = new DateTimeFormatterBuilder()
-                .parseCaseInsensitive()
-                .appendPattern("MMM dd yyyy")
-                .toFormatter(Locale.ENGLISH);
+    public Event(String name, LocalDate from, LocalDate to) throws DateLogicException {
+        super(name);
+        assert from != null && to != null : "Event dates cannot be null";
+        this.from = from;
+        this.to = to;
+        if (!this.from.isBefore(this.to)) {
+            throw new DateLogicException("");
+        }
+    }
 
-        DateTimeFormatter yyyyFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    /**
+     * Constructs a copy of another Event task.
+     *
+     * @param other The event to copy.
+     */
+    private Event(Event other) {
+        super(other);
+        this.from = other.from;
+        this.to = other.to;
+        this.displayFrom = other.displayFrom;
+        this.displayTo = other.displayTo;
+    }
 
-        try {
-            return LocalDate.parse(dateStr, mmmFormatter);
-        } catch (DateTimeParseException e1) {
-            try {
-                return LocalDate.parse(dateStr, yyyyFormatter);
-            } catch (DateTimeParseException e2) {
-                throw new InvalidDateFormatException("");
-            }
-        }
+    @Override
+    public Event copy() {
+        return new Event(this);
     }
 
     /**
@@ -84,6 +90,26 @@ public class Event extends Task {
         return this.to;
     }
 
+    /**
+     * Returns the starting date formatted for display, formatting it on first use.
+     */
+    private String getDisplayFrom() {
+        if (this.displayFrom == null) {
+            this.displayFrom = DateParser.format(this.from);
+        }
+        return this.displayFrom;
+    }
+
+    /**
+     * Returns the ending date formatted for display, formatting it on first use.
+     */
+    private String getDisplayTo() {
+        if (this.displayTo == null) {
+            this.displayTo = DateParser.format(this.to);
+        }
+        return this.displayTo;
+    }
+
     /**
      * Returns a string representation of the event for display.
      * Format: [E][status] description (by: formatted date)
@@ -92,7 +118,7 @@ public class Event extends Task {
      */
     @Override
     public String toString() {
-        return "[E]" + super.toString() + " (from: " + this.displayFrom + " to: " + this.displayTo + ")";
+        return "[E]" + super.toString() + " (from: " + getDisplayFrom() + " to: " + getDisplayTo() + ")";
     }
 
     /**
@@ -104,6 +130,6 @@ public class Event extends Task {
     @Override
     public String toStringFile() {
         return "E | " + super.getStatusIconFile() + " | " + super.name + " | From: "
-                + this.displayFrom + " | To: " + this.displayTo;
+                + getDisplayFrom() + " | To: " + getDisplayTo();
     }
 }
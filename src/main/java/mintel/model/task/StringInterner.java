@@ -0,0 +1,95 @@
+package mintel.model.task;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Shares one String instance between tasks with the same name.
+ *
+ * <p>Task files tend to repeat a few names, such as "standup" or "weekly report", many times over. Names
+ * are looked up in a table of a fixed number of slots indexed by hash, so a name read again from a file
+ * is not even copied out of the line when it is already in the table. The table holds its strings through
+ * weak references, so a name no task uses any more can still be collected, and when two names share a
+ * slot the newer one replaces the older, so the table never grows.
+ *
+ * <p>Date display strings do not need interning here, as {@link DateParser#format} already shares them.
+ */
+public final class StringInterner {
+    private static final int TABLE_SIZE = 1 << 14;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final WeakReference<String>[] table = new WeakReference[TABLE_SIZE];
+
+    private StringInterner() {
+    }
+
+    /**
+     * Returns the shared instance of a string, adding the string to the table if it has none.
+     *
+     * @param text The string.
+     * @return A string equal to the text, shared with other callers where possible.
+     */
+    public static String intern(String text) {
+        assert text != null : "Text to intern cannot be null";
+
+        int slot = slotOf(text.hashCode());
+        String shared = get(slot);
+        if (text.equals(shared)) {
+            return shared;
+        }
+        table[slot] = new WeakReference<>(text);
+        return text;
+    }
+
+    /**
+     * Returns the shared instance of part of a longer text, copying that part out only if it has none.
+     *
+     * @param text  The text containing the string.
+     * @param start The index of the first character of the string.
+     * @param end   The index just past the last character of the string.
+     * @return A string equal to that part of the text, shared with other callers where possible.
+     */
+    public static String intern(CharSequence text, int start, int end) {
+        assert text != null : "Text to intern cannot be null";
+        assert 0 <= start && start <= end && end <= text.length() : "Invalid text range";
+
+        // The same hash as String.hashCode, so both methods find the same slot
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        int slot = slotOf(hash);
+        String shared = get(slot);
+        if (shared != null && regionEquals(shared, text, start, end)) {
+            return shared;
+        }
+
+        String copy = text.subSequence(start, end).toString();
+        table[slot] = new WeakReference<>(copy);
+        return copy;
+    }
+
+    /**
+     * Returns the string in a slot, or null if the slot is empty or its string has been collected.
+     * A slot only ever holds an immutable reference, so it can be read and replaced by any thread.
+     */
+    private static String get(int slot) {
+        WeakReference<String> reference = table[slot];
+        return reference == null ? null : reference.get();
+    }
+
+    private static int slotOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (TABLE_SIZE - 1);
+    }
+
+    private static boolean regionEquals(String shared, CharSequence text, int start, int end) {
+        if (shared.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < shared.length(); i++) {
+            if (shared.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -14,6 +14,7 @@ public abstract class Task {
 
     protected String name;
     protected boolean isDone;
+    private long id;
 
     /**
      * Constructs a Task with the given description.
@@ -33,6 +34,46 @@ public abstract class Task {
         assert this.name.length() > 0 : "Trimmed name should not be empty";
     }
 
+    /**
+     * Constructs a Task with the same description and status as another task.
+     *
+     * @param other The task to copy.
+     */
+    protected Task(Task other) {
+        assert other != null : "Task to copy cannot be null";
+
+        this.name = other.name;
+        this.isDone = other.isDone;
+        this.id = other.id;
+    }
+
+    /**
+     * Returns an independent copy of this task.
+     * Changes to the copy's status do not affect this task and vice versa.
+     *
+     * @return A copy of the task.
+     */
+    public abstract Task copy();
+
+    /**
+     * Returns the task's ID, which stays the same while other tasks are added or deleted.
+     *
+     * @return The ID, or 0 if the task has not been given one yet.
+     */
+    public long getId() {
+        return this.id;
+    }
+
+    /**
+     * Sets the task's ID. IDs are handed out by the task list and restored by storage.
+     *
+     * @param id The positive ID.
+     */
+    public void setId(long id) {
+        assert id > 0 : "Task ID must be positive: " + id;
+        this.id = id;
+    }
+
     /**
      * @return description of the task.
      */
@@ -119,7 +160,23 @@ public abstract class Task {
      */
     public static Task fromFileString(String fileString) throws MintelException {
         validateFileString(fileString);
-        String[] parts = parseAndTrimParts(fileString);
+        return fromParts(parseAndTrimParts(fileString));
+    }
+
+    /**
+     * Creates a Task object from the already split and trimmed fields of a file string.
+     *
+     * @param parts The fields of the file string, e.g. {"D", "0", "homework", "Mar 15 2026"}.
+     * @return A Task object corresponding to the fields.
+     * @throws MintelException If the fields do not describe a valid task.
+     */
+    private static Task fromParts(String[] parts) throws MintelException {
+        assert parts != null : "Parts cannot be null";
+
+        if (parts.length < TODO_EXPECTED_PARTS) {
+            throw new MintelException("Invalid task format in file! Meow...");
+        }
+
         String type = parts[0];
         boolean isDone = parseStatus(parts[1]);
         String description = parts[2];
@@ -19,6 +19,20 @@ public class Todo extends Task {
         assert name != null : "Todo description cannot be null";
     }
 
+    /**
+     * Constructs a copy of another Todo task.
+     *
+     * @param other The todo to copy.
+     */
+    private Todo(Todo other) {
+        super(other);
+    }
+
+    @Override
+    public Todo copy() {
+        return new Todo(this);
+    }
+
     /**
      * Returns a string representation of the todo for display.
      * Format: [T][status] description
@@ -0,0 +1,282 @@
+package mintel.model.tasklist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+import mintel.exception.DateLogicException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Holds tasks column by column instead of as objects, for lists of millions of tasks.
+ *
+ * <p>Each task takes one entry in each column: its type, its done flag in a bit set, its ID, the epoch
+ * days of its due date or start and end dates, and the position of its name in a shared UTF-8 arena.
+ * That is about 25 bytes plus the name, against well over 100 for the objects of a deadline or event.
+ *
+ * <p>{@link #get(int)} builds a new Task from the columns every time it is called. The Task is a copy:
+ * changing it does not change the store, and {@link #set(int, Task)} or {@link #setDone(int, boolean)}
+ * must be used to do that. A TaskList reads through a CompactTaskStore until it first needs to hold on
+ * to its tasks, to mark them or to index them, and then copies them into ordinary task objects.
+ */
+public class CompactTaskStore extends AbstractList<Task> implements RandomAccess {
+    private static final byte TODO = 0;
+    private static final byte DEADLINE = 1;
+    private static final byte EVENT = 2;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_ARENA_CAPACITY = 256;
+
+    private byte[] types;
+    private final BitSet done = new BitSet();
+    private long[] ids;
+    private int[] firstDays;
+    private int[] secondDays;
+    private int[] nameStarts;
+    private int[] nameLengths;
+    private byte[] names;
+    private int namesUsed;
+    private int namesWasted;
+    private int size;
+
+    /**
+     * Constructs an empty CompactTaskStore.
+     */
+    public CompactTaskStore() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty CompactTaskStore with room for the given number of tasks.
+     *
+     * @param capacity The number of tasks to allocate columns for.
+     */
+    public CompactTaskStore(int capacity) {
+        assert capacity >= 0 : "Capacity cannot be negative";
+
+        int columnCapacity = Math.max(MIN_CAPACITY, capacity);
+        this.types = new byte[columnCapacity];
+        this.ids = new long[columnCapacity];
+        this.firstDays = new int[columnCapacity];
+        this.secondDays = new int[columnCapacity];
+        this.nameStarts = new int[columnCapacity];
+        this.nameLengths = new int[columnCapacity];
+        this.names = new byte[MIN_ARENA_CAPACITY];
+    }
+
+    /**
+     * Creates a store holding the given tasks, which are read once and not kept.
+     *
+     * @param tasks The tasks.
+     * @return The store.
+     */
+    public static CompactTaskStore of(List<Task> tasks) {
+        assert tasks != null : "Tasks cannot be null";
+
+        CompactTaskStore store = new CompactTaskStore(tasks.size());
+        store.addAll(tasks);
+        return store;
+    }
+
+    /**
+     * Returns a new Task built from the columns of the task at the index.
+     * Changing the returned task does not change the store.
+     */
+    @Override
+    public Task get(int index) {
+        checkIndex(index);
+
+        String name = new String(names, nameStarts[index], nameLengths[index], StandardCharsets.UTF_8);
+        Task task;
+        switch (types[index]) {
+        case DEADLINE:
+            task = new Deadline(name, LocalDate.ofEpochDay(firstDays[index]));
+            break;
+        case EVENT:
+            try {
+                task = new Event(name, LocalDate.ofEpochDay(firstDays[index]),
+                        LocalDate.ofEpochDay(secondDays[index]));
+            } catch (DateLogicException e) {
+                throw new AssertionError("Stored event dates are always in order", e);
+            }
+            break;
+        default:
+            task = new Todo(name);
+            break;
+        }
+
+        if (ids[index] > 0) {
+            task.setId(ids[index]);
+        }
+        if (done.get(index)) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Task task) {
+        assert task != null : "Task cannot be null";
+
+        if (size == types.length) {
+            grow();
+        }
+        size++;
+        write(size - 1, task);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Replaces the task at the index by storing the columns of the given task.
+     *
+     * @return A task built from the columns that were replaced.
+     */
+    @Override
+    public Task set(int index, Task task) {
+        assert task != null : "Task cannot be null";
+
+        Task previous = get(index);
+        namesWasted += nameLengths[index];
+        write(index, task);
+        compactNamesIfWasteful();
+        return previous;
+    }
+
+    /**
+     * Removes the task at the index, moving every later task one place forward.
+     *
+     * @return A task built from the columns that were removed.
+     */
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        int moved = size - index - 1;
+        System.arraycopy(types, index + 1, types, index, moved);
+        System.arraycopy(ids, index + 1, ids, index, moved);
+        System.arraycopy(firstDays, index + 1, firstDays, index, moved);
+        System.arraycopy(secondDays, index + 1, secondDays, index, moved);
+        System.arraycopy(nameStarts, index + 1, nameStarts, index, moved);
+        namesWasted += nameLengths[index];
+        System.arraycopy(nameLengths, index + 1, nameLengths, index, moved);
+        for (int i = index; i < size - 1; i++) {
+            done.set(i, done.get(i + 1));
+        }
+        size--;
+        done.clear(size);
+        modCount++;
+        compactNamesIfWasteful();
+        return removed;
+    }
+
+    /**
+     * Returns whether the task at the index is done, without building the task.
+     *
+     * @param index The index.
+     * @return true if the task is done.
+     */
+    public boolean isDone(int index) {
+        checkIndex(index);
+        return done.get(index);
+    }
+
+    /**
+     * Marks or unmarks the task at the index, without building the task.
+     *
+     * @param index  The index.
+     * @param isDone Whether the task is done.
+     */
+    public void setDone(int index, boolean isDone) {
+        checkIndex(index);
+        done.set(index, isDone);
+    }
+
+    /**
+     * Returns the number of bytes held by the columns and the name arena, including unused capacity.
+     *
+     * @return The size of the arrays in bytes, leaving out object headers.
+     */
+    public long getFootprintBytes() {
+        return types.length * (long) (Byte.BYTES + Long.BYTES + 4 * Integer.BYTES) + done.size() / Byte.SIZE
+                + names.length;
+    }
+
+    /**
+     * Stores the columns of a task at an index within the size.
+     */
+    private void write(int index, Task task) {
+        if (task instanceof Deadline) {
+            types[index] = DEADLINE;
+            firstDays[index] = Math.toIntExact(((Deadline) task).getByDate().toEpochDay());
+            secondDays[index] = 0;
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            types[index] = EVENT;
+            firstDays[index] = Math.toIntExact(event.getFromDate().toEpochDay());
+            secondDays[index] = Math.toIntExact(event.getToDate().toEpochDay());
+        } else {
+            types[index] = TODO;
+            firstDays[index] = 0;
+            secondDays[index] = 0;
+        }
+        ids[index] = task.getId();
+        done.set(index, task.getIsDone());
+
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        if (namesUsed + name.length > names.length) {
+            names = Arrays.copyOf(names, Math.max(names.length * 2, namesUsed + name.length));
+        }
+        System.arraycopy(name, 0, names, namesUsed, name.length);
+        nameStarts[index] = namesUsed;
+        nameLengths[index] = name.length;
+        namesUsed += name.length;
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        firstDays = Arrays.copyOf(firstDays, capacity);
+        secondDays = Arrays.copyOf(secondDays, capacity);
+        nameStarts = Arrays.copyOf(nameStarts, capacity);
+        nameLengths = Arrays.copyOf(nameLengths, capacity);
+    }
+
+    /**
+     * Copies the names still in use to a new arena once most of the arena holds the names of replaced
+     * and removed tasks.
+     */
+    private void compactNamesIfWasteful() {
+        if (namesWasted <= MIN_ARENA_CAPACITY || namesWasted <= namesUsed / 2) {
+            return;
+        }
+
+        byte[] compacted = new byte[Math.max(MIN_ARENA_CAPACITY, (namesUsed - namesWasted) * 2)];
+        int used = 0;
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(names, nameStarts[i], compacted, used, nameLengths[i]);
+            nameStarts[i] = used;
+            used += nameLengths[i];
+        }
+        names = compacted;
+        namesUsed = used;
+        namesWasted = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
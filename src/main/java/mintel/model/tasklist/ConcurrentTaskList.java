@@ -0,0 +1,351 @@
+package mintel.model.tasklist;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+import mintel.exception.DataValidationException;
+import mintel.exception.InvalidDateFormatException;
+import mintel.exception.MintelException;
+import mintel.exception.OutOfRangeException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+
+/**
+ * A TaskList that can be read from any thread while another thread changes it.
+ *
+ * <p>Changes are applied one at a time under a lock and then published as a new immutable
+ * {@link TaskListSnapshot}. Every read, including list, find, view and the background saver, works on
+ * the latest published snapshot without taking the lock, so readers never wait for writers and writers
+ * never wait for readers. A reader sees all of a change or none of it.
+ *
+ * <p>The first snapshot is only published when a change is made or a read needs the whole list, such
+ * as find or the saver. Until then, reads of single tasks and pages go through the list's own tasks
+ * under the lock, so a lazily loaded list is decoded no further than those reads go. While the undo
+ * history is recording, the snapshot is the history's current version itself, so the tasks are held
+ * once by the list and once by the two of them together.
+ *
+ * <p>Tasks returned by reads are copies and must not be changed. find and view scan the snapshot rather
+ * than the name and date indexes, which only the writer may touch. Stats are the exception: they come
+ * from counters that only the writer updates, so reading them waits for the lock, which is held briefly.
+ */
+public class ConcurrentTaskList extends TaskList {
+    private final Object writeLock = new Object();
+    private final ParallelQueryExecutor queryExecutor =
+            new ParallelQueryExecutor(ParallelQueryExecutor.DEFAULT_THRESHOLD);
+    private volatile TaskListSnapshot snapshot;
+
+    /**
+     * A read of a list of tasks, which may be a snapshot or the list's own tasks.
+     */
+    @FunctionalInterface
+    private interface TaskRead<T, E extends Exception> {
+        T apply(List<Task> tasks) throws E;
+    }
+
+    /**
+     * Constructs an empty ConcurrentTaskList.
+     */
+    public ConcurrentTaskList() {
+        super();
+    }
+
+    /**
+     * Constructs a ConcurrentTaskList with existing tasks.
+     * The tasks are read through as they are, and copied only when the first snapshot is published.
+     *
+     * @param tasks Initial list of tasks.
+     */
+    public ConcurrentTaskList(List<Task> tasks) {
+        super(tasks);
+    }
+
+    @Override
+    public void add(Task task) throws DataValidationException {
+        synchronized (writeLock) {
+            super.add(task);
+            publish(current -> current.withAdded(task, super.getVersion()));
+        }
+    }
+
+    @Override
+    public Task remove(int index) throws MintelException {
+        synchronized (writeLock) {
+            Task removedTask = super.remove(index);
+            publish(current -> current.withRemoved(index, super.getVersion()));
+            return removedTask;
+        }
+    }
+
+    @Override
+    public List<Task> removeTasks(int[] indexes) throws MintelException {
+        synchronized (writeLock) {
+            List<Task> removedTasks = super.removeTasks(indexes);
+            publish(current -> current.withRemovedAll(indexes, super.getVersion()));
+            return removedTasks;
+        }
+    }
+
+    @Override
+    public void markTask(int index, boolean isDone) throws MintelException {
+        synchronized (writeLock) {
+            super.markTask(index, isDone);
+            publish(current -> current.withReplaced(index, super.getAllTasks().get(index), super.getVersion()));
+        }
+    }
+
+    @Override
+    public void markTasks(int[] indexes, boolean isDone) throws MintelException {
+        synchronized (writeLock) {
+            super.markTasks(indexes, isDone);
+            publish(current -> {
+                List<Task> markedTasks = new ArrayList<>(indexes.length);
+                for (int index : indexes) {
+                    markedTasks.add(super.getAllTasks().get(index));
+                }
+                return current.withReplacedAll(indexes, markedTasks, super.getVersion());
+            });
+        }
+    }
+
+    @Override
+    public TaskSplice undo() throws MintelException {
+        synchronized (writeLock) {
+            return super.undo();
+        }
+    }
+
+    @Override
+    public TaskSplice redo() throws MintelException {
+        synchronized (writeLock) {
+            return super.redo();
+        }
+    }
+
+    /**
+     * Restores a version from the history and publishes that same version as the snapshot.
+     * Called by undo and redo while they hold the write lock.
+     */
+    @Override
+    void restore(PersistentTaskVector state) {
+        super.restore(state);
+        snapshot = new TaskListSnapshot(state, super.getVersion());
+    }
+
+    @Override
+    public void setHistoryLimit(long maxBytes) {
+        synchronized (writeLock) {
+            super.setHistoryLimit(maxBytes);
+        }
+    }
+
+    @Override
+    public Task get(int index) throws MintelException {
+        return read(tasks -> {
+            Task task = taskAt(tasks, index);
+            // Only a snapshot's tasks are never changed, so the list's own are handed out as copies
+            return tasks instanceof TaskListSnapshot ? task : task.copy();
+        });
+    }
+
+    @Override
+    public Task getById(long id) throws MintelException {
+        for (Task task : published()) {
+            if (task.getId() == id) {
+                return task;
+            }
+        }
+        throw new MintelException("There is no task with ID " + id + "! Meow...");
+    }
+
+    @Override
+    public int indexOfId(long id) {
+        TaskListSnapshot current = published();
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i).getId() == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public long getVersion() {
+        TaskListSnapshot current = snapshot;
+        if (current != null) {
+            return current.getVersion();
+        }
+        synchronized (writeLock) {
+            return super.getVersion();
+        }
+    }
+
+    @Override
+    public int size() {
+        return read(List::size);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return read(List::isEmpty);
+    }
+
+    /**
+     * Returns the latest published snapshot of the tasks, which stays unchanged as the list changes.
+     *
+     * @return An immutable {@link TaskListSnapshot} of the tasks.
+     */
+    @Override
+    public List<Task> getAllTasks() {
+        return published();
+    }
+
+    @Override
+    public String getListString() {
+        return read(tasks -> formatList(tasks));
+    }
+
+    @Override
+    public String getListPage(int from, int to) throws OutOfRangeException {
+        return read(tasks -> formatListPage(tasks, from, to));
+    }
+
+    @Override
+    public int appendTasks(Appendable out, int from, int to) throws IOException {
+        return read(tasks -> appendTaskLines(tasks, out, from, to));
+    }
+
+    @Override
+    public boolean hasTaskAt(int index) {
+        return read(tasks -> isIndexIn(tasks, index));
+    }
+
+    @Override
+    public String getFilteredTasks(String... keywords) {
+        assert keywords != null : "Keywords array cannot be null";
+
+        if (keywords.length == 0) {
+            return "";
+        }
+
+        String[] lowerKeywords = new String[keywords.length];
+        for (int i = 0; i < keywords.length; i++) {
+            lowerKeywords[i] = keywords[i].toLowerCase();
+        }
+        return formatFound(queryExecutor.map(published(), task -> {
+            String name = task.getName().toLowerCase();
+            for (String keyword : lowerKeywords) {
+                if (!name.contains(keyword)) {
+                    return null;
+                }
+            }
+            return task.toString();
+        }));
+    }
+
+    @Override
+    public String getScheduleByDate(String date) throws InvalidDateFormatException {
+        assert date != null : "Date cannot be null";
+        assert !date.trim().isEmpty() : "Date cannot be empty";
+
+        LocalDate targetDate = parseScheduleDate(date);
+        return formatSchedule(date,
+                queryExecutor.map(published(), task -> isOn(task, targetDate) ? task.toString() : null));
+    }
+
+    @Override
+    public String getScheduleBetween(LocalDate from, LocalDate to) throws MintelException {
+        checkScheduleRange(from, to);
+
+        NavigableMap<LocalDate, List<Task>> tasksByDay = new TreeMap<>();
+        for (Task task : published()) {
+            if (task instanceof Deadline) {
+                LocalDate day = ((Deadline) task).getByDate();
+                if (!day.isBefore(from) && !day.isAfter(to)) {
+                    tasksByDay.computeIfAbsent(day, key -> new ArrayList<>()).add(task);
+                }
+            } else if (task instanceof Event) {
+                Event event = (Event) task;
+                LocalDate last = event.getToDate().isAfter(to) ? to : event.getToDate();
+                for (LocalDate day = event.getFromDate().isBefore(from) ? from : event.getFromDate();
+                        !day.isAfter(last); day = day.plusDays(1)) {
+                    tasksByDay.computeIfAbsent(day, key -> new ArrayList<>()).add(task);
+                }
+            }
+        }
+        return formatScheduleBetween(from, to, tasksByDay);
+    }
+
+    @Override
+    public TaskStats getStats(LocalDate today) {
+        synchronized (writeLock) {
+            return super.getStats(today);
+        }
+    }
+
+    /**
+     * Publishes the list after a change made under the write lock. While the undo history is recording,
+     * its new version holds the same tasks and is published as it is. Otherwise a published snapshot is
+     * updated with the change, and a list with no snapshot yet is still read through.
+     *
+     * @param change Applies the change to the latest snapshot.
+     */
+    private void publish(UnaryOperator<TaskListSnapshot> change) {
+        PersistentTaskVector recorded = super.getRecordedVersion();
+        if (recorded != null) {
+            snapshot = new TaskListSnapshot(recorded, super.getVersion());
+        } else if (snapshot != null) {
+            snapshot = change.apply(snapshot);
+        }
+    }
+
+    /**
+     * Returns the latest published snapshot, publishing the first one if there is none yet.
+     */
+    private TaskListSnapshot published() {
+        TaskListSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (snapshot == null) {
+                snapshot = new TaskListSnapshot(super.toVector(), super.getVersion());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Reads the latest published snapshot or, while there is none, the list's own tasks under the write
+     * lock, which a lazily loaded list decodes no further than the read goes.
+     */
+    private <T, E extends Exception> T read(TaskRead<T, E> read) throws E {
+        TaskListSnapshot current = snapshot;
+        if (current != null) {
+            return read.apply(current);
+        }
+        synchronized (writeLock) {
+            current = snapshot;
+            return read.apply(current != null ? current : super.getAllTasks());
+        }
+    }
+
+    /**
+     * Returns whether the task is a deadline due on the date or an event that includes it.
+     */
+    private static boolean isOn(Task task, LocalDate date) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getByDate().equals(date);
+        }
+        if (task instanceof Event) {
+            Event event = (Event) task;
+            return !date.isBefore(event.getFromDate()) && !date.isAfter(event.getToDate());
+        }
+        return false;
+    }
+}
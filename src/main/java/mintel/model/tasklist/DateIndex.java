@@ -0,0 +1,299 @@
+package mintel.model.tasklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+
+/**
+ * Finds the deadlines and events that fall on a given date, or within a range of dates, without scanning
+ * the whole task list.
+ *
+ * <p>Deadlines are bucketed by epoch day in a sorted map, so the days of a range are read in order.
+ * Events are kept in an interval tree: a treap ordered by start day in which every node also stores the
+ * latest end day in its subtree, so that subtrees ending before the queried days, and subtrees starting
+ * after them, are skipped. Each task carries the sequence number
+ * it was added with, which restores the task list order of the results.
+ */
+class DateIndex {
+    private final NavigableMap<Long, List<Entry>> deadlinesByDay = new TreeMap<>();
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+    private final Random priorities = new Random();
+    private EventNode eventRoot;
+    private long nextSequence;
+
+    /**
+     * An indexed task with the order in which it was added.
+     */
+    private static final class Entry {
+        private final Task task;
+        private final long sequence;
+
+        Entry(Task task, long sequence) {
+            this.task = task;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * A node of the event interval tree.
+     */
+    private static final class EventNode {
+        private final Entry entry;
+        private final long fromDay;
+        private final long toDay;
+        private final int priority;
+        private long maxToDay;
+        private EventNode left;
+        private EventNode right;
+
+        EventNode(Entry entry, long fromDay, long toDay, int priority) {
+            this.entry = entry;
+            this.fromDay = fromDay;
+            this.toDay = toDay;
+            this.priority = priority;
+            this.maxToDay = toDay;
+        }
+
+        /**
+         * Returns whether this node comes before a node with the given start day and sequence.
+         */
+        boolean isBefore(long otherFromDay, long otherSequence) {
+            return fromDay < otherFromDay || (fromDay == otherFromDay && entry.sequence < otherSequence);
+        }
+
+        void update() {
+            maxToDay = toDay;
+            if (left != null) {
+                maxToDay = Math.max(maxToDay, left.maxToDay);
+            }
+            if (right != null) {
+                maxToDay = Math.max(maxToDay, right.maxToDay);
+            }
+        }
+    }
+
+    /**
+     * Indexes a task added at the end of the task list. Todos are ignored.
+     *
+     * @param task The task.
+     */
+    void add(Task task) {
+        assert task != null : "Task cannot be null";
+
+        if (task instanceof Deadline) {
+            Entry entry = newEntry(task);
+            long day = ((Deadline) task).getByDate().toEpochDay();
+            deadlinesByDay.computeIfAbsent(day, key -> new ArrayList<>()).add(entry);
+        } else if (task instanceof Event) {
+            Entry entry = newEntry(task);
+            Event event = (Event) task;
+            EventNode node = new EventNode(entry, event.getFromDate().toEpochDay(), event.getToDate().toEpochDay(),
+                    priorities.nextInt());
+            eventRoot = insert(eventRoot, node);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task, which must be the same object that was added.
+     */
+    void remove(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+
+        if (task instanceof Deadline) {
+            long day = ((Deadline) task).getByDate().toEpochDay();
+            List<Entry> bucket = deadlinesByDay.get(day);
+            bucket.remove(entry);
+            if (bucket.isEmpty()) {
+                deadlinesByDay.remove(day);
+            }
+        } else {
+            eventRoot = delete(eventRoot, ((Event) task).getFromDate().toEpochDay(), entry.sequence);
+        }
+    }
+
+    /**
+     * Returns the deadlines due on the date and the events that include it, in task list order.
+     *
+     * @param date The date.
+     * @return The matching tasks.
+     */
+    List<Task> findOn(LocalDate date) {
+        long day = date.toEpochDay();
+        List<Entry> matches = new ArrayList<>(deadlinesByDay.getOrDefault(day, List.of()));
+        collectEvents(eventRoot, day, matches);
+        matches.sort(Comparator.comparingLong(entry -> entry.sequence));
+
+        List<Task> tasks = new ArrayList<>(matches.size());
+        for (Entry entry : matches) {
+            tasks.add(entry.task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the deadlines and events on each day from one date to another, both included.
+     * Days are in chronological order and only days with tasks are present. Within a day, tasks are in
+     * task list order, and an event is listed on every day of the range that it covers.
+     * Finding the tasks takes O(log n + k) for k matching deadlines and events.
+     *
+     * @param from The first date.
+     * @param to   The last date, which is not before the first.
+     * @return The matching tasks grouped by day.
+     */
+    NavigableMap<LocalDate, List<Task>> findBetween(LocalDate from, LocalDate to) {
+        assert !from.isAfter(to) : "Range cannot end before it starts";
+
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        NavigableMap<Long, List<Entry>> matchesByDay = new TreeMap<>();
+        for (Map.Entry<Long, List<Entry>> bucket : deadlinesByDay.subMap(fromDay, true, toDay, true).entrySet()) {
+            matchesByDay.put(bucket.getKey(), new ArrayList<>(bucket.getValue()));
+        }
+
+        List<EventNode> events = new ArrayList<>();
+        collectEvents(eventRoot, fromDay, toDay, events);
+        for (EventNode event : events) {
+            long lastDay = Math.min(toDay, event.toDay);
+            for (long day = Math.max(fromDay, event.fromDay); day <= lastDay; day++) {
+                matchesByDay.computeIfAbsent(day, key -> new ArrayList<>()).add(event.entry);
+            }
+        }
+
+        NavigableMap<LocalDate, List<Task>> tasksByDay = new TreeMap<>();
+        for (Map.Entry<Long, List<Entry>> day : matchesByDay.entrySet()) {
+            List<Entry> matches = day.getValue();
+            matches.sort(Comparator.comparingLong(entry -> entry.sequence));
+            List<Task> tasks = new ArrayList<>(matches.size());
+            for (Entry entry : matches) {
+                tasks.add(entry.task);
+            }
+            tasksByDay.put(LocalDate.ofEpochDay(day.getKey()), tasks);
+        }
+        return tasksByDay;
+    }
+
+    private Entry newEntry(Task task) {
+        Entry entry = new Entry(task, nextSequence++);
+        entries.put(task, entry);
+        return entry;
+    }
+
+    private void collectEvents(EventNode node, long day, List<Entry> matches) {
+        if (node == null || node.maxToDay < day) {
+            return;
+        }
+        collectEvents(node.left, day, matches);
+        if (node.fromDay > day) {
+            return;
+        }
+        if (node.toDay >= day) {
+            matches.add(node.entry);
+        }
+        collectEvents(node.right, day, matches);
+    }
+
+    /**
+     * Collects the events that overlap the days from fromDay to toDay, in start day order.
+     */
+    private void collectEvents(EventNode node, long fromDay, long toDay, List<EventNode> matches) {
+        if (node == null || node.maxToDay < fromDay) {
+            return;
+        }
+        collectEvents(node.left, fromDay, toDay, matches);
+        if (node.fromDay > toDay) {
+            return;
+        }
+        if (node.toDay >= fromDay) {
+            matches.add(node);
+        }
+        collectEvents(node.right, fromDay, toDay, matches);
+    }
+
+    private EventNode insert(EventNode root, EventNode node) {
+        if (root == null) {
+            return node;
+        }
+        if (root.isBefore(node.fromDay, node.entry.sequence)) {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        } else {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        }
+        root.update();
+        return root;
+    }
+
+    private EventNode delete(EventNode root, long fromDay, long sequence) {
+        if (root == null) {
+            return null;
+        }
+        if (root.fromDay == fromDay && root.entry.sequence == sequence) {
+            return merge(root.left, root.right);
+        }
+        if (root.isBefore(fromDay, sequence)) {
+            root.right = delete(root.right, fromDay, sequence);
+        } else {
+            root.left = delete(root.left, fromDay, sequence);
+        }
+        root.update();
+        return root;
+    }
+
+    /**
+     * Joins two treaps where every node of the left one comes before every node of the right one.
+     */
+    private EventNode merge(EventNode left, EventNode right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private EventNode rotateLeft(EventNode node) {
+        EventNode newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private EventNode rotateRight(EventNode node) {
+        EventNode newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+}
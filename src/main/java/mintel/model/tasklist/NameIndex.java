@@ -0,0 +1,199 @@
+package mintel.model.tasklist;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import mintel.model.task.Task;
+
+/**
+ * Finds the tasks whose names contain every given keyword, ignoring case, without scanning every name.
+ *
+ * <p>Each lowercased name is split into overlapping three-character trigrams, and every trigram maps to
+ * a posting list of the tasks whose names contain it, in task list order. A keyword can only be contained
+ * in a name holding all of its trigrams, so intersecting those posting lists leaves a few candidates whose
+ * names are then checked with {@link String#contains(CharSequence)}; the results are therefore exactly
+ * those of a plain substring search. Keywords shorter than a trigram are only checked on the candidates.
+ *
+ * <p>Removed tasks are flagged rather than taken out of every posting list, and the lists are compacted
+ * once flagged tasks make up half of the index.
+ */
+class NameIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final ParallelQueryExecutor queryExecutor;
+    private final Map<Long, List<Entry>> postings = new HashMap<>();
+    private final Map<Task, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> allEntries = new ArrayList<>();
+    private long nextSequence;
+    private int removedCount;
+
+    /**
+     * An indexed task with its lowercased name and the order in which it was added.
+     */
+    private static final class Entry {
+        private final Task task;
+        private final String lowerName;
+        private final long sequence;
+        private boolean isRemoved;
+
+        Entry(Task task, String lowerName, long sequence) {
+            this.task = task;
+            this.lowerName = lowerName;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Constructs an empty NameIndex.
+     *
+     * @param queryExecutor The executor that checks the candidates, in parallel when there are many.
+     */
+    NameIndex(ParallelQueryExecutor queryExecutor) {
+        assert queryExecutor != null : "Query executor cannot be null";
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * Indexes a task added at the end of the task list.
+     *
+     * @param task The task.
+     */
+    void add(Task task) {
+        assert task != null : "Task cannot be null";
+
+        Entry entry = new Entry(task, task.getName().toLowerCase(), nextSequence++);
+        entries.put(task, entry);
+        allEntries.add(entry);
+
+        String name = entry.lowerName;
+        for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+            List<Entry> posting = postings.computeIfAbsent(gramAt(name, i), key -> new ArrayList<>());
+            // A trigram repeated within the name would otherwise list the task twice in a row
+            if (posting.isEmpty() || posting.get(posting.size() - 1) != entry) {
+                posting.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task The task, which must be the same object that was added.
+     */
+    void remove(Task task) {
+        Entry entry = entries.remove(task);
+        if (entry == null) {
+            return;
+        }
+        entry.isRemoved = true;
+        removedCount++;
+
+        if (removedCount >= MIN_COMPACTION_SIZE && removedCount * 2 >= allEntries.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the tasks whose lowercased names contain every lowercased keyword, in task list order.
+     *
+     * @param keywords The keywords.
+     * @return The matching tasks.
+     */
+    List<Task> find(String... keywords) {
+        String[] lowerKeywords = new String[keywords.length];
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i < keywords.length; i++) {
+            lowerKeywords[i] = keywords[i].toLowerCase();
+            for (int j = 0; j + GRAM_LENGTH <= lowerKeywords[i].length(); j++) {
+                grams.add(gramAt(lowerKeywords[i], j));
+            }
+        }
+
+        // Keywords shorter than a trigram leave every task as a candidate, which is worth splitting up
+        return queryExecutor.map(findCandidates(grams),
+                entry -> !entry.isRemoved && containsAll(entry.lowerName, lowerKeywords) ? entry.task : null);
+    }
+
+    /**
+     * Intersects the posting lists of the trigrams, shortest first.
+     */
+    private List<Entry> findCandidates(Set<Long> grams) {
+        if (grams.isEmpty()) {
+            return allEntries;
+        }
+
+        List<List<Entry>> lists = new ArrayList<>(grams.size());
+        for (long gram : grams) {
+            List<Entry> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(List::size));
+
+        List<Entry> candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Merges two posting lists sorted by sequence, keeping the entries found in both.
+     */
+    private List<Entry> intersect(List<Entry> first, List<Entry> second) {
+        List<Entry> common = new ArrayList<>(Math.min(first.size(), second.size()));
+        int i = 0;
+        int j = 0;
+        while (i < first.size() && j < second.size()) {
+            long firstSequence = first.get(i).sequence;
+            long secondSequence = second.get(j).sequence;
+            if (firstSequence == secondSequence) {
+                common.add(first.get(i));
+                i++;
+                j++;
+            } else if (firstSequence < secondSequence) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return common;
+    }
+
+    private boolean containsAll(String lowerName, String[] lowerKeywords) {
+        for (String keyword : lowerKeywords) {
+            if (!lowerName.contains(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops removed tasks from every list.
+     */
+    private void compact() {
+        allEntries.removeIf(entry -> entry.isRemoved);
+        postings.values().removeIf(posting -> {
+            posting.removeIf(entry -> entry.isRemoved);
+            return posting.isEmpty();
+        });
+        removedCount = 0;
+    }
+
+    /**
+     * Packs the three characters starting at the given position into a single key.
+     */
+    private static long gramAt(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
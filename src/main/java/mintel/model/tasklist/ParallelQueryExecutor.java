@@ -0,0 +1,107 @@
+package mintel.model.tasklist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs per-task query work, such as matching names or formatting results, on the common fork-join pool
+ * once there are enough tasks for the split to pay off, and on the calling thread otherwise.
+ * Results always come back in the order of the input.
+ * The items must not be changed while a query runs; callers hold the task list lock.
+ */
+class ParallelQueryExecutor {
+    /** Below this many items a query runs on the calling thread; see ParallelQueryBenchmark. */
+    static final int DEFAULT_THRESHOLD = 8192;
+    private static final int MIN_CHUNK_SIZE = 1024;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final int threshold;
+
+    /**
+     * Constructs a ParallelQueryExecutor.
+     *
+     * @param threshold The smallest number of items that is processed in parallel.
+     */
+    ParallelQueryExecutor(int threshold) {
+        assert threshold > 0 : "Threshold must be positive";
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the items that satisfy the predicate, in their original order.
+     *
+     * @param items     The items to test.
+     * @param predicate The condition to keep an item.
+     * @return The matching items.
+     */
+    <T> List<T> filter(List<T> items, Predicate<? super T> predicate) {
+        return map(items, item -> predicate.test(item) ? item : null);
+    }
+
+    /**
+     * Applies the function to every item and returns the results in the items' order.
+     * Null results are left out, so the function can filter and convert in one pass.
+     *
+     * @param items  The items.
+     * @param mapper The function to apply.
+     * @return The non-null results.
+     */
+    <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper) {
+        if (items.size() < threshold) {
+            return new MapTask<T, R>(items, 0, items.size(), items.size(), mapper).computeDirectly();
+        }
+
+        int workers = ForkJoinPool.getCommonPoolParallelism() + 1;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, items.size() / (workers * CHUNKS_PER_WORKER) + 1);
+        return ForkJoinPool.commonPool().invoke(new MapTask<>(items, 0, items.size(), chunkSize, mapper));
+    }
+
+    /**
+     * Maps a range of the items, splitting it in half until the pieces are small enough.
+     */
+    private static final class MapTask<T, R> extends RecursiveTask<List<R>> {
+        private final List<T> items;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Function<? super T, ? extends R> mapper;
+
+        MapTask(List<T> items, int from, int to, int chunkSize, Function<? super T, ? extends R> mapper) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (to - from <= chunkSize) {
+                return computeDirectly();
+            }
+
+            int middle = (from + to) >>> 1;
+            MapTask<T, R> left = new MapTask<>(items, from, middle, chunkSize, mapper);
+            left.fork();
+            List<R> rightResults = new MapTask<T, R>(items, middle, to, chunkSize, mapper).compute();
+            List<R> results = left.join();
+            results.addAll(rightResults);
+            return results;
+        }
+
+        List<R> computeDirectly() {
+            List<R> results = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                R result = mapper.apply(items.get(i));
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return results;
+        }
+    }
+}
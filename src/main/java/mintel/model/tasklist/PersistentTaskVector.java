@@ -0,0 +1,443 @@
+package mintel.model.tasklist;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import mintel.model.task.Task;
+
+/**
+ * An immutable list of tasks in which every change returns a new vector sharing most of its nodes.
+ *
+ * <p>The tasks sit in leaves of up to {@code BRANCHING} tasks, under branches of up to {@code BRANCHING}
+ * children that record the list index at which each child ends. Setting, appending or removing a task
+ * copies only the nodes on the path from the root to its leaf, so each change costs O(log n) time and
+ * memory, and any number of versions can be kept at once. Nodes are never merged after removals: a leaf
+ * that empties is dropped, and the tree stays as deep as the largest list it has held.
+ *
+ * <p>The undo history keeps its versions as vectors, and {@link TaskListSnapshot} wraps one, so a version
+ * restored by undo can be published to concurrent readers as it is.
+ *
+ * <p>The tasks are private copies that are never changed, and must not be changed by readers either.
+ */
+final class PersistentTaskVector {
+    /** The largest number of tasks in a leaf, or children in a branch. */
+    static final int BRANCHING = 32;
+
+    private static final PersistentTaskVector EMPTY = new PersistentTaskVector(new Leaf(new Task[0]), 0);
+
+    private final Node root;
+    private final int depth;
+
+    /**
+     * A node of the tree, holding the tasks of a contiguous range of the list.
+     */
+    private abstract static class Node {
+        abstract int size();
+    }
+
+    private static final class Leaf extends Node {
+        private final Task[] tasks;
+
+        Leaf(Task[] tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        int size() {
+            return tasks.length;
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        private final int[] ends;
+
+        Branch(Node[] children, int[] ends) {
+            this.children = children;
+            this.ends = ends;
+        }
+
+        @Override
+        int size() {
+            return ends[ends.length - 1];
+        }
+
+        /**
+         * Returns the child holding the index, by binary search over the child ends.
+         */
+        int findChild(int index) {
+            int low = 0;
+            int high = ends.length - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ends[middle] <= index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int childStart(int child) {
+            return child == 0 ? 0 : ends[child - 1];
+        }
+    }
+
+    /**
+     * The leaf holding an index, and where in the leaf the index is.
+     */
+    private static final class LeafPosition {
+        private final Leaf leaf;
+        private final int offset;
+
+        LeafPosition(Leaf leaf, int offset) {
+            this.leaf = leaf;
+            this.offset = offset;
+        }
+
+        Task task() {
+            return leaf.tasks[offset];
+        }
+    }
+
+    private PersistentTaskVector(Node root, int depth) {
+        this.root = root;
+        this.depth = depth;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @return The empty vector.
+     */
+    static PersistentTaskVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a vector holding copies of the given tasks, packed into full leaves.
+     *
+     * @param tasks The tasks to copy.
+     * @return The vector.
+     */
+    static PersistentTaskVector of(List<Task> tasks) {
+        assert tasks != null : "Tasks cannot be null";
+
+        if (tasks.isEmpty()) {
+            return EMPTY;
+        }
+
+        Node[] level = new Node[(tasks.size() + BRANCHING - 1) / BRANCHING];
+        Task[] leaf = null;
+        for (int i = 0; i < tasks.size(); i++) {
+            if (i % BRANCHING == 0) {
+                leaf = new Task[Math.min(BRANCHING, tasks.size() - i)];
+                level[i / BRANCHING] = new Leaf(leaf);
+            }
+            leaf[i % BRANCHING] = tasks.get(i).copy();
+        }
+
+        int depth = 0;
+        while (level.length > 1) {
+            Node[] parents = new Node[(level.length + BRANCHING - 1) / BRANCHING];
+            for (int i = 0; i < parents.length; i++) {
+                Node[] children = Arrays.copyOfRange(level, i * BRANCHING,
+                        Math.min(level.length, (i + 1) * BRANCHING));
+                parents[i] = new Branch(children, endsOf(children));
+            }
+            level = parents;
+            depth++;
+        }
+        return new PersistentTaskVector(level[0], depth);
+    }
+
+    /**
+     * Returns the number of tasks.
+     *
+     * @return The size.
+     */
+    int size() {
+        return root.size();
+    }
+
+    /**
+     * Returns the number of branch levels above the leaves, which bounds the nodes a change copies.
+     *
+     * @return The depth, 0 when the root is a leaf.
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the task at the index, which must not be changed.
+     *
+     * @param index The zero-based index.
+     * @return The task.
+     */
+    Task get(int index) {
+        checkIndex(index);
+
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.findChild(index);
+            index -= branch.childStart(child);
+            node = branch.children[child];
+        }
+        return ((Leaf) node).tasks[index];
+    }
+
+    /**
+     * Returns a vector with the task at the index replaced by a copy of the given task.
+     *
+     * @param index The zero-based index.
+     * @param task  The task.
+     * @return The new vector.
+     */
+    PersistentTaskVector with(int index, Task task) {
+        checkIndex(index);
+        return new PersistentTaskVector(replace(root, index, task.copy()), depth);
+    }
+
+    /**
+     * Returns a vector with a copy of the given task appended.
+     *
+     * @param task The task.
+     * @return The new vector.
+     */
+    PersistentTaskVector withAdded(Task task) {
+        Node[] result = append(root, task.copy());
+        if (result.length == 1) {
+            return new PersistentTaskVector(result[0], depth);
+        }
+        return new PersistentTaskVector(new Branch(result, endsOf(result)), depth + 1);
+    }
+
+    /**
+     * Returns a vector without the task at the index.
+     *
+     * @param index The zero-based index.
+     * @return The new vector.
+     */
+    PersistentTaskVector withRemoved(int index) {
+        checkIndex(index);
+
+        Node newRoot = remove(root, index);
+        if (newRoot == null) {
+            return EMPTY;
+        }
+        int newDepth = depth;
+        // A root left with a single child is no longer needed
+        while (newRoot instanceof Branch && ((Branch) newRoot).children.length == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+            newDepth--;
+        }
+        return new PersistentTaskVector(newRoot, newDepth);
+    }
+
+    /**
+     * Returns how many tasks at the start of this vector are the very same tasks as at the start of another.
+     * Where the two share a leaf at the same position, the rest of it is skipped without comparing its
+     * tasks, so two versions a few changes apart are compared in O((n / BRANCHING) log n) time.
+     *
+     * @param other The other vector.
+     * @return The length of the shared prefix.
+     */
+    int sharedPrefixLength(PersistentTaskVector other) {
+        int limit = Math.min(size(), other.size());
+        int shared = 0;
+        while (shared < limit) {
+            LeafPosition mine = locate(shared);
+            LeafPosition theirs = other.locate(shared);
+            if (mine.leaf == theirs.leaf && mine.offset == theirs.offset) {
+                shared += mine.leaf.tasks.length - mine.offset;
+            } else if (mine.task() == theirs.task()) {
+                shared++;
+            } else {
+                break;
+            }
+        }
+        return Math.min(shared, limit);
+    }
+
+    /**
+     * Returns how many tasks at the end of this vector are the very same tasks as at the end of another,
+     * skipping shared leaves as {@link #sharedPrefixLength} does.
+     *
+     * @param other The other vector.
+     * @return The length of the shared suffix.
+     */
+    int sharedSuffixLength(PersistentTaskVector other) {
+        int limit = Math.min(size(), other.size());
+        int shared = 0;
+        while (shared < limit) {
+            LeafPosition mine = locate(size() - 1 - shared);
+            LeafPosition theirs = other.locate(other.size() - 1 - shared);
+            if (mine.leaf == theirs.leaf && mine.offset == theirs.offset) {
+                shared += mine.offset + 1;
+            } else if (mine.task() == theirs.task()) {
+                shared++;
+            } else {
+                break;
+            }
+        }
+        return Math.min(shared, limit);
+    }
+
+    /**
+     * Returns a list that reads through this vector, handing out a new copy of a task on every read.
+     * The copies can be changed freely, but changing them does not change the vector.
+     *
+     * @return The list of copies.
+     */
+    List<Task> copies() {
+        return new CopyingView(this);
+    }
+
+    /**
+     * A list of fresh copies of the tasks in a vector.
+     */
+    static final class CopyingView extends AbstractList<Task> implements RandomAccess {
+        private final PersistentTaskVector vector;
+
+        private CopyingView(PersistentTaskVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public Task get(int index) {
+            return vector.get(index).copy();
+        }
+
+        @Override
+        public int size() {
+            return vector.size();
+        }
+    }
+
+    private LeafPosition locate(int index) {
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            int child = branch.findChild(index);
+            index -= branch.childStart(child);
+            node = branch.children[child];
+        }
+        return new LeafPosition((Leaf) node, index);
+    }
+
+    private static Node replace(Node node, int index, Task copy) {
+        if (node instanceof Leaf) {
+            Task[] tasks = ((Leaf) node).tasks.clone();
+            tasks[index] = copy;
+            return new Leaf(tasks);
+        }
+
+        Branch branch = (Branch) node;
+        int child = branch.findChild(index);
+        Node[] children = branch.children.clone();
+        children[child] = replace(children[child], index - branch.childStart(child), copy);
+        return new Branch(children, branch.ends);
+    }
+
+    /**
+     * Appends a task below the node.
+     *
+     * @return The node with the task appended, or, if the node was full, the node unchanged followed by a
+     *         new node of the same height holding only the task.
+     */
+    private static Node[] append(Node node, Task copy) {
+        if (node instanceof Leaf) {
+            Task[] tasks = ((Leaf) node).tasks;
+            if (tasks.length < BRANCHING) {
+                Task[] appended = Arrays.copyOf(tasks, tasks.length + 1);
+                appended[tasks.length] = copy;
+                return new Node[] {new Leaf(appended)};
+            }
+            return new Node[] {node, new Leaf(new Task[] {copy})};
+        }
+
+        Branch branch = (Branch) node;
+        int last = branch.children.length - 1;
+        Node[] result = append(branch.children[last], copy);
+        if (result.length == 1) {
+            Node[] children = branch.children.clone();
+            children[last] = result[0];
+            int[] ends = branch.ends.clone();
+            ends[last]++;
+            return new Node[] {new Branch(children, ends)};
+        }
+        if (branch.children.length < BRANCHING) {
+            Node[] children = Arrays.copyOf(branch.children, branch.children.length + 1);
+            children[last + 1] = result[1];
+            int[] ends = Arrays.copyOf(branch.ends, branch.ends.length + 1);
+            ends[last + 1] = ends[last] + 1;
+            return new Node[] {new Branch(children, ends)};
+        }
+        return new Node[] {node, new Branch(new Node[] {result[1]}, new int[] {1})};
+    }
+
+    /**
+     * Removes the task at the index below the node.
+     *
+     * @return The node without the task, or null if it held no other task.
+     */
+    private static Node remove(Node node, int index) {
+        if (node instanceof Leaf) {
+            Task[] tasks = ((Leaf) node).tasks;
+            if (tasks.length == 1) {
+                return null;
+            }
+            Task[] remaining = new Task[tasks.length - 1];
+            System.arraycopy(tasks, 0, remaining, 0, index);
+            System.arraycopy(tasks, index + 1, remaining, index, remaining.length - index);
+            return new Leaf(remaining);
+        }
+
+        Branch branch = (Branch) node;
+        int child = branch.findChild(index);
+        Node newChild = remove(branch.children[child], index - branch.childStart(child));
+
+        Node[] children;
+        int[] ends;
+        if (newChild != null) {
+            children = branch.children.clone();
+            children[child] = newChild;
+            ends = branch.ends.clone();
+        } else if (branch.children.length == 1) {
+            return null;
+        } else {
+            children = new Node[branch.children.length - 1];
+            ends = new int[branch.ends.length - 1];
+            System.arraycopy(branch.children, 0, children, 0, child);
+            System.arraycopy(branch.children, child + 1, children, child, children.length - child);
+            System.arraycopy(branch.ends, 0, ends, 0, child);
+            System.arraycopy(branch.ends, child + 1, ends, child, ends.length - child);
+        }
+        // Either way, the child now at this position and every later one end a task earlier
+        for (int i = child; i < ends.length; i++) {
+            ends[i]--;
+        }
+        return new Branch(children, ends);
+    }
+
+    private static int[] endsOf(Node[] children) {
+        int[] ends = new int[children.length];
+        int end = 0;
+        for (int i = 0; i < children.length; i++) {
+            end += children[i].size();
+            ends[i] = end;
+        }
+        return ends;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+    }
+}
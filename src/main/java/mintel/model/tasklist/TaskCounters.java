@@ -0,0 +1,110 @@
+package mintel.model.tasklist;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import mintel.model.task.Deadline;
+import mintel.model.task.Task;
+
+/**
+ * Keeps the counts behind {@link TaskStats} up to date as tasks are added, removed and marked,
+ * so that the stats never need a pass over the task list.
+ *
+ * <p>Overdue deadlines depend on the current day. Pending deadlines are counted per day, and the number
+ * due before the last day asked about is kept. When a later day is asked about, only the days in between
+ * are added, so following the calendar forward costs O(1) amortised per day.
+ */
+class TaskCounters {
+    private final int[] counts = new int[TaskStats.Type.values().length];
+    private final int[] doneCounts = new int[TaskStats.Type.values().length];
+    private final NavigableMap<YearMonth, Integer> deadlinesByMonth = new TreeMap<>();
+    private final NavigableMap<YearMonth, Integer> doneDeadlinesByMonth = new TreeMap<>();
+    private final NavigableMap<Long, Integer> pendingDeadlinesByDay = new TreeMap<>();
+    private long overdueBefore = Long.MIN_VALUE;
+    private int overdueCount;
+
+    /**
+     * Counts a task that joined the list, or whose done status was just changed.
+     *
+     * @param task The task.
+     */
+    void add(Task task) {
+        update(task, 1);
+    }
+
+    /**
+     * Stops counting a task that left the list, or whose done status is about to change.
+     *
+     * @param task The task, which must be unchanged since it was counted.
+     */
+    void remove(Task task) {
+        update(task, -1);
+    }
+
+    /**
+     * Returns the current counts, with overdue deadlines being those due before the given day.
+     *
+     * @param today The current day.
+     * @return The stats.
+     */
+    TaskStats getStats(LocalDate today) {
+        assert today != null : "Today cannot be null";
+
+        long day = today.toEpochDay();
+        if (day > overdueBefore) {
+            overdueCount += sum(pendingDeadlinesByDay.subMap(overdueBefore, true, day, false));
+        } else if (day < overdueBefore) {
+            overdueCount -= sum(pendingDeadlinesByDay.subMap(day, true, overdueBefore, false));
+        }
+        overdueBefore = day;
+        assert overdueCount >= 0 : "Overdue count cannot be negative";
+
+        return new TaskStats(counts.clone(), doneCounts.clone(), overdueCount, new TreeMap<>(deadlinesByMonth),
+                new TreeMap<>(doneDeadlinesByMonth));
+    }
+
+    private void update(Task task, int change) {
+        assert task != null : "Task cannot be null";
+
+        int type = TaskStats.Type.of(task).ordinal();
+        counts[type] += change;
+        if (task.getIsDone()) {
+            doneCounts[type] += change;
+        }
+        if (!(task instanceof Deadline)) {
+            return;
+        }
+
+        LocalDate by = ((Deadline) task).getByDate();
+        YearMonth month = YearMonth.from(by);
+        deadlinesByMonth.merge(month, change, TaskCounters::addOrDrop);
+        if (task.getIsDone()) {
+            doneDeadlinesByMonth.merge(month, change, TaskCounters::addOrDrop);
+            return;
+        }
+        pendingDeadlinesByDay.merge(by.toEpochDay(), change, TaskCounters::addOrDrop);
+        if (by.toEpochDay() < overdueBefore) {
+            overdueCount += change;
+        }
+    }
+
+    /**
+     * Adds two counts, returning null to drop the entry when they come to zero.
+     */
+    private static Integer addOrDrop(int count, int change) {
+        int sum = count + change;
+        assert sum >= 0 : "Count cannot be negative";
+        return sum == 0 ? null : sum;
+    }
+
+    private static int sum(Map<Long, Integer> countsByDay) {
+        int total = 0;
+        for (int count : countsByDay.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,247 @@
+package mintel.model.tasklist;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import mintel.model.task.Task;
+
+/**
+ * Keeps earlier and undone versions of a task list so that changes can be undone and redone.
+ *
+ * <p>Each version is a {@link PersistentTaskVector}, and a change to the list is mirrored by the matching
+ * O(log n) change to the current vector, so recording a version only keeps a reference to the old one.
+ * The first change copies the whole list once, to start the history from.
+ *
+ * <p>The memory kept by old versions is estimated from the nodes and task copies each change created. Once
+ * the estimate goes over the limit, the oldest versions are forgotten until it fits again.
+ */
+class TaskHistory {
+    /** An estimate of the bytes of a tree node with all of its slots in use. */
+    static final int NODE_BYTES = 32 + 8 * PersistentTaskVector.BRANCHING;
+    /** An estimate of the bytes of a task copy, leaving out its name, which is shared with the task. */
+    static final int TASK_COPY_BYTES = 48;
+
+    private final Deque<Version> undoVersions = new ArrayDeque<>();
+    private final Deque<Version> redoVersions = new ArrayDeque<>();
+    private PersistentTaskVector current;
+    private long maxBytes;
+    private long retainedBytes;
+
+    /**
+     * A version that can be returned to, with the estimated memory of the change that leads away from it.
+     */
+    private static final class Version {
+        private final PersistentTaskVector tasks;
+        private final long bytes;
+
+        Version(PersistentTaskVector tasks, long bytes) {
+            this.tasks = tasks;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Constructs an empty history.
+     *
+     * @param maxBytes The most memory old versions may keep, where 0 keeps no history at all.
+     */
+    TaskHistory(long maxBytes) {
+        setMaxBytes(maxBytes);
+    }
+
+    /**
+     * Changes how much memory old versions may keep, forgetting the oldest ones if they no longer fit.
+     *
+     * @param maxBytes The limit in bytes, where 0 turns the history off and clears it.
+     */
+    void setMaxBytes(long maxBytes) {
+        assert maxBytes >= 0 : "History limit cannot be negative";
+
+        this.maxBytes = maxBytes;
+        if (maxBytes == 0) {
+            undoVersions.clear();
+            redoVersions.clear();
+            current = null;
+            retainedBytes = 0;
+        } else {
+            evict();
+        }
+    }
+
+    /**
+     * Starts the history from a copy of the tasks, unless it is already started or turned off.
+     * Must be called before the list changes, and the tasks should all have their IDs by then.
+     *
+     * @param tasks The tasks before the change.
+     */
+    void startFrom(List<Task> tasks) {
+        if (current == null && maxBytes > 0) {
+            current = PersistentTaskVector.of(tasks);
+        }
+    }
+
+    /**
+     * Returns whether the history is turned on.
+     *
+     * @return true if the limit allows any history.
+     */
+    boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    /**
+     * Returns whether changes are being recorded.
+     *
+     * @return true if the history has been started.
+     */
+    boolean isStarted() {
+        return current != null;
+    }
+
+    /**
+     * Records that a task was appended.
+     */
+    void recordAdd(Task task) {
+        if (current != null) {
+            record(current.withAdded(task), pathBytes() + TASK_COPY_BYTES);
+        }
+    }
+
+    /**
+     * Records that the task at the index was replaced or changed.
+     */
+    void recordSet(int index, Task task) {
+        if (current != null) {
+            record(current.with(index, task), pathBytes() + TASK_COPY_BYTES);
+        }
+    }
+
+    /**
+     * Records that the tasks at the indexes, sorted and distinct, were replaced or changed, as one change.
+     */
+    void recordSetAll(int[] indexes, List<Task> tasks) {
+        if (current != null) {
+            PersistentTaskVector next = current;
+            for (int index : indexes) {
+                next = next.with(index, tasks.get(index));
+            }
+            record(next, indexes.length * (pathBytes() + TASK_COPY_BYTES));
+        }
+    }
+
+    /**
+     * Records that the task at the index was removed.
+     */
+    void recordRemove(int index) {
+        if (current != null) {
+            record(current.withRemoved(index), pathBytes());
+        }
+    }
+
+    /**
+     * Records that the tasks at the indexes, sorted and distinct, were removed, as one change.
+     */
+    void recordRemoveAll(int[] indexes) {
+        if (current != null) {
+            PersistentTaskVector next = current;
+            // Removing from the back keeps the earlier indexes valid
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                next = next.withRemoved(indexes[i]);
+            }
+            record(next, indexes.length * pathBytes());
+        }
+    }
+
+    /**
+     * Steps back to the version before the last change.
+     *
+     * @return The tasks of that version, or null if there is nothing to undo.
+     */
+    PersistentTaskVector undo() {
+        Version previous = undoVersions.pollLast();
+        if (previous == null) {
+            return null;
+        }
+        redoVersions.push(new Version(current, previous.bytes));
+        current = previous.tasks;
+        return current;
+    }
+
+    /**
+     * Steps forward to the version before the last undo.
+     *
+     * @return The tasks of that version, or null if there is nothing to redo.
+     */
+    PersistentTaskVector redo() {
+        Version next = redoVersions.poll();
+        if (next == null) {
+            return null;
+        }
+        undoVersions.addLast(new Version(current, next.bytes));
+        current = next.tasks;
+        return current;
+    }
+
+    /**
+     * Returns the version that holds the tasks as they are now.
+     *
+     * @return The current version, or null if the history is not started.
+     */
+    PersistentTaskVector getCurrent() {
+        return current;
+    }
+
+    /**
+     * Returns how many changes can be undone.
+     */
+    int getUndoCount() {
+        return undoVersions.size();
+    }
+
+    /**
+     * Returns how many undone changes can be redone.
+     */
+    int getRedoCount() {
+        return redoVersions.size();
+    }
+
+    /**
+     * Returns the estimated memory kept by versions other than the current one.
+     */
+    long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    /**
+     * Makes a new version current, forgetting any undone versions and then the oldest ones that do not fit.
+     */
+    private void record(PersistentTaskVector next, long bytes) {
+        for (Version undone : redoVersions) {
+            retainedBytes -= undone.bytes;
+        }
+        redoVersions.clear();
+
+        undoVersions.addLast(new Version(current, bytes));
+        retainedBytes += bytes;
+        current = next;
+        evict();
+    }
+
+    private void evict() {
+        while (retainedBytes > maxBytes && !undoVersions.isEmpty()) {
+            retainedBytes -= undoVersions.pollFirst().bytes;
+        }
+        // Only a lowered limit can leave undone versions over it, and those furthest ahead go first
+        while (retainedBytes > maxBytes && !redoVersions.isEmpty()) {
+            retainedBytes -= redoVersions.pollLast().bytes;
+        }
+    }
+
+    /**
+     * Returns the estimated memory of the nodes a single change copies.
+     */
+    private long pathBytes() {
+        return (current.depth() + 1L) * NODE_BYTES;
+    }
+}
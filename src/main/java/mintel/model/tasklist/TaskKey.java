@@ -0,0 +1,64 @@
+package mintel.model.tasklist;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+
+/**
+ * The fields that decide whether two tasks are duplicates: the task type, the name and any dates.
+ * Whether a task is done does not matter.
+ */
+final class TaskKey {
+    private final Class<?> type;
+    private final String name;
+    private final LocalDate firstDate;
+    private final LocalDate secondDate;
+    private final int hash;
+
+    private TaskKey(Class<?> type, String name, LocalDate firstDate, LocalDate secondDate) {
+        this.type = type;
+        this.name = name;
+        this.firstDate = firstDate;
+        this.secondDate = secondDate;
+        this.hash = Objects.hash(type, name, firstDate, secondDate);
+    }
+
+    /**
+     * Returns the duplicate key of a task.
+     *
+     * @param task The task.
+     * @return A key equal to the key of every duplicate of the task.
+     */
+    static TaskKey of(Task task) {
+        assert task != null : "Task cannot be null";
+
+        if (task instanceof Deadline) {
+            return new TaskKey(task.getClass(), task.getName(), ((Deadline) task).getByDate(), null);
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            return new TaskKey(task.getClass(), task.getName(), event.getFromDate(), event.getToDate());
+        }
+        return new TaskKey(task.getClass(), task.getName(), null, null);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof TaskKey)) {
+            return false;
+        }
+        TaskKey key = (TaskKey) other;
+        return type == key.type && name.equals(key.name) && Objects.equals(firstDate, key.firstDate)
+                && Objects.equals(secondDate, key.secondDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -1,57 +1,65 @@
 package mintel.model.tasklist;
 
+import java.io.IOException;
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
 
 import mintel.exception.DataValidationException;
+import mintel.exception.DateLogicException;
 import mintel.exception.InvalidDateFormatException;
 import mintel.exception.MintelException;
 import mintel.exception.OutOfRangeException;
-import mintel.model.task.Deadline;
-import mintel.model.task.Event;
+import mintel.model.task.DateParser;
 import mintel.model.task.Task;
-import mintel.model.task.Todo;
 
 /**
  * Manages a collection of tasks.
  * Provides operations to add, remove, mark, and retrieve tasks.
+ * Every change increments a version number, so callers can tell whether the list changed.
+ * Each task also has an ID that does not change when other tasks are added or deleted.
  */
 public class TaskList {
-    private final List<Task> tasks;
-    private int taskCount;
+    /** The longest range of days a schedule can be shown for at once. */
+    public static final int MAX_SCHEDULE_DAYS = 366;
+    /** The memory that versions kept for undo and redo may use unless another limit is set. */
+    public static final long DEFAULT_HISTORY_BYTES = 16L * 1024 * 1024;
+
+    private final TaskHistory history = new TaskHistory(DEFAULT_HISTORY_BYTES);
+    private TaskSlots tasks;
+    private final ParallelQueryExecutor queryExecutor =
+            new ParallelQueryExecutor(ParallelQueryExecutor.DEFAULT_THRESHOLD);
+    private long version;
+    private Map<TaskKey, Integer> duplicateIndex;
+    private DateIndex dateIndex;
+    private NameIndex nameIndex;
+    private TaskCounters counters;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
-        assert tasks != null : "ArrayList creation failed";
+        this.tasks = new TaskSlots(new ArrayList<>());
+        assert tasks != null : "TaskSlots creation failed";
         assert tasks.isEmpty() : "New TaskList should be empty";
-
-        this.taskCount = 0;
-        assert taskCount == 0 : "New TaskList count should be 0";
-        assert taskCount == tasks.size() : "Count should match list size";
     }
 
     /**
      * Constructs a TaskList with existing tasks.
+     * The list is used as is and may decode its tasks lazily, so it is not asked for its size here.
      *
      * @param tasks Initial list of tasks.
      */
     public TaskList(List<Task> tasks) {
         assert tasks != null : "Initial task list cannot be null";
 
-        this.tasks = tasks;
-        assert this.tasks != null : "ArrayList copy creation failed";
-        assert this.tasks.size() == tasks.size() : "Copy size mismatch";
-
-        this.taskCount = tasks.size();
-        assert taskCount >= 0 : "Task count cannot be negative";
-        assert taskCount == this.tasks.size() : "Count should match list size";
+        this.tasks = new TaskSlots(tasks);
     }
 
     /**
@@ -67,11 +75,23 @@ public class TaskList {
             throw new DataValidationException("");
         }
 
+        startHistory();
+        int sizeBefore = this.tasks.size();
         this.tasks.add(task);
-        this.taskCount++;
+        this.history.recordAdd(task);
+        this.version++;
+        this.duplicateIndex.merge(TaskKey.of(task), 1, Integer::sum);
+        if (this.dateIndex != null) {
+            this.dateIndex.add(task);
+        }
+        if (this.nameIndex != null) {
+            this.nameIndex.add(task);
+        }
+        if (this.counters != null) {
+            this.counters.add(task);
+        }
 
-        assert this.tasks.contains(task) : "Added task not found in list";
-        assert this.taskCount == this.tasks.size() : "Count should match list size";
+        assert this.tasks.size() == sizeBefore + 1 : "List should grow by one";
         assert this.tasks.get(this.tasks.size() - 1) == task : "Task not at expected position";
     }
 
@@ -81,35 +101,16 @@ public class TaskList {
      * - Same type (Todo/Deadline/Event)
      * - Same description
      * - Same dates (if applicable)
+     * The check is a lookup in an index of the tasks' keys, built on first use.
      */
     private boolean isDuplicate(Task newTask) {
-        for (Task existingTask : tasks) {
-            if (existingTask.getClass() != newTask.getClass()) {
-                continue;
-            }
-
-            if (newTask instanceof Todo) {
-                if (existingTask.getName().equals(newTask.getName())) {
-                    return true;
-                }
-            } else if (newTask instanceof Deadline) {
-                Deadline existing = (Deadline) existingTask;
-                Deadline newDeadline = (Deadline) newTask;
-                if (existing.getName().equals(newDeadline.getName())
-                        && existing.getByDate().equals(newDeadline.getByDate())) {
-                    return true;
-                }
-            } else if (newTask instanceof Event) {
-                Event existing = (Event) existingTask;
-                Event newEvent = (Event) newTask;
-                if (existing.getName().equals(newEvent.getName())
-                        && existing.getFromDate().equals(newEvent.getFromDate())
-                        && existing.getToDate().equals(newEvent.getToDate())) {
-                    return true;
-                }
+        if (this.duplicateIndex == null) {
+            this.duplicateIndex = new HashMap<>();
+            for (Task existingTask : tasks) {
+                this.duplicateIndex.merge(TaskKey.of(existingTask), 1, Integer::sum);
             }
         }
-        return false;
+        return this.duplicateIndex.containsKey(TaskKey.of(newTask));
     }
 
     /**
@@ -120,21 +121,72 @@ public class TaskList {
      * @throws OutOfRangeException If the index is out of bounds.
      */
     public Task remove(int index) throws MintelException {
-        boolean isIndexNegative = index < 0;
-        boolean isIndexInTaskList = index >= this.taskCount;
-        boolean isIndexValid = isIndexNegative || isIndexInTaskList;
+        taskAt(tasks, index);
+        startHistory();
+        Task removedTask = tasks.remove(index);
+        history.recordRemove(index);
+        version++;
+        if (duplicateIndex != null) {
+            duplicateIndex.computeIfPresent(TaskKey.of(removedTask), (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (dateIndex != null) {
+            dateIndex.remove(removedTask);
+        }
+        if (nameIndex != null) {
+            nameIndex.remove(removedTask);
+        }
+        if (counters != null) {
+            counters.remove(removedTask);
+        }
+
+        return removedTask;
+    }
 
-        assert taskCount == tasks.size() : "Count mismatch before removal";
+    /**
+     * Removes the tasks at the given indexes in a single pass.
+     * The tasks are cleared from their slots together, and the date and name indexes are dropped
+     * rather than updated when most of the list goes, to be rebuilt on the next query.
+     *
+     * @param indexes The zero-based indexes, sorted and distinct.
+     * @return The removed tasks, in list order.
+     * @throws OutOfRangeException If an index is out of bounds.
+     */
+    public List<Task> removeTasks(int[] indexes) throws MintelException {
+        assert indexes != null : "Indexes cannot be null";
 
-        if (isIndexValid) {
+        if (indexes.length == 0) {
+            return List.of();
+        }
+        if (indexes[0] < 0 || !isIndexIn(this.tasks, indexes[indexes.length - 1])) {
             throw new OutOfRangeException();
         }
-        Task removedTask = tasks.remove(index);
-        taskCount--;
 
-        assert taskCount == tasks.size() : "Count should match list size after removal";
+        int sizeBefore = tasks.size();
+        startHistory();
+        List<Task> removedTasks = tasks.removeAll(indexes);
+        history.recordRemoveAll(indexes);
+        version++;
+        if (removedTasks.size() * 2 >= sizeBefore) {
+            dateIndex = null;
+            nameIndex = null;
+        }
+        for (Task removedTask : removedTasks) {
+            if (duplicateIndex != null) {
+                duplicateIndex.computeIfPresent(TaskKey.of(removedTask), (key, count) -> count > 1 ? count - 1 : null);
+            }
+            if (dateIndex != null) {
+                dateIndex.remove(removedTask);
+            }
+            if (nameIndex != null) {
+                nameIndex.remove(removedTask);
+            }
+            if (counters != null) {
+                counters.remove(removedTask);
+            }
+        }
 
-        return removedTask;
+        assert tasks.size() == sizeBefore - removedTasks.size() : "List should shrink by the removed tasks";
+        return removedTasks;
     }
 
     /**
@@ -145,16 +197,48 @@ public class TaskList {
      * @throws OutOfRangeException If the index is out of bounds.
      */
     public Task get(int index) throws MintelException {
-        boolean isIndexNegative = index < 0;
-        boolean isIndexInTaskList = index >= this.taskCount;
-        boolean isIndexValid = isIndexNegative || isIndexInTaskList;
+        return taskAt(this.tasks, index);
+    }
 
-        assert this.taskCount == this.tasks.size() : "Count mismatch before removal";
+    /**
+     * Gets the task at the specified index of a list of tasks.
+     */
+    static Task taskAt(List<Task> tasks, int index) throws OutOfRangeException {
+        if (index < 0) {
+            throw new OutOfRangeException();
+        }
 
-        if (isIndexValid) {
+        // Let the list check the upper bound itself, as asking a lazily loaded list for its size decodes all of it
+        try {
+            return tasks.get(index);
+        } catch (IndexOutOfBoundsException e) {
             throw new OutOfRangeException();
         }
-        return this.tasks.get(index);
+    }
+
+    /**
+     * Gets the task with the given ID.
+     *
+     * @param id The task's ID.
+     * @return The task.
+     * @throws MintelException If no task in the list has the ID.
+     */
+    public Task getById(long id) throws MintelException {
+        Task task = this.tasks.getById(id);
+        if (task == null) {
+            throw new MintelException("There is no task with ID " + id + "! Meow...");
+        }
+        return task;
+    }
+
+    /**
+     * Returns the current position of the task with the given ID.
+     *
+     * @param id The task's ID.
+     * @return The zero-based index of the task, or -1 if no task in the list has the ID.
+     */
+    public int indexOfId(long id) {
+        return this.tasks.indexOfId(id);
     }
 
     /**
@@ -169,27 +253,192 @@ public class TaskList {
      *                         or if the task's completion status does not match the expected value.
      */
     public void markTask(int index, boolean isDone) throws MintelException {
-        Task task = get(index);
+        this.tasks.pin();
+        Task task = taskAt(this.tasks, index);
         assert task != null : "Task to mark should not be null";
+        startHistory();
 
+        if (this.counters != null) {
+            this.counters.remove(task);
+        }
         if (isDone) {
             task.markAsDone();
         } else {
             task.unmarkAsDone();
         }
+        if (this.counters != null) {
+            this.counters.add(task);
+        }
+        this.history.recordSet(index, task);
+        this.version++;
 
         assert task.getIsDone() == isDone : "Task marking failed: expected " + isDone + " but got " + task.getIsDone();
     }
 
+    /**
+     * Marks or unmarks the tasks at the given indexes as one change.
+     *
+     * @param indexes The zero-based indexes, sorted and distinct.
+     * @param isDone  {@code true} to mark the tasks as done, {@code false} to mark them as not done.
+     * @throws OutOfRangeException If an index is out of bounds, in which case no task is changed.
+     */
+    public void markTasks(int[] indexes, boolean isDone) throws MintelException {
+        assert indexes != null : "Indexes cannot be null";
+
+        if (indexes.length == 0) {
+            return;
+        }
+        if (indexes[0] < 0 || !isIndexIn(this.tasks, indexes[indexes.length - 1])) {
+            throw new OutOfRangeException();
+        }
+
+        this.tasks.pin();
+        startHistory();
+        for (int index : indexes) {
+            Task task = this.tasks.get(index);
+            if (this.counters != null) {
+                this.counters.remove(task);
+            }
+            if (isDone) {
+                task.markAsDone();
+            } else {
+                task.unmarkAsDone();
+            }
+            if (this.counters != null) {
+                this.counters.add(task);
+            }
+        }
+        this.history.recordSetAll(indexes, this.tasks);
+        this.version++;
+    }
+
+    /**
+     * Returns the list to how it was before the last change that has not been undone.
+     * The restored tasks are read from the history as they are needed, and the indexes are rebuilt
+     * on the next query.
+     *
+     * @return The net change the undo made to the list.
+     * @throws MintelException If there is no change to undo.
+     */
+    public TaskSplice undo() throws MintelException {
+        PersistentTaskVector current = this.history.getCurrent();
+        PersistentTaskVector previous = this.history.undo();
+        if (previous == null) {
+            throw new MintelException("Nothing to undo! Meow...");
+        }
+        restore(previous);
+        return TaskSplice.between(current, previous);
+    }
+
+    /**
+     * Makes the last undone change again.
+     *
+     * @return The net change the redo made to the list.
+     * @throws MintelException If there is no undone change, or a change was made since the last undo.
+     */
+    public TaskSplice redo() throws MintelException {
+        PersistentTaskVector current = this.history.getCurrent();
+        PersistentTaskVector next = this.history.redo();
+        if (next == null) {
+            throw new MintelException("Nothing to redo! Meow...");
+        }
+        restore(next);
+        return TaskSplice.between(current, next);
+    }
+
+    /**
+     * Returns how many changes can be undone.
+     *
+     * @return The number of changes.
+     */
+    public int getUndoCount() {
+        return this.history.getUndoCount();
+    }
+
+    /**
+     * Returns how many undone changes can be redone.
+     *
+     * @return The number of changes.
+     */
+    public int getRedoCount() {
+        return this.history.getRedoCount();
+    }
+
+    /**
+     * Sets how much memory the versions kept for undo and redo may use.
+     * The oldest versions are forgotten once the estimate goes over the limit.
+     *
+     * @param maxBytes The limit in bytes, where 0 turns undo off.
+     */
+    public void setHistoryLimit(long maxBytes) {
+        assert maxBytes >= 0 : "History limit cannot be negative";
+        this.history.setMaxBytes(maxBytes);
+    }
+
+    /**
+     * Starts the undo history from the tasks as they are before the first change.
+     */
+    private void startHistory() {
+        if (this.history.isEnabled() && !this.history.isStarted()) {
+            this.tasks.assignIds();
+            this.history.startFrom(this.tasks);
+        }
+    }
+
+    /**
+     * Returns the version the undo history recorded for the tasks as they are now.
+     *
+     * @return The version, or null if the history is not recording.
+     */
+    PersistentTaskVector getRecordedVersion() {
+        return this.history.getCurrent();
+    }
+
+    /**
+     * Returns the tasks as they are now as an immutable vector, giving every task its ID first.
+     * The version recorded by the undo history is returned if there is one, and a new copy otherwise.
+     *
+     * @return The vector.
+     */
+    PersistentTaskVector toVector() {
+        PersistentTaskVector recorded = this.history.getCurrent();
+        if (recorded != null) {
+            return recorded;
+        }
+        this.tasks.assignIds();
+        return PersistentTaskVector.of(this.tasks);
+    }
+
+    /**
+     * Replaces the tasks with a version from the history, dropping the indexes built from the old tasks.
+     */
+    void restore(PersistentTaskVector state) {
+        this.tasks = new TaskSlots(state.copies());
+        this.duplicateIndex = null;
+        this.dateIndex = null;
+        this.nameIndex = null;
+        this.counters = null;
+        this.version++;
+    }
+
+    /**
+     * Returns the modification version of the list.
+     * A new TaskList starts at version 0, and every add, remove or mark increments it.
+     *
+     * @return The current version.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
     /**
      * Returns the number of tasks in the list.
      *
      * @return The number of tasks.
      */
     public int size() {
-        int size = this.taskCount;
+        int size = this.tasks.size();
         assert size >= 0 : "Size cannot be negative: " + size;
-        assert size == this.tasks.size() : "Size mismatch: count=" + this.taskCount + ", list=" + this.tasks.size();
 
         return size;
     }
@@ -200,12 +449,7 @@ public class TaskList {
      * @return true if the list is empty, false otherwise.
      */
     public boolean isEmpty() {
-        boolean empty = this.tasks.isEmpty();
-        boolean countZero = (this.taskCount == 0);
-
-        assert empty == countZero : "Empty state mismatch: list=" + empty + ", count=" + countZero;
-
-        return empty;
+        return this.tasks.isEmpty();
     }
 
     /**
@@ -224,16 +468,113 @@ public class TaskList {
      * @return Formatted string of all tasks, or "Your list is empty!" if empty.
      */
     public String getListString() {
-        if (this.tasks.isEmpty()) {
-            assert this.taskCount == 0 : "Empty list but count > 0";
+        return formatList(this.tasks);
+    }
+
+    /**
+     * Formats every task of a list of tasks under the list header.
+     */
+    static String formatList(List<Task> tasks) {
+        String page = formatPage(tasks, 0, Integer.MAX_VALUE);
+        return page == null ? "Meow~ Your list is empty!" : page;
+    }
+
+    /**
+     * Returns a formatted string of the tasks from one index up to, but excluding, another.
+     * Tasks keep their numbers in the whole list, and a range running past the end stops at the last task.
+     *
+     * @param from The zero-based index of the first task.
+     * @param to   The zero-based index after the last task.
+     * @return Formatted string of the tasks, or "Your list is empty!" if the list is empty.
+     * @throws OutOfRangeException If the list has tasks but none at {@code from}.
+     */
+    public String getListPage(int from, int to) throws OutOfRangeException {
+        return formatListPage(this.tasks, from, to);
+    }
+
+    /**
+     * Formats a page of a list of tasks, as described for {@link #getListPage(int, int)}.
+     */
+    static String formatListPage(List<Task> tasks, int from, int to) throws OutOfRangeException {
+        assert from >= 0 : "Start index cannot be negative: " + from;
+        assert to >= from : "End index cannot be before start index";
+
+        String page = formatPage(tasks, from, to);
+        if (page != null) {
+            return page;
+        }
+        if (tasks.isEmpty()) {
             return "Meow~ Your list is empty!";
         }
+        throw new OutOfRangeException();
+    }
 
-        return Stream.iterate(0, i -> i + 1)
-                .limit(tasks.size())
-                .map(i -> (i + 1) + "." + tasks.get(i))
-                .collect(Collectors.joining("\n",
-                        "MEOWRiffic! Here are the tasks in your list:\n", ""));
+    /**
+     * Formats the tasks in the range under the list header, or returns null if there are none.
+     */
+    private static String formatPage(List<Task> tasks, int from, int to) {
+        StringBuilder sb = new StringBuilder("MEOWRiffic! Here are the tasks in your list:");
+        try {
+            return appendTaskLines(tasks, sb, from, to) > 0 ? sb.toString() : null;
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+    }
+
+    /**
+     * Writes the tasks from one index up to, but excluding, another, each on a new line as "N.task".
+     * Only the tasks written are read, so a lazily loaded list decodes no further than {@code to}.
+     *
+     * @param out  The destination.
+     * @param from The zero-based index of the first task.
+     * @param to   The zero-based index after the last task.
+     * @return The number of tasks written, which is less than requested if the list ends first.
+     * @throws IOException If the destination cannot be written to.
+     */
+    public int appendTasks(Appendable out, int from, int to) throws IOException {
+        return appendTaskLines(this.tasks, out, from, to);
+    }
+
+    /**
+     * Writes a range of a list of tasks, as described for {@link #appendTasks(Appendable, int, int)}.
+     */
+    static int appendTaskLines(List<Task> tasks, Appendable out, int from, int to) throws IOException {
+        assert out != null : "Destination cannot be null";
+        assert from >= 0 : "Start index cannot be negative: " + from;
+
+        int written = 0;
+        for (int i = from; i < to && isIndexIn(tasks, i); i++) {
+            out.append('\n').append(Integer.toString(i + 1)).append('.').append(tasks.get(i).toString());
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * Checks whether the list has a task at the index, reading no further into it than that.
+     *
+     * @param index The zero-based index.
+     * @return true if the index is within the list, false otherwise.
+     */
+    public boolean hasTaskAt(int index) {
+        return isIndexIn(this.tasks, index);
+    }
+
+    /**
+     * Checks whether a list of tasks has a task at the index, reading no further into it than that.
+     */
+    static boolean isIndexIn(List<Task> tasks, int index) {
+        if (index < 0) {
+            return false;
+        }
+
+        // Asking a lazily loaded list for its size decodes all of it, so probe the index instead
+        try {
+            tasks.get(index);
+            return true;
+        } catch (IndexOutOfBoundsException e) {
+            return false;
+        }
     }
 
     /**
@@ -249,35 +590,38 @@ public class TaskList {
             return "";
         }
 
+        return formatFound(queryExecutor.map(getNameIndex().find(keywords), Task::toString));
+    }
+
+    /**
+     * Numbers the found tasks, given as display strings, one per line.
+     */
+    static String formatFound(List<String> tasks) {
         StringBuilder sb = new StringBuilder();
         int counter = 1;
 
-        for (int i = 0; i < this.tasks.size(); i++) {
-            Task task = this.tasks.get(i);
-            assert task != null : "Task at index " + i + " is null";
-
-            String taskName = task.getName();
-            assert taskName != null : "Task name cannot be null";
-            assert !taskName.isEmpty() : "Task name cannot be empty";
-
-            boolean containsAllKeywords = true;
-            for (String keyword : keywords) {
-                assert keyword != null : "Keyword in loop cannot be null";
-                if (!taskName.toLowerCase().contains(keyword.toLowerCase())) {
-                    containsAllKeywords = false;
-                    break;
-                }
-            }
-
-            if (containsAllKeywords) {
-                sb.append(counter).append(".").append(task).append("\n");
-                counter++;
-            }
+        for (String task : tasks) {
+            sb.append(counter).append(".").append(task).append("\n");
+            counter++;
         }
 
         return sb.toString().trim();
     }
 
+    /**
+     * Returns the index of task names by trigram, building it on first use.
+     */
+    private NameIndex getNameIndex() {
+        if (this.nameIndex == null) {
+            this.tasks.pin();
+            this.nameIndex = new NameIndex(this.queryExecutor);
+            for (Task task : this.tasks) {
+                this.nameIndex.add(task);
+            }
+        }
+        return this.nameIndex;
+    }
+
     /**
      * Returns a formatted schedule of all deadlines and events occurring on a specific date.
      *
@@ -288,32 +632,96 @@ public class TaskList {
         assert date != null : "Date cannot be null";
         assert !date.trim().isEmpty() : "Date cannot be empty";
 
-        LocalDate targetDate;
-        try {
-            targetDate = LocalDate.parse(date);
-        } catch (DateTimeParseException e2) {
-            throw new InvalidDateFormatException("");
+        LocalDate targetDate = parseScheduleDate(date);
+        return formatSchedule(date, queryExecutor.map(getDateIndex().findOn(targetDate), Task::toString));
+    }
+
+    /**
+     * Returns a formatted schedule of all deadlines and events from one date to another, both included,
+     * grouped by day in chronological order.
+     *
+     * @param from First date in yyyy-MM-dd format (e.g., "2026-03-15").
+     * @param to   Last date in yyyy-MM-dd format.
+     * @return Formatted schedule string.
+     * @throws MintelException If a date is invalid, or the range is backwards or too long.
+     */
+    public String getScheduleBetween(String from, String to) throws MintelException {
+        assert from != null && to != null : "Dates cannot be null";
+        return getScheduleBetween(parseScheduleDate(from), parseScheduleDate(to));
+    }
+
+    /**
+     * Returns a formatted schedule of all deadlines and events from one date to another, both included,
+     * grouped by day in chronological order.
+     *
+     * @param from First date.
+     * @param to   Last date.
+     * @return Formatted schedule string.
+     * @throws MintelException If the range is backwards or longer than {@link #MAX_SCHEDULE_DAYS} days.
+     */
+    public String getScheduleBetween(LocalDate from, LocalDate to) throws MintelException {
+        checkScheduleRange(from, to);
+
+        NavigableMap<LocalDate, List<Task>> tasksByDay = getDateIndex().findBetween(from, to);
+        return formatScheduleBetween(from, to, tasksByDay);
+    }
+
+    /**
+     * Checks that a schedule range is forwards and not too long.
+     */
+    static void checkScheduleRange(LocalDate from, LocalDate to) throws MintelException {
+        assert from != null && to != null : "Dates cannot be null";
+
+        if (from.isAfter(to)) {
+            throw new DateLogicException("");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_SCHEDULE_DAYS) {
+            throw new MintelException("Please view at most " + MAX_SCHEDULE_DAYS + " days at a time! Meow...");
+        }
+    }
+
+    /**
+     * Formats the schedule for a range of dates from the matching tasks of each day, in chronological order.
+     * Tasks are numbered from 1 again on each day.
+     */
+    static String formatScheduleBetween(LocalDate from, LocalDate to, NavigableMap<LocalDate, List<Task>> tasksByDay) {
+        if (tasksByDay.isEmpty()) {
+            return "Meow~ No deadlines or events scheduled from " + from + " to " + to + ".";
         }
 
+        StringBuilder sb = new StringBuilder();
+        sb.append("MEOWRiffic! Schedule from ").append(from).append(" to ").append(to).append(":\n");
+        for (Map.Entry<LocalDate, List<Task>> day : tasksByDay.entrySet()) {
+            sb.append("\n").append(day.getKey().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH))
+                    .append(", ").append(day.getKey()).append(":\n");
+            int count = 0;
+            for (Task task : day.getValue()) {
+                count++;
+                sb.append(count).append(". ").append(task).append("\n");
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Parses the date of a schedule query.
+     */
+    static LocalDate parseScheduleDate(String date) throws InvalidDateFormatException {
+        return DateParser.parse(date);
+    }
+
+    /**
+     * Formats the schedule for a date from the matching tasks, given as display strings.
+     */
+    static String formatSchedule(String date, List<String> tasks) {
         StringBuilder sb = new StringBuilder();
         sb.append("MEOWRiffic! Schedule for ").append(date).append(":\n");
 
         int count = 0;
 
-        for (Task task : this.tasks) {
-            if (task instanceof Deadline) {
-                Deadline deadline = (Deadline) task;
-                if (deadline.getByDate().equals(targetDate)) {
-                    count++;
-                    sb.append(count).append(". ").append(deadline.toString()).append("\n");
-                }
-            } else if (task instanceof Event) {
-                Event event = (Event) task;
-                if (isDateInRange(targetDate, event.getFromDate(), event.getToDate())) {
-                    count++;
-                    sb.append(count).append(". ").append(event.toString()).append("\n");
-                }
-            }
+        for (String task : tasks) {
+            count++;
+            sb.append(count).append(". ").append(task).append("\n");
         }
 
         if (count == 0) {
@@ -324,15 +732,36 @@ public class TaskList {
     }
 
     /**
-     * Checks if a target date falls within an event's date range (inclusive).
+     * Returns counts of the tasks by type and status, of overdue deadlines and of deadlines due each month.
+     * The counts are kept up to date as the list changes, so this does not depend on the number of tasks
+     * once they have been counted on first use.
      *
-     * @param target The date to check.
-     * @param from   The event start date.
-     * @param to     The event end date.
-     * @return true if target is between from and to (inclusive).
-     */
-    private boolean isDateInRange(LocalDate target, LocalDate from, LocalDate to) {
-        return (target.isEqual(from) || target.isAfter(from))
-                && (target.isEqual(to) || target.isBefore(to));
+     * @param today The current day, before which pending deadlines are overdue.
+     * @return The stats.
+     */
+    public TaskStats getStats(LocalDate today) {
+        assert today != null : "Today cannot be null";
+
+        if (this.counters == null) {
+            this.counters = new TaskCounters();
+            for (Task task : this.tasks) {
+                this.counters.add(task);
+            }
+        }
+        return this.counters.getStats(today);
+    }
+
+    /**
+     * Returns the index of deadlines and events by date, building it on first use.
+     */
+    private DateIndex getDateIndex() {
+        if (this.dateIndex == null) {
+            this.tasks.pin();
+            this.dateIndex = new DateIndex();
+            for (Task task : this.tasks) {
+                this.dateIndex.add(task);
+            }
+        }
+        return this.dateIndex;
     }
 }
@@ -0,0 +1,108 @@
+package mintel.model.tasklist;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import mintel.model.task.Task;
+
+/**
+ * An immutable copy of a task list at one version, which any thread can read without locking.
+ *
+ * <p>The tasks are held in a {@link PersistentTaskVector}, the same structure the undo history keeps its
+ * versions in. A change copies only the nodes on the path to the task it touches, so a new snapshot can
+ * be published after every command, and a version restored by undo or redo can be published as it is.
+ * Tasks read from a snapshot are shared with every later snapshot that did not replace them, which is
+ * why readers must leave them unchanged.
+ */
+public final class TaskListSnapshot extends AbstractList<Task> implements RandomAccess {
+    private final PersistentTaskVector tasks;
+    private final long version;
+
+    /**
+     * Constructs a snapshot of the tasks in a vector.
+     *
+     * @param tasks   The tasks.
+     * @param version The version of the task list they come from.
+     */
+    TaskListSnapshot(PersistentTaskVector tasks, long version) {
+        assert tasks != null : "Tasks cannot be null";
+
+        this.tasks = tasks;
+        this.version = version;
+    }
+
+    /**
+     * Creates a snapshot holding copies of the given tasks.
+     *
+     * @param tasks   The tasks to copy.
+     * @param version The version of the task list they come from.
+     * @return The snapshot.
+     */
+    static TaskListSnapshot of(List<Task> tasks, long version) {
+        return new TaskListSnapshot(PersistentTaskVector.of(tasks), version);
+    }
+
+    /**
+     * Returns the version of the task list this snapshot was taken at.
+     *
+     * @return The version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    /**
+     * Returns a snapshot with a copy of the task appended.
+     */
+    TaskListSnapshot withAdded(Task task, long newVersion) {
+        return new TaskListSnapshot(tasks.withAdded(task), newVersion);
+    }
+
+    /**
+     * Returns a snapshot with the task at the index replaced by a copy of the given task.
+     */
+    TaskListSnapshot withReplaced(int index, Task task, long newVersion) {
+        return new TaskListSnapshot(tasks.with(index, task), newVersion);
+    }
+
+    /**
+     * Returns a snapshot without the task at the index.
+     */
+    TaskListSnapshot withRemoved(int index, long newVersion) {
+        return new TaskListSnapshot(tasks.withRemoved(index), newVersion);
+    }
+
+    /**
+     * Returns a snapshot without the tasks at the given indexes, which must be sorted and distinct.
+     */
+    TaskListSnapshot withRemovedAll(int[] sortedIndexes, long newVersion) {
+        PersistentTaskVector next = tasks;
+        // Removing from the back keeps the earlier indexes valid
+        for (int i = sortedIndexes.length - 1; i >= 0; i--) {
+            next = next.withRemoved(sortedIndexes[i]);
+        }
+        return new TaskListSnapshot(next, newVersion);
+    }
+
+    /**
+     * Returns a snapshot with the tasks at the given indexes replaced by copies of the given tasks.
+     */
+    TaskListSnapshot withReplacedAll(int[] sortedIndexes, List<Task> tasks, long newVersion) {
+        PersistentTaskVector next = this.tasks;
+        for (int i = 0; i < sortedIndexes.length; i++) {
+            next = next.with(sortedIndexes[i], tasks.get(i));
+        }
+        return new TaskListSnapshot(next, newVersion);
+    }
+}
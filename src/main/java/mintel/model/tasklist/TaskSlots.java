@@ -0,0 +1,329 @@
+package mintel.model.tasklist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import mintel.model.task.Task;
+
+/**
+ * Holds the tasks of a TaskList in slots that do not move when a task is deleted.
+ *
+ * <p>Deleting a task leaves a tombstone in its slot instead of shifting every later task. A Fenwick tree
+ * counts the live slots, so finding the task at a list position, or the position of a slot, takes
+ * O(log n). The slots are compacted once tombstones outnumber live tasks, which keeps the cost of
+ * deleting amortised O(log n). Every task carries a stable ID, and a hash index maps IDs to slots.
+ *
+ * <p>A list handed over by storage may decode its tasks lazily, or keep them in columns. It is read through
+ * as is until the first change or ID lookup, and only then copied into slots, at which point tasks without
+ * an ID get one.
+ */
+class TaskSlots extends AbstractList<Task> implements RandomAccess {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_COMPACTION_SIZE = 64;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private List<Task> source;
+    private Task[] slots;
+    private int[] tree;
+    private int slotCount;
+    private int liveCount;
+    private long nextId = 1;
+
+    /**
+     * Constructs a TaskSlots over existing tasks.
+     *
+     * @param source The tasks, which are read through until the first change.
+     */
+    TaskSlots(List<Task> source) {
+        assert source != null : "Source list cannot be null";
+        this.source = source;
+    }
+
+    @Override
+    public Task get(int index) {
+        if (source != null) {
+            return source.get(index);
+        }
+        if (index < 0 || index >= liveCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + liveCount);
+        }
+        return slots[findSlot(index)];
+    }
+
+    @Override
+    public int size() {
+        return source != null ? source.size() : liveCount;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source != null ? source.isEmpty() : liveCount == 0;
+    }
+
+    @Override
+    public Iterator<Task> iterator() {
+        if (source != null) {
+            return source.iterator();
+        }
+
+        return new Iterator<>() {
+            private int slot = nextLive(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < slotCount;
+            }
+
+            @Override
+            public Task next() {
+                if (slot >= slotCount) {
+                    throw new NoSuchElementException();
+                }
+                Task task = slots[slot];
+                slot = nextLive(slot + 1);
+                return task;
+            }
+        };
+    }
+
+    /**
+     * Appends a task, giving it a new ID unless it already has one that is not in use.
+     */
+    @Override
+    public boolean add(Task task) {
+        assert task != null : "Task cannot be null";
+
+        materialize();
+        if (task.getId() == 0 || slotsById.containsKey(task.getId())) {
+            task.setId(nextId);
+        }
+        nextId = Math.max(nextId, task.getId() + 1);
+
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, slotCount * 2);
+            tree = Arrays.copyOf(tree, slotCount * 2 + 1);
+        }
+        slots[slotCount] = task;
+        int node = slotCount + 1;
+        // A Fenwick node covers the slots after node - lowbit(node), all of which are already counted
+        tree[node] = 1 + prefixCount(node - 1) - prefixCount(node - (node & -node));
+        slotsById.put(task.getId(), slotCount);
+        slotCount++;
+        liveCount++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the task at the list position by leaving a tombstone in its slot.
+     */
+    @Override
+    public Task remove(int index) {
+        materialize();
+        if (index < 0 || index >= liveCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + liveCount);
+        }
+
+        int slot = findSlot(index);
+        Task task = slots[slot];
+        slots[slot] = null;
+        for (int node = slot + 1; node <= slotCount; node += node & -node) {
+            tree[node]--;
+        }
+        slotsById.remove(task.getId());
+        liveCount--;
+        modCount++;
+
+        int tombstoneCount = slotCount - liveCount;
+        if (tombstoneCount >= MIN_COMPACTION_SIZE && tombstoneCount >= liveCount) {
+            compact();
+        }
+        return task;
+    }
+
+    /**
+     * Removes the tasks at the given list positions together.
+     * Every slot is found before any is cleared, and the tree is then updated or rebuilt once.
+     *
+     * @param indexes The positions, sorted and distinct.
+     * @return The removed tasks, in list order.
+     */
+    List<Task> removeAll(int[] indexes) {
+        materialize();
+        int[] cleared = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            assert i == 0 || indexes[i] > indexes[i - 1] : "Indexes must be sorted and distinct";
+            if (indexes[i] < 0 || indexes[i] >= liveCount) {
+                throw new IndexOutOfBoundsException("Index " + indexes[i] + " out of bounds for length "
+                        + liveCount);
+            }
+            cleared[i] = findSlot(indexes[i]);
+        }
+
+        List<Task> removed = new ArrayList<>(indexes.length);
+        for (int slot : cleared) {
+            removed.add(slots[slot]);
+            slotsById.remove(slots[slot].getId());
+            slots[slot] = null;
+        }
+        liveCount -= indexes.length;
+        modCount++;
+
+        int tombstoneCount = slotCount - liveCount;
+        if (tombstoneCount >= MIN_COMPACTION_SIZE && tombstoneCount >= liveCount) {
+            compact();
+        } else if ((long) cleared.length * (32 - Integer.numberOfLeadingZeros(slotCount)) >= slotCount) {
+            // Rebuilding in O(n) is cheaper than O(log n) for each of this many slots
+            buildTree();
+        } else {
+            for (int slot : cleared) {
+                for (int node = slot + 1; node <= slotCount; node += node & -node) {
+                    tree[node]--;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the task with the given ID, or null if there is none.
+     */
+    Task getById(long id) {
+        materialize();
+        Integer slot = slotsById.get(id);
+        return slot == null ? null : slots[slot];
+    }
+
+    /**
+     * Returns the list position of the task with the given ID, or -1 if there is none.
+     */
+    int indexOfId(long id) {
+        materialize();
+        Integer slot = slotsById.get(id);
+        return slot == null ? -1 : prefixCount(slot + 1) - 1;
+    }
+
+    /**
+     * Copies the tasks into slots now if the source builds a new Task on every read, as a
+     * {@link CompactTaskStore} or a restored {@link PersistentTaskVector} does, so that tasks read
+     * from here can be changed and indexed.
+     */
+    void pin() {
+        if (source instanceof CompactTaskStore || source instanceof PersistentTaskVector.CopyingView) {
+            materialize();
+        }
+    }
+
+    /**
+     * Copies the source list into slots now, so that every task has its ID.
+     */
+    void assignIds() {
+        materialize();
+    }
+
+    /**
+     * Copies the source list into slots and gives every task a unique ID.
+     */
+    private void materialize() {
+        if (source == null) {
+            return;
+        }
+
+        int count = source.size();
+        slots = source.toArray(new Task[Math.max(MIN_CAPACITY, count)]);
+        for (int i = 0; i < count; i++) {
+            nextId = Math.max(nextId, slots[i].getId() + 1);
+        }
+        for (int i = 0; i < count; i++) {
+            Task task = slots[i];
+            if (task.getId() == 0 || slotsById.containsKey(task.getId())) {
+                task.setId(nextId++);
+            }
+            slotsById.put(task.getId(), i);
+        }
+
+        slotCount = count;
+        liveCount = count;
+        source = null;
+        buildTree();
+    }
+
+    /**
+     * Moves the live tasks to the front of a new slot array and rebuilds the tree and ID index.
+     */
+    private void compact() {
+        Task[] live = new Task[Math.max(MIN_CAPACITY, liveCount * 2)];
+        slotsById.clear();
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                live[next] = slots[slot];
+                slotsById.put(live[next].getId(), next);
+                next++;
+            }
+        }
+        assert next == liveCount : "Live task count out of sync";
+
+        slots = live;
+        slotCount = liveCount;
+        buildTree();
+    }
+
+    /**
+     * Builds the Fenwick tree over the current slots in O(n).
+     */
+    private void buildTree() {
+        tree = new int[slots.length + 1];
+        for (int node = 1; node <= slotCount; node++) {
+            tree[node] += slots[node - 1] != null ? 1 : 0;
+            int parent = node + (node & -node);
+            if (parent <= slotCount) {
+                tree[parent] += tree[node];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of live tasks in the first {@code count} slots.
+     */
+    private int prefixCount(int count) {
+        int sum = 0;
+        for (int node = count; node > 0; node -= node & -node) {
+            sum += tree[node];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the slot holding the live task at the list position, descending the tree from its top.
+     */
+    private int findSlot(int index) {
+        int node = 0;
+        int remaining = index + 1;
+        for (int step = Integer.highestOneBit(slotCount); step > 0; step >>= 1) {
+            int next = node + step;
+            if (next <= slotCount && tree[next] < remaining) {
+                node = next;
+                remaining -= tree[next];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the first slot from the given one on that holds a live task, or slotCount if none does.
+     */
+    private int nextLive(int slot) {
+        while (slot < slotCount && slots[slot] == null) {
+            slot++;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,78 @@
+package mintel.model.tasklist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import mintel.model.task.Task;
+
+/**
+ * The net change between two versions of a task list: a run of tasks removed from one position, and
+ * the tasks put in their place.
+ *
+ * <p>Undo and redo return one of these, so that the change can be journaled like any other instead of
+ * saving the whole list. The run is found by skipping the tasks at either end that the two versions
+ * share, so a version one command away gives a run no longer than what that command touched, apart
+ * from a bulk change, whose run reaches from its first task to its last.
+ */
+public final class TaskSplice {
+    private final int start;
+    private final int removedCount;
+    private final List<Task> inserted;
+
+    private TaskSplice(int start, int removedCount, List<Task> inserted) {
+        this.start = start;
+        this.removedCount = removedCount;
+        this.inserted = inserted;
+    }
+
+    /**
+     * Finds the change that turns one version into another.
+     *
+     * @param before The version before the change.
+     * @param after  The version after the change.
+     * @return The change.
+     */
+    static TaskSplice between(PersistentTaskVector before, PersistentTaskVector after) {
+        assert before != null && after != null : "Versions cannot be null";
+
+        int prefix = before.sharedPrefixLength(after);
+        // The shared ends must not overlap, as when a task is removed next to an equal one
+        int suffix = Math.min(before.sharedSuffixLength(after), Math.min(before.size(), after.size()) - prefix);
+
+        int insertedEnd = after.size() - suffix;
+        List<Task> inserted = new ArrayList<>(insertedEnd - prefix);
+        for (int i = prefix; i < insertedEnd; i++) {
+            inserted.add(after.get(i));
+        }
+        return new TaskSplice(prefix, before.size() - suffix - prefix, Collections.unmodifiableList(inserted));
+    }
+
+    /**
+     * Returns the zero-based index of the first task removed or inserted.
+     *
+     * @return The index.
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns how many tasks were removed from the start index.
+     *
+     * @return The number of tasks.
+     */
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    /**
+     * Returns the tasks inserted at the start index, which are shared with the undo history and must not
+     * be changed.
+     *
+     * @return The tasks, possibly none.
+     */
+    public List<Task> getInserted() {
+        return inserted;
+    }
+}
@@ -0,0 +1,130 @@
+package mintel.model.tasklist;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.SortedMap;
+
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+
+/**
+ * Counts of the tasks in a TaskList at one moment: how many of each type there are and are done,
+ * how many deadlines are overdue, and how many deadlines are due in each month.
+ */
+public final class TaskStats {
+    /**
+     * The kinds of task that are counted separately.
+     */
+    public enum Type {
+        TODO, DEADLINE, EVENT;
+
+        /**
+         * Returns the type of a task.
+         *
+         * @param task The task.
+         * @return Its type.
+         */
+        public static Type of(Task task) {
+            assert task != null : "Task cannot be null";
+
+            if (task instanceof Deadline) {
+                return DEADLINE;
+            } else if (task instanceof Event) {
+                return EVENT;
+            }
+            return TODO;
+        }
+    }
+
+    private final int[] counts;
+    private final int[] doneCounts;
+    private final int overdueCount;
+    private final SortedMap<YearMonth, Integer> deadlinesByMonth;
+    private final SortedMap<YearMonth, Integer> doneDeadlinesByMonth;
+
+    TaskStats(int[] counts, int[] doneCounts, int overdueCount, SortedMap<YearMonth, Integer> deadlinesByMonth,
+            SortedMap<YearMonth, Integer> doneDeadlinesByMonth) {
+        assert counts.length == Type.values().length : "One count is needed for each type";
+        assert doneCounts.length == Type.values().length : "One done count is needed for each type";
+
+        this.counts = counts;
+        this.doneCounts = doneCounts;
+        this.overdueCount = overdueCount;
+        this.deadlinesByMonth = Collections.unmodifiableSortedMap(deadlinesByMonth);
+        this.doneDeadlinesByMonth = Collections.unmodifiableSortedMap(doneDeadlinesByMonth);
+    }
+
+    /**
+     * Returns the number of tasks.
+     *
+     * @return The total count.
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of tasks that are done.
+     *
+     * @return The done count.
+     */
+    public int getDoneCount() {
+        int total = 0;
+        for (int count : doneCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of tasks of a type.
+     *
+     * @param type The type.
+     * @return The count.
+     */
+    public int getCount(Type type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of tasks of a type that are done.
+     *
+     * @param type The type.
+     * @return The done count.
+     */
+    public int getDoneCount(Type type) {
+        return doneCounts[type.ordinal()];
+    }
+
+    /**
+     * Returns the number of deadlines that are not done and were due before the day the stats were taken.
+     *
+     * @return The overdue count.
+     */
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    /**
+     * Returns the number of deadlines due in each month, for the months that have any.
+     *
+     * @return The counts by month, in chronological order.
+     */
+    public SortedMap<YearMonth, Integer> getDeadlinesByMonth() {
+        return deadlinesByMonth;
+    }
+
+    /**
+     * Returns the number of done deadlines due in each month, for the months that have any.
+     *
+     * @return The counts by month, in chronological order.
+     */
+    public SortedMap<YearMonth, Integer> getDoneDeadlinesByMonth() {
+        return doneDeadlinesByMonth;
+    }
+}
@@ -0,0 +1,131 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a file by filling a sibling temporary file and then renaming it over the target,
+ * so readers only ever see the old file or the complete new one.
+ *
+ * <p>Usage: write the contents, call {@link #finish()} to flush and force them to disk,
+ * then {@link #commit()} to replace the target. Closing without committing deletes the temporary file.
+ */
+class AtomicFileWriter extends OutputStream {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path target;
+    private final Path tempPath;
+    private final DurabilityPolicy policy;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean isFinished;
+    private boolean isCommitted;
+
+    /**
+     * Opens a temporary file next to the target for writing.
+     *
+     * @param target The file to replace once writing is complete.
+     * @param policy How to force the data to disk before the rename.
+     * @throws IOException If the temporary file cannot be created.
+     */
+    AtomicFileWriter(Path target, DurabilityPolicy policy) throws IOException {
+        assert target != null : "Target path cannot be null";
+        assert policy != null : "Durability policy cannot be null";
+
+        this.target = target;
+        this.tempPath = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        this.policy = policy;
+
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        this.channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drainBuffer();
+        }
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > buffer.remaining()) {
+            drainBuffer();
+        }
+        if (length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes, offset, length));
+            return;
+        }
+        buffer.put(bytes, offset, length);
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+
+    /**
+     * Writes out buffered data, forces it to disk according to the policy and closes the temporary file.
+     *
+     * @throws IOException If the data cannot be written.
+     */
+    void finish() throws IOException {
+        assert !isFinished : "Writer already finished";
+
+        drainBuffer();
+        policy.force(channel);
+        channel.close();
+        isFinished = true;
+    }
+
+    /**
+     * Replaces the target with the finished temporary file.
+     *
+     * @throws IOException If the rename fails.
+     */
+    void commit() throws IOException {
+        assert isFinished : "Writer must be finished before committing";
+
+        try {
+            Files.move(tempPath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        isCommitted = true;
+    }
+
+    /**
+     * Discards the temporary file unless it has been committed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!isFinished) {
+            channel.close();
+        }
+        if (!isCommitted) {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskList;
+
+/**
+ * Keeps the tasks in a single task file and nothing else: no journal and no binary snapshot.
+ * The file is read with one channel read into a buffer and rewritten through a buffered channel
+ * on every change, replacing the old file atomically.
+ * Suited to small lists, or to deployments where a single plain file is easier to manage.
+ */
+public class BufferedNioTaskStore implements TaskStore {
+    private final Path path;
+    private final List<String> warnings;
+    private DurabilityPolicy durabilityPolicy;
+    private int reportedWarningCount;
+    private boolean hasInvalidLines;
+    private long lastSavedVersion;
+
+    /**
+     * Constructs a BufferedNioTaskStore for the given task file.
+     *
+     * @param filePath The path to the task file.
+     */
+    public BufferedNioTaskStore(String filePath) {
+        assert filePath != null : "File path cannot be null";
+        assert !filePath.trim().isEmpty() : "File path cannot be empty";
+
+        this.path = Paths.get(filePath);
+        this.warnings = new ArrayList<>();
+        this.durabilityPolicy = DurabilityPolicy.FDATASYNC;
+    }
+
+    /**
+     * Sets how hard saves try to get the data onto the disk before replacing the old file.
+     *
+     * @param durabilityPolicy The policy used for every subsequent save.
+     */
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        assert durabilityPolicy != null : "Durability policy cannot be null";
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    @Override
+    public List<Task> loadTasks() throws MintelException {
+        warnings.clear();
+        reportedWarningCount = 0;
+        lastSavedVersion = 0;
+
+        List<Task> tasks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new MintelException("Task file is too large! Meow...");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            new TaskFileReader(path).readRange(buffer, 0, buffer.position(), 1,
+                    new TaskFileParser(warnings), tasks);
+        } catch (NoSuchFileException e) {
+            return tasks;
+        } catch (IOException e) {
+            throw new MintelException(e.getMessage() + " Meow...");
+        }
+
+        hasInvalidLines = !warnings.isEmpty();
+        TaskFileParser.addSummaryWarning(warnings, tasks);
+        return tasks;
+    }
+
+    @Override
+    public List<String> takeNewWarnings() {
+        List<String> newWarnings = new ArrayList<>(warnings.subList(reportedWarningCount, warnings.size()));
+        reportedWarningCount = warnings.size();
+        return newWarnings;
+    }
+
+    @Override
+    public void saveTasks(List<Task> tasks) throws IOException {
+        assert tasks != null : "Task list to save cannot be null";
+
+        try (AtomicFileWriter writer = new AtomicFileWriter(path, durabilityPolicy)) {
+            new TaskCodec().writeAll(tasks, writer);
+            writer.finish();
+            writer.commit();
+        }
+        hasInvalidLines = false;
+    }
+
+    @Override
+    public void appendMutation(TaskMutation mutation, TaskList tasks) throws IOException {
+        assert mutation != null : "Mutation to append cannot be null";
+        assert tasks != null : "Task list cannot be null";
+
+        saveTasks(tasks.getAllTasks());
+        lastSavedVersion = tasks.getVersion();
+    }
+
+    @Override
+    public void saveIfDirty(TaskList tasks) throws IOException {
+        assert tasks != null : "Task list cannot be null";
+
+        if (hasInvalidLines || tasks.getVersion() != lastSavedVersion) {
+            saveTasks(tasks.getAllTasks());
+            lastSavedVersion = tasks.getVersion();
+        }
+    }
+
+    @Override
+    public void checkpoint(TaskList tasks) throws IOException {
+        saveIfDirty(tasks);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
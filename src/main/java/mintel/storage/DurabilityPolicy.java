@@ -0,0 +1,35 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * How hard a save tries to get its data onto the disk before the new file replaces the old one.
+ */
+public enum DurabilityPolicy {
+    /** Leave flushing to the operating system. Fastest, but a power loss may lose the last save. */
+    NONE,
+    /** Force the file contents, but not necessarily its metadata, to the disk. */
+    FDATASYNC,
+    /** Force both the file contents and its metadata to the disk. */
+    FSYNC;
+
+    /**
+     * Forces the channel's data to the disk as this policy requires.
+     *
+     * @param channel The channel that was written to.
+     * @throws IOException If the data cannot be forced to the disk.
+     */
+    void force(FileChannel channel) throws IOException {
+        switch (this) {
+        case FDATASYNC:
+            channel.force(false);
+            break;
+        case FSYNC:
+            channel.force(true);
+            break;
+        default:
+            break;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package mintel.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * How the task file and binary snapshot are compressed on disk, chosen by the task file's extension.
+ * Compressed files are read and written as streams, so neither side ever holds the whole file.
+ */
+public enum FileCompression {
+    /** Plain files, e.g. list_of_task.txt. */
+    NONE(""),
+    /** Gzip-compressed files, e.g. list_of_task.txt.gz. */
+    GZIP(".gz");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String extension;
+
+    FileCompression(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the compression used for the given task file.
+     *
+     * @param filePath The path to the task file.
+     * @return GZIP if the path ends with .gz, NONE otherwise.
+     */
+    public static FileCompression forPath(String filePath) {
+        assert filePath != null : "File path cannot be null";
+        return filePath.endsWith(GZIP.extension) ? GZIP : NONE;
+    }
+
+    /**
+     * Returns the extension added after the uncompressed file's extension, e.g. ".gz".
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Wraps a stream over the file's bytes into a stream of the uncompressed contents.
+     *
+     * @param in The stream to read the file from.
+     * @return A stream of the uncompressed contents.
+     * @throws IOException If the compressed header cannot be read.
+     */
+    InputStream wrapInput(InputStream in) throws IOException {
+        if (this == GZIP) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+
+    /**
+     * Wraps a stream to the file into a stream that compresses what is written to it.
+     * Call {@link #finish(OutputStream)} on the result before finishing the underlying stream.
+     *
+     * @param out The stream to write the file to.
+     * @return A stream to write the uncompressed contents to.
+     * @throws IOException If the compressed header cannot be written.
+     */
+    OutputStream wrapOutput(OutputStream out) throws IOException {
+        if (this == GZIP) {
+            return new GzipOutput(out);
+        }
+        return out;
+    }
+
+    /**
+     * Writes out everything still held by a stream from {@link #wrapOutput(OutputStream)}, without
+     * closing the underlying stream.
+     *
+     * @param wrapped The wrapped stream.
+     * @throws IOException If the remaining data cannot be written.
+     */
+    void finish(OutputStream wrapped) throws IOException {
+        if (wrapped instanceof GzipOutput) {
+            ((GzipOutput) wrapped).finish();
+        }
+    }
+
+    /**
+     * Batches small writes before they reach the compressor, which is costly to call per line.
+     */
+    private static class GzipOutput extends BufferedOutputStream {
+        GzipOutput(OutputStream out) throws IOException {
+            super(new GZIPOutputStream(out, BUFFER_SIZE), BUFFER_SIZE);
+        }
+
+        void finish() throws IOException {
+            flush();
+            ((GZIPOutputStream) out).finish();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package mintel.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskList;
+
+/**
+ * Keeps the saved tasks in memory only, for tests, benchmarks and sessions that need no persistence.
+ * Saved tasks are copied, so later changes to the live list only show up once they are saved or appended.
+ */
+public class InMemoryTaskStore implements TaskStore {
+    private final List<Task> savedTasks;
+    private long lastSavedVersion;
+    private long saveCount;
+
+    /**
+     * Constructs an empty InMemoryTaskStore.
+     */
+    public InMemoryTaskStore() {
+        this.savedTasks = new ArrayList<>();
+        this.lastSavedVersion = 0;
+        this.saveCount = 0;
+    }
+
+    /**
+     * Returns how many times the whole task list was saved.
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    @Override
+    public List<Task> loadTasks() {
+        lastSavedVersion = 0;
+        return copyOf(savedTasks);
+    }
+
+    @Override
+    public List<String> takeNewWarnings() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void saveTasks(List<Task> tasks) {
+        assert tasks != null : "Task list to save cannot be null";
+
+        savedTasks.clear();
+        savedTasks.addAll(copyOf(tasks));
+        saveCount++;
+    }
+
+    @Override
+    public void appendMutation(TaskMutation mutation, TaskList tasks) {
+        assert mutation != null : "Mutation to append cannot be null";
+        assert tasks != null : "Task list cannot be null";
+
+        try {
+            mutation.applyTo(savedTasks);
+        } catch (MintelException e) {
+            saveTasks(tasks.getAllTasks());
+        }
+        lastSavedVersion = tasks.getVersion();
+    }
+
+    @Override
+    public void saveIfDirty(TaskList tasks) {
+        assert tasks != null : "Task list cannot be null";
+
+        if (tasks.getVersion() != lastSavedVersion) {
+            saveTasks(tasks.getAllTasks());
+            lastSavedVersion = tasks.getVersion();
+        }
+    }
+
+    @Override
+    public void checkpoint(TaskList tasks) {
+        saveIfDirty(tasks);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static List<Task> copyOf(List<Task> tasks) {
+        List<Task> copy = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            copy.add(task.copy());
+        }
+        return copy;
+    }
+}
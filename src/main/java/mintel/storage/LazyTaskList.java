@@ -0,0 +1,173 @@
+package mintel.storage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import mintel.model.task.Task;
+
+/**
+ * A task list backed by the raw records of a loaded file, decoded into Tasks only when they are reached.
+ *
+ * <p>Records are always decoded in file order, so an invalid record is dropped before any later
+ * index is handed out and every index refers to the same task as it would after an eager load.
+ * Looking up task 3 decodes only the first few records; asking for the size, iterating or inserting
+ * in the middle decodes the rest. Tasks appended before the file is fully decoded are held apart
+ * and placed after the file's tasks once it is.
+ */
+class LazyTaskList extends AbstractList<Task> implements RandomAccess {
+    /**
+     * Decodes a single raw record.
+     */
+    interface RecordDecoder {
+        /**
+         * Decodes the record in the given byte range, adding its task to the list or, if the
+         * record is invalid, a warning instead.
+         *
+         * @param start  The offset of the first byte of the record.
+         * @param end    The offset just past the last byte of the record.
+         * @param number The 1-based line or record number, used in warnings.
+         * @param tasks  The list to add the task to.
+         */
+        void decode(int start, int end, int number, List<Task> tasks);
+    }
+
+    private final ArrayList<Task> decoded;
+    private final ArrayList<Task> appended;
+    private RecordIndex index;
+    private RecordDecoder decoder;
+    private int nextRecord;
+    private int skippedCount;
+
+    /**
+     * Constructs a LazyTaskList over the indexed records.
+     *
+     * @param index   The byte ranges of the records.
+     * @param decoder Decodes a record into a task.
+     */
+    LazyTaskList(RecordIndex index, RecordDecoder decoder) {
+        assert index != null : "Record index cannot be null";
+        assert decoder != null : "Record decoder cannot be null";
+
+        this.decoded = new ArrayList<>();
+        this.appended = new ArrayList<>();
+        this.index = index;
+        this.decoder = decoder;
+        this.nextRecord = 0;
+        this.skippedCount = 0;
+        releaseIfDone();
+    }
+
+    /**
+     * Returns how many records have been found invalid and dropped so far.
+     */
+    int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Returns whether every record has been decoded.
+     */
+    boolean isFullyDecoded() {
+        return index == null;
+    }
+
+    @Override
+    public Task get(int i) {
+        return decoded.get(locate(i));
+    }
+
+    @Override
+    public Task set(int i, Task task) {
+        return decoded.set(locate(i), task);
+    }
+
+    @Override
+    public boolean add(Task task) {
+        if (isFullyDecoded()) {
+            decoded.add(task);
+        } else {
+            appended.add(task);
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int i, Task task) {
+        decodeAll();
+        decoded.add(i, task);
+        modCount++;
+    }
+
+    @Override
+    public Task remove(int i) {
+        Task removed = decoded.remove(locate(i));
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        decodeAll();
+        return decoded.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        decodeUpTo(0);
+        return decoded.isEmpty() && appended.isEmpty();
+    }
+
+    /**
+     * Decodes records until the given position exists in the decoded tasks, or all records if it does not.
+     *
+     * @return The position, now valid in the decoded tasks unless it is out of range.
+     */
+    private int locate(int i) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Index: " + i);
+        }
+        decodeUpTo(i);
+        if (i >= decoded.size()) {
+            decodeAll();
+        }
+        return i;
+    }
+
+    private void decodeUpTo(int i) {
+        while (decoded.size() <= i && !isFullyDecoded()) {
+            decodeNext();
+        }
+    }
+
+    private void decodeAll() {
+        while (!isFullyDecoded()) {
+            decodeNext();
+        }
+    }
+
+    private void decodeNext() {
+        int sizeBefore = decoded.size();
+        decoder.decode(index.getStart(nextRecord), index.getEnd(nextRecord), index.getNumber(nextRecord), decoded);
+        if (decoded.size() == sizeBefore) {
+            skippedCount++;
+        }
+        nextRecord++;
+        releaseIfDone();
+    }
+
+    /**
+     * Moves appended tasks behind the file's tasks and lets go of the raw file once every record is decoded.
+     */
+    private void releaseIfDone() {
+        if (nextRecord < index.size()) {
+            return;
+        }
+        decoded.addAll(appended);
+        appended.clear();
+        index = null;
+        decoder = null;
+    }
+}
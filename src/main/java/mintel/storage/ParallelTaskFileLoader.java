@@ -0,0 +1,177 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import mintel.model.task.Task;
+
+/**
+ * Loads a task file on several threads by splitting it into byte ranges that start on a line.
+ * The file is read into memory once, and only the parsing is split.
+ * Every range is parsed with the same rules as the sequential loader, and the tasks and warnings
+ * of all ranges are merged back in file order with their original line numbers.
+ */
+class ParallelTaskFileLoader {
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path path;
+    private final int parallelism;
+
+    /**
+     * Constructs a ParallelTaskFileLoader.
+     *
+     * @param path        The path to the task file.
+     * @param parallelism The number of worker threads and ranges, at least 1.
+     */
+    ParallelTaskFileLoader(Path path, int parallelism) {
+        assert path != null : "Path cannot be null";
+        assert parallelism > 0 : "Parallelism must be positive";
+
+        this.path = path;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Parses the whole file into tasks.
+     *
+     * @param tasks    The list to add the tasks to, in file order.
+     * @param warnings The list to add warnings to, in file order.
+     * @throws IOException If the file cannot be read or a worker fails.
+     */
+    void load(List<Task> tasks, List<String> warnings) throws IOException {
+        ByteBuffer buffer = new TaskFileReader(path).readAll();
+        int[] bounds = splitIntoRanges(buffer);
+        int rangeCount = bounds.length - 1;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int[] firstLineNumbers = countLineStarts(pool, buffer, bounds);
+
+            List<Callable<Chunk>> jobs = new ArrayList<>();
+            for (int i = 0; i < rangeCount; i++) {
+                int index = i;
+                jobs.add(() -> parseRange(buffer, bounds[index], bounds[index + 1], firstLineNumbers[index]));
+            }
+
+            for (Future<Chunk> future : pool.invokeAll(jobs)) {
+                Chunk chunk = future.get();
+                tasks.addAll(chunk.tasks);
+                warnings.addAll(chunk.warnings);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Loading was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Splits the buffer into ranges that each end just after a newline, or at the end of the file.
+     *
+     * @return The range boundaries; range i is [bounds[i], bounds[i + 1]).
+     */
+    private int[] splitIntoRanges(ByteBuffer buffer) {
+        int size = buffer.limit();
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+
+        for (int i = 1; i < parallelism; i++) {
+            int target = (int) ((long) size * i / parallelism);
+            int previous = bounds.get(bounds.size() - 1);
+            if (target <= previous) {
+                continue;
+            }
+
+            int boundary = findLineStart(buffer, target, size);
+            if (boundary > previous && boundary < size) {
+                bounds.add(boundary);
+            }
+        }
+        bounds.add(size);
+
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the offset just after the first newline at or after the given offset.
+     */
+    private int findLineStart(ByteBuffer buffer, int from, int size) {
+        for (int pos = from; pos < size; pos++) {
+            if (buffer.get(pos) == NEWLINE) {
+                return pos + 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Counts the line breaks of every range in parallel and turns them into the line number
+     * that each range starts on.
+     */
+    private int[] countLineStarts(ForkJoinPool pool, ByteBuffer buffer, int[] bounds)
+            throws InterruptedException, ExecutionException {
+        int rangeCount = bounds.length - 1;
+        List<Callable<Integer>> jobs = new ArrayList<>();
+        for (int i = 0; i < rangeCount; i++) {
+            int index = i;
+            jobs.add(() -> countLineBreaks(buffer, bounds[index], bounds[index + 1]));
+        }
+
+        int[] firstLineNumbers = new int[rangeCount];
+        int lineNumber = 1;
+        List<Future<Integer>> counts = pool.invokeAll(jobs);
+        for (int i = 0; i < rangeCount; i++) {
+            firstLineNumbers[i] = lineNumber;
+            lineNumber += counts.get(i).get();
+        }
+        return firstLineNumbers;
+    }
+
+    /**
+     * Counts line breaks the same way {@link TaskFileReader} does, treating \r\n as one.
+     */
+    private int countLineBreaks(ByteBuffer buffer, int start, int end) {
+        int count = 0;
+        for (int pos = start; pos < end; pos++) {
+            byte b = buffer.get(pos);
+            if (b == NEWLINE) {
+                count++;
+            } else if (b == CARRIAGE_RETURN) {
+                count++;
+                if (pos + 1 < end && buffer.get(pos + 1) == NEWLINE) {
+                    pos++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Parses a single range on the calling worker thread.
+     */
+    private Chunk parseRange(ByteBuffer buffer, int start, int end, int firstLineNumber) {
+        Chunk chunk = new Chunk();
+        TaskFileParser parser = new TaskFileParser(chunk.warnings);
+        new TaskFileReader(path).readRange(buffer, start, end, firstLineNumber, parser, chunk.tasks);
+        return chunk;
+    }
+
+    /**
+     * Tasks and warnings produced from one range.
+     */
+    private static class Chunk {
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<String> warnings = new ArrayList<>();
+    }
+}
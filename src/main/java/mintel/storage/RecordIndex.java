@@ -0,0 +1,63 @@
+package mintel.storage;
+
+import java.util.Arrays;
+
+/**
+ * Byte ranges of the raw records in a loaded file, kept as parallel int arrays so that indexing
+ * a large file costs a few bytes per record instead of a Task object.
+ */
+class RecordIndex {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] starts;
+    private int[] ends;
+    private int[] numbers;
+    private int count;
+
+    /**
+     * Constructs an empty RecordIndex.
+     */
+    RecordIndex() {
+        this.starts = new int[INITIAL_CAPACITY];
+        this.ends = new int[INITIAL_CAPACITY];
+        this.numbers = new int[INITIAL_CAPACITY];
+        this.count = 0;
+    }
+
+    /**
+     * Adds a record.
+     *
+     * @param start  The offset of the first byte of the record.
+     * @param end    The offset just past the last byte of the record.
+     * @param number The 1-based line or record number, used in warnings.
+     */
+    void add(int start, int end, int number) {
+        assert start >= 0 && start <= end : "Invalid record range";
+
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+            numbers = Arrays.copyOf(numbers, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        numbers[count] = number;
+        count++;
+    }
+
+    int size() {
+        return count;
+    }
+
+    int getStart(int record) {
+        return starts[record];
+    }
+
+    int getEnd(int record) {
+        return ends[record];
+    }
+
+    int getNumber(int record) {
+        return numbers[record];
+    }
+}
@@ -1,9 +1,16 @@
 package mintel.storage;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -11,39 +18,69 @@ import java.util.Scanner;
 import mintel.exception.FileOperationException;
 import mintel.exception.MintelException;
 import mintel.model.task.Task;
+import mintel.model.tasklist.TaskList;
 
 /**
  * Handles loading and saving of tasks to/from a file.
  * Manages file existence checks and format validation.
+ * Individual changes are appended to a {@link TaskJournal} and folded back into the
+ * task file every {@code checkpointInterval} changes, on {@link #checkpoint(TaskList)} and on close.
+ * A binary snapshot is written next to the task file and preferred on load while it is up to date.
+ * Saves can optionally be moved to a background thread with {@link #enableWriteBehind(Object, long)}.
+ * With lazy loading enabled, tasks are only decoded from the loaded file when they are first reached,
+ * and warnings about invalid lines appear as those lines are reached.
+ * A task file named with a .gz extension, e.g. list_of_task.txt.gz, is gzip-compressed together with
+ * its binary snapshot; compressed files are always loaded eagerly, as a stream.
  */
-public class Storage {
-    private static final String TASK_TYPE_TODO = "T";
-    private static final int TODO_EXPECTED_PARTS = 3;
-    private static final int TODO_EXPECTED_PIPE_COUNT = 2;
-
-    private static final String TASK_TYPE_DEADLINE = "D";
-    private static final int DEADLINE_EXPECTED_PARTS = 4;
-    private static final int DEADLINE_EXPECTED_PIPE_COUNT = 3;
-
-    private static final String TASK_TYPE_EVENT = "E";
-    private static final int EVENT_EXPECTED_PARTS = 5;
-    private static final int EVENT_EXPECTED_PIPE_COUNT = 4;
+public class Storage implements TaskStore {
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String BINARY_SNAPSHOT_EXTENSION = ".bin";
+    private static final long PARALLEL_LOAD_MIN_BYTES = 4L * 1024 * 1024;
 
     private final String filePath;
+    private final FileCompression compression;
+    private final Path binarySnapshotPath;
+    private final TaskSnapshotCodec snapshotCodec;
+    private final TaskJournal journal;
     private List<String> warnings;
+    private int checkpointInterval;
+    private int loadParallelism;
+    private DurabilityPolicy durabilityPolicy;
+    private boolean isSnapshotStale;
+    private WriteBehindSaver writeBehindSaver;
+    private boolean isLazyLoading;
+    private LazyTaskList lazyTasks;
+    private TaskList lastTasks;
+    private int reportedWarningCount;
+    private long lastPersistedVersion;
+    private long performedSaveCount;
+    private long skippedSaveCount;
 
     /**
      * Constructs a Storage instance with the specified file path.
      *
-     * @param filePath The path to the task storage file.
+     * @param filePath The path to the task storage file, ending with .txt or, to compress it, .txt.gz.
      */
     public Storage(String filePath) {
         assert filePath != null : "Storage file path cannot be null";
         assert !filePath.trim().isEmpty() : "Storage file path cannot be empty";
-        assert filePath.endsWith(".txt") : "Storage file should be a .txt file: " + filePath;
 
         this.filePath = filePath;
+        this.compression = FileCompression.forPath(filePath);
+        String textPath = filePath.substring(0, filePath.length() - compression.getExtension().length());
+        assert textPath.endsWith(TEXT_EXTENSION) : "Storage file should be a .txt or .txt.gz file: " + filePath;
+
+        String basePath = textPath.substring(0, textPath.length() - TEXT_EXTENSION.length());
+        this.binarySnapshotPath = Paths.get(basePath + BINARY_SNAPSHOT_EXTENSION + compression.getExtension());
+        this.snapshotCodec = new TaskSnapshotCodec(compression);
+        this.journal = new TaskJournal(textPath);
         this.warnings = new ArrayList<>();
+        this.checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        this.loadParallelism = Runtime.getRuntime().availableProcessors();
+        this.durabilityPolicy = DurabilityPolicy.FDATASYNC;
+        this.isSnapshotStale = false;
+        this.isLazyLoading = false;
         assert this.filePath.equals(filePath) : "File path not stored correctly";
     }
 
@@ -54,30 +91,157 @@ public class Storage {
         return warnings;
     }
 
+    /**
+     * Returns the warnings added since this method was last called or tasks were last loaded.
+     * With lazy loading, warnings about invalid lines keep arriving as the lines are reached, possibly
+     * by the write-behind saver, so with write-behind enabled this must be called under the task lock.
+     *
+     * @return The new warnings, possibly empty.
+     */
+    public List<String> takeNewWarnings() {
+        List<String> newWarnings = new ArrayList<>(warnings.subList(reportedWarningCount, warnings.size()));
+        reportedWarningCount = warnings.size();
+        return newWarnings;
+    }
+
+    /**
+     * Sets whether {@link #loadTasks()} decodes tasks only when they are first reached.
+     * Loading then costs one read of the file and an index of its records, regardless of how many
+     * tasks there are, but the number of valid tasks is not known until they have all been reached.
+     *
+     * @param isLazyLoading true to load lazily.
+     */
+    public void setLazyLoading(boolean isLazyLoading) {
+        this.isLazyLoading = isLazyLoading;
+    }
+
+    /**
+     * Sets how many journal records may accumulate before the task file is rewritten.
+     *
+     * @param checkpointInterval The maximum number of journal records, at least 1.
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        assert checkpointInterval > 0 : "Checkpoint interval must be positive";
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Sets how many threads may be used to parse large task files.
+     * A value of 1 always parses on the calling thread.
+     *
+     * @param loadParallelism The number of worker threads, at least 1.
+     */
+    public void setLoadParallelism(int loadParallelism) {
+        assert loadParallelism > 0 : "Load parallelism must be positive";
+        this.loadParallelism = loadParallelism;
+    }
+
+    /**
+     * Sets how hard saves try to get the data onto the disk before replacing the old files.
+     *
+     * @param durabilityPolicy The policy used for every subsequent save.
+     */
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        assert durabilityPolicy != null : "Durability policy cannot be null";
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
     /**
      * Loads tasks from the storage file with error recovery.
      * If a line has invalid format, it's skipped and warning is stored.
+     * The binary snapshot is used instead of the file when it is at least as new as the file.
+     * Changes recorded in the journal are replayed on top of the file.
      *
      * @return A list of valid tasks loaded from the file.
      * @throws FileOperationException If critical file access issues occur.
      */
-    public ArrayList<Task> loadTasks() throws MintelException {
+    public List<Task> loadTasks() throws MintelException {
         assert filePath != null : "File path must be initialized";
 
-        ArrayList<Task> tasks = new ArrayList<>();
         File taskFile = new File(filePath);
         warnings.clear();
+        reportedWarningCount = 0;
 
-        if (!fileExists(taskFile)) {
-            return tasks;
-        }
+        lazyTasks = isLazyLoading ? loadLazily(taskFile) : null;
+        List<Task> tasks = lazyTasks != null ? lazyTasks : loadEagerly(taskFile);
 
-        processFileLines(taskFile, tasks);
+        journal.replay(tasks, warnings, snapshotCodec.readJournalGeneration(binarySnapshotPath));
+        isSnapshotStale = !warnings.isEmpty();
+        lastPersistedVersion = 0;
+
+        TaskFileParser.addSummaryWarning(warnings, tasks);
+        return tasks;
+    }
 
-        addSummaryWarning(tasks.size());
+    /**
+     * Decodes every task from the binary snapshot, or from the task file if the snapshot cannot be used.
+     */
+    private ArrayList<Task> loadEagerly(File taskFile) throws MintelException {
+        ArrayList<Task> tasks = loadBinarySnapshot(taskFile);
+        if (tasks == null) {
+            tasks = new ArrayList<>();
+            if (fileExists(taskFile)) {
+                processFileLines(taskFile, tasks);
+            }
+        }
         return tasks;
     }
 
+    /**
+     * Indexes the binary snapshot, or the task file if the snapshot is missing, out of date or corrupted.
+     *
+     * @return A list that decodes tasks as they are reached, or null if the file should be loaded eagerly.
+     */
+    private LazyTaskList loadLazily(File taskFile) {
+        if (compression != FileCompression.NONE) {
+            return null;
+        }
+        if (isBinarySnapshotCurrent(taskFile)) {
+            try {
+                return snapshotCodec.readLazily(binarySnapshotPath, warnings);
+            } catch (IOException | MintelException e) {
+                // Fall back to the task file
+            }
+        }
+
+        try {
+            if (!fileExists(taskFile) || !TaskFileReader.fitsInBuffer(taskFile.toPath())) {
+                return null;
+            }
+            return new TaskFileReader(taskFile.toPath()).readLazily(new TaskFileParser(warnings));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Loads the binary snapshot if it exists and is not older than the task file.
+     *
+     * @return The tasks in the snapshot, or null if the task file should be read instead.
+     */
+    private ArrayList<Task> loadBinarySnapshot(File taskFile) {
+        if (!isBinarySnapshotCurrent(taskFile)) {
+            return null;
+        }
+
+        try {
+            return snapshotCodec.read(binarySnapshotPath);
+        } catch (IOException | MintelException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the binary snapshot exists and is not older than the task file.
+     */
+    private boolean isBinarySnapshotCurrent(File taskFile) {
+        File snapshotFile = binarySnapshotPath.toFile();
+        if (!snapshotFile.exists()) {
+            return false;
+        }
+        return !fileExists(taskFile) || snapshotFile.lastModified() >= taskFile.lastModified();
+    }
+
     /**
      * Checks if file exists.
      */
@@ -87,8 +251,33 @@ public class Storage {
 
     /**
      * Processes each line in the file.
+     * Files that fit in a single buffer are read through {@link TaskFileReader}, split across
+     * several threads by {@link ParallelTaskFileLoader} when they are large; bigger files fall back to
+     * reading line by line. Compressed files are decompressed and parsed line by line as they are read.
      */
     private void processFileLines(File taskFile, ArrayList<Task> tasks) throws MintelException {
+        TaskFileParser parser = new TaskFileParser(warnings);
+
+        try {
+            if (compression != FileCompression.NONE) {
+                processCompressedFileLines(taskFile, parser, tasks);
+            } else if (!TaskFileReader.fitsInBuffer(taskFile.toPath())) {
+                processFileLinesWithScanner(taskFile, parser, tasks);
+            } else if (loadParallelism > 1 && taskFile.length() >= PARALLEL_LOAD_MIN_BYTES) {
+                new ParallelTaskFileLoader(taskFile.toPath(), loadParallelism).load(tasks, warnings);
+            } else {
+                new TaskFileReader(taskFile.toPath()).read(parser, tasks);
+            }
+        } catch (IOException e) {
+            throw new MintelException(e.getMessage() + " Meow...");
+        }
+    }
+
+    /**
+     * Processes each line in the file using a Scanner.
+     */
+    private void processFileLinesWithScanner(File taskFile, TaskFileParser parser, ArrayList<Task> tasks)
+            throws FileNotFoundException {
         int lineNumber = 0;
 
         try (Scanner scanner = new Scanner(taskFile)) {
@@ -100,194 +289,235 @@ public class Storage {
                     continue;
                 }
 
-                processLine(line, lineNumber, tasks);
+                parser.parseLine(line, lineNumber, tasks);
             }
-        } catch (FileNotFoundException e) {
-            throw new MintelException(e.getMessage() + " Meow...");
         }
     }
 
     /**
-     * Processes a single line from the file.
+     * Processes each line of a compressed file while it is being decompressed.
      */
-    private void processLine(String line, int lineNumber, ArrayList<Task> tasks) {
-        String[] parts = splitAndTrimLine(line);
+    private void processCompressedFileLines(File taskFile, TaskFileParser parser, ArrayList<Task> tasks)
+            throws IOException {
+        int lineNumber = 0;
 
-        if (hasBlankFields(parts, line, lineNumber)) {
-            return;
-        }
+        try (InputStream file = Files.newInputStream(taskFile.toPath());
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(compression.wrapInput(file), StandardCharsets.UTF_8))) {
+            String rawLine;
+            while ((rawLine = reader.readLine()) != null) {
+                lineNumber++;
+                String line = rawLine.trim();
 
-        if (!isValidTaskFormat(parts, line, lineNumber)) {
-            return;
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                parser.parseLine(line, lineNumber, tasks);
+            }
         }
+    }
+
+    /**
+     * Records a single change to the task list.
+     * The change is appended to the journal, unless the journal is due for a checkpoint or the
+     * task file still holds invalid lines, in which case the whole list is saved instead.
+     *
+     * @param mutation The change that was just applied to the tasks.
+     * @param tasks    The task list after the change.
+     * @throws IOException If there's an error writing to the journal or the file.
+     */
+    public void appendMutation(TaskMutation mutation, TaskList tasks) throws IOException {
+        assert mutation != null : "Mutation to append cannot be null";
+        assert tasks != null : "Task list cannot be null";
 
-        parseAndAddTask(line, lineNumber, tasks);
+        if (hasInvalidLines() || journal.getRecordCount() >= checkpointInterval) {
+            saveTaskList(tasks);
+        } else {
+            journal.append(mutation);
+        }
+        lastTasks = tasks;
+        lastPersistedVersion = tasks.getVersion();
     }
 
     /**
-     * Splits line by pipe delimiter and trims each part.
+     * Saves the whole task list and waits for it, if the journal holds changes the task file does not,
+     * the list changed since it was last persisted, or the file still holds invalid lines.
+     * Afterwards the task file and binary snapshot hold the list on their own, with an empty journal.
+     *
+     * @param tasks The task list.
+     * @throws IOException If there's an error writing to the file.
      */
-    private String[] splitAndTrimLine(String line) {
-        String[] parts = line.split("\\|", -1);
-        for (int i = 0; i < parts.length; i++) {
-            parts[i] = parts[i].trim();
+    public void checkpoint(TaskList tasks) throws IOException {
+        assert tasks != null : "Task list cannot be null";
+
+        if (journal.hasUnsavedRecords() || hasInvalidLines() || tasks.getVersion() != lastPersistedVersion) {
+            saveTaskList(tasks);
+            lastPersistedVersion = tasks.getVersion();
         }
-        return parts;
+        flush();
     }
 
     /**
-     * Checks for blank fields in the line.
+     * Saves the tasks only if they changed since they were last persisted, or if the task file still
+     * holds invalid lines. Read-only commands therefore cost no I/O.
+     * The tasks are assumed to be the list returned by the last {@link #loadTasks()}, wrapped in a new TaskList.
+     *
+     * @param tasks The task list to save.
+     * @throws IOException If there's an error writing to the file.
      */
-    private boolean hasBlankFields(String[] parts, String line, int lineNumber) {
-        for (int i = 0; i < parts.length; i++) {
-            if (parts[i].isEmpty()) {
-                addBlankFieldWarning(line, lineNumber, i + 1);
-                return true;
-            }
+    public void saveIfDirty(TaskList tasks) throws IOException {
+        assert tasks != null : "Task list cannot be null";
+
+        lastTasks = tasks;
+        if (!hasInvalidLines() && tasks.getVersion() == lastPersistedVersion) {
+            skippedSaveCount++;
+            return;
         }
-        return false;
+
+        saveTaskList(tasks);
+        lastPersistedVersion = tasks.getVersion();
+        performedSaveCount++;
     }
 
     /**
-     * Adds warning for blank field.
+     * Checks if the files on disk still hold lines that were skipped when loading.
      */
-    private void addBlankFieldWarning(String line, int lineNumber, int position) {
-        warnings.add("Meow~ Skipping invalid line " + lineNumber + ": " + line);
-        warnings.add("  └─ Empty field at position " + position);
+    private boolean hasInvalidLines() {
+        return isSnapshotStale || (lazyTasks != null && lazyTasks.getSkippedCount() > 0);
     }
 
     /**
-     * Validates task format based on task type.
+     * Returns how many times {@link #saveIfDirty(TaskList)} wrote the tasks.
      */
-    private boolean isValidTaskFormat(String[] parts, String line, int lineNumber) {
-        String taskType = parts[0];
-        int pipeCount = parts.length - 1;
-
-        if (taskType.equals(TASK_TYPE_TODO)) {
-            return validateTodoFormat(parts, pipeCount, line, lineNumber);
-        } else if (taskType.equals(TASK_TYPE_DEADLINE)) {
-            return validateDeadlineFormat(parts, pipeCount, line, lineNumber);
-        } else if (taskType.equals(TASK_TYPE_EVENT)) {
-            return validateEventFormat(parts, pipeCount, line, lineNumber);
-        } else {
-            addUnknownTypeWarning(line, lineNumber, taskType);
-            return false;
-        }
+    public long getPerformedSaveCount() {
+        return performedSaveCount;
     }
 
     /**
-     * Validates Todo task format.
+     * Returns how many times {@link #saveIfDirty(TaskList)} found nothing to write.
      */
-    private boolean validateTodoFormat(String[] parts, int pipeCount, String line, int lineNumber) {
-        if (pipeCount != TODO_EXPECTED_PIPE_COUNT || parts.length != TODO_EXPECTED_PARTS) {
-            addFormatWarning(line, lineNumber, "Todo", TODO_EXPECTED_PARTS);
-            return false;
-        }
-        return true;
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
     }
 
     /**
-     * Validates Deadline task format.
+     * Saves tasks to the storage file and the binary snapshot, then clears the journal.
+     * Both files are replaced atomically, so a crash leaves either the old or the new version.
+     * With write-behind enabled, the save is only scheduled and happens on a background thread.
+     *
+     * @param tasks The list of tasks to save.
+     * @throws IOException If there's an error writing to the file.
      */
-    private boolean validateDeadlineFormat(String[] parts, int pipeCount, String line, int lineNumber) {
-        if (pipeCount != DEADLINE_EXPECTED_PIPE_COUNT || parts.length != DEADLINE_EXPECTED_PARTS) {
-            addFormatWarning(line, lineNumber, "Deadline", DEADLINE_EXPECTED_PARTS);
-            return false;
+    public void saveTasks(List<Task> tasks) throws IOException {
+        assert tasks != null : "Task list to save cannot be null";
+        assert filePath != null : "File path must be initialized";
+
+        if (writeBehindSaver != null) {
+            writeBehindSaver.requestSave(() -> tasks);
+            return;
         }
-        return true;
+
+        long generation = rotateJournal();
+        writeSnapshotFiles(tasks, generation);
+        discardJournalUpTo(generation);
     }
 
     /**
-     * Validates Event task format.
+     * Saves a task list like {@link #saveTasks(List)}. With write-behind enabled, the saver reads the
+     * list's tasks only when the save runs, so it writes the latest snapshot of a ConcurrentTaskList,
+     * and the latest tasks of a list that undo has replaced, rather than those at the time of the request.
      */
-    private boolean validateEventFormat(String[] parts, int pipeCount, String line, int lineNumber) {
-        if (pipeCount != EVENT_EXPECTED_PIPE_COUNT || parts.length != EVENT_EXPECTED_PARTS) {
-            addFormatWarning(line, lineNumber, "Event", EVENT_EXPECTED_PARTS);
-            return false;
+    private void saveTaskList(TaskList tasks) throws IOException {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.requestSave(tasks::getAllTasks);
+            return;
         }
-        return true;
+        saveTasks(tasks.getAllTasks());
     }
 
     /**
-     * Adds warning for incorrect format.
+     * Switches saving to a background thread that folds bursts of saves into a single write.
+     * Everything that changes the task list must hold {@code taskLock} while doing so.
+     *
+     * @param taskLock           The lock guarding the task list.
+     * @param maxStalenessMillis The longest time a save may be delayed.
      */
-    private void addFormatWarning(String line, int lineNumber, String taskType, int expectedParts) {
-        warnings.add("Meow~ Skipping invalid line " + lineNumber + ": " + line);
-        warnings.add("  └─ " + taskType + " should have " + expectedParts + " fields");
+    public void enableWriteBehind(Object taskLock, long maxStalenessMillis) {
+        assert writeBehindSaver == null : "Write-behind is already enabled";
+        this.writeBehindSaver = new WriteBehindSaver(this, taskLock, maxStalenessMillis);
     }
 
     /**
-     * Adds warning for unknown task type.
+     * Writes any save that is still pending and waits until it is on disk.
+     *
+     * @throws IOException If the pending or an earlier background save failed.
      */
-    private void addUnknownTypeWarning(String line, int lineNumber, String taskType) {
-        warnings.add("Meow~ Skipping invalid line " + lineNumber + ": " + line);
-        warnings.add("  └─ Unknown task type: " + taskType);
+    public void flush() throws IOException {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.flush();
+        }
     }
 
     /**
-     * Parses line and adds task to list.
+     * Folds the journal back into the task file, flushes pending saves and releases the background
+     * thread, if any.
+     *
+     * @throws IOException If the final save fails.
      */
-    private void parseAndAddTask(String line, int lineNumber, ArrayList<Task> tasks) {
+    public void close() throws IOException {
         try {
-            Task task = Task.fromFileString(line);
-            tasks.add(task);
-        } catch (MintelException e) {
-            addParseWarning(line, lineNumber, e.getMessage());
+            if (lastTasks != null && journal.hasUnsavedRecords()) {
+                checkpoint(lastTasks);
+            }
+        } finally {
+            if (writeBehindSaver != null) {
+                writeBehindSaver.close();
+            }
         }
     }
 
     /**
-     * Adds warning for parsing error.
+     * Moves the current journal aside before a background save copies the task list.
+     *
+     * @return The journal generation covered by the copy.
      */
-    private void addParseWarning(String line, int lineNumber, String errorMessage) {
-        warnings.add("Meow~ Skipping invalid line " + lineNumber + ": " + line);
-        warnings.add("  └─ " + errorMessage);
+    long rotateJournal() throws IOException {
+        isSnapshotStale = false;
+        lazyTasks = null;
+        return journal.rotate();
     }
 
     /**
-     * Adds summary warning at the end.
+     * Deletes journal generations that a completed background save already contains.
      */
-    private void addSummaryWarning(int taskCount) {
-        if (!warnings.isEmpty()) {
-            warnings.add(0, "Meow~ Found " + (warnings.size() / 2) + " issue(s) in file:");
-            warnings.add("Loaded " + taskCount + " valid tasks.");
-            warnings.add("Invalid Tasks will be removed once a valid command is given!");
-        }
+    void discardJournalUpTo(long generation) throws IOException {
+        journal.discardUpTo(generation);
     }
 
     /**
-     * Saves tasks to the storage file.
+     * Writes the task file and the binary snapshot through temporary files and renames them into place.
+     * The snapshot is renamed first: if a crash happens in between, the newer snapshot is loaded and its
+     * journal generation stops the already contained journal records from being replayed again.
      *
-     * @param tasks The list of tasks to save.
-     * @throws IOException If there's an error writing to the file.
+     * @param tasks      The tasks to write.
+     * @param generation The newest journal generation contained in the tasks.
      */
-    public void saveTasks(List<Task> tasks) throws IOException {
-        assert tasks != null : "Task list to save cannot be null";
-        assert filePath != null : "File path must be initialized";
-
-        File dataDir = new File("./data");
-        assert dataDir != null : "Data directory object creation failed";
-
-        if (!dataDir.exists()) {
-            boolean created = dataDir.mkdirs();
-            assert created : "Failed to create data directory: ./data";
-            assert dataDir.exists() : "Data directory still doesn't exist after creation";
-            assert dataDir.isDirectory() : "./data is not a directory";
-        }
-
-        assert dataDir.canWrite() : "Cannot write to data directory";
-
-        FileWriter fw = new FileWriter(filePath);
-        assert fw != null : "FileWriter creation failed";
-
-        for (Task task : tasks) {
-            String line = task.toStringFile();
-            assert line != null : "Task.toStringFile() returned null";
-            assert !line.isEmpty() : "Task.toStringFile() returned empty string";
-            assert line.contains("|") : "Task string should contain pipe delimiter: " + line;
-
-            fw.write(line + "\n");
+    void writeSnapshotFiles(List<Task> tasks, long generation) throws IOException {
+        try (AtomicFileWriter textWriter = new AtomicFileWriter(Paths.get(filePath), durabilityPolicy);
+                OutputStream textOutput = compression.wrapOutput(textWriter);
+                AtomicFileWriter binaryWriter = new AtomicFileWriter(binarySnapshotPath, durabilityPolicy);
+                OutputStream binaryOutput = compression.wrapOutput(binaryWriter)) {
+            new TaskCodec().writeAll(tasks, textOutput);
+            compression.finish(textOutput);
+            textWriter.finish();
+
+            snapshotCodec.write(tasks, binaryOutput, generation);
+            compression.finish(binaryOutput);
+            binaryWriter.finish();
+
+            binaryWriter.commit();
+            textWriter.commit();
         }
-        fw.close();
     }
 }
@@ -0,0 +1,305 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import mintel.exception.InvalidDateFormatException;
+import mintel.exception.MintelException;
+import mintel.model.task.DateParser;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.StringInterner;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Encodes tasks as lines of the task file and decodes them back, without building intermediate Strings.
+ *
+ * <p>Encoding writes the UTF-8 bytes of a line straight into a reusable buffer, producing exactly the
+ * bytes of {@code task.toStringFile() + "\n"}. Decoding reads the fields of a line in place from any
+ * CharSequence: pipes are found in one pass, fields are trimmed by moving indexes, dates are parsed from
+ * their slices, and only the task name is copied out into a String, unless an equal name has been
+ * read before and can be shared through {@link StringInterner}.
+ *
+ * <p>A TaskCodec reuses its buffers between calls, so each thread needs its own.
+ */
+class TaskCodec {
+    private static final char PIPE = '|';
+    private static final String DELIMITER = " | ";
+    private static final int FROM_PREFIX_LENGTH = "From:".length();
+    private static final int TO_PREFIX_LENGTH = "To:".length();
+    private static final int TODO_FIELDS = 3;
+    private static final int DEADLINE_FIELDS = 4;
+    private static final int EVENT_FIELDS = 5;
+    private static final int MAX_FIELDS = EVENT_FIELDS;
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private final int[] fieldStarts = new int[MAX_FIELDS];
+    private final int[] fieldEnds = new int[MAX_FIELDS];
+    private int firstBlankField;
+    private ByteBuffer buffer;
+
+    /**
+     * Writes tasks to a stream as task file lines, one line per task.
+     *
+     * @param tasks The tasks.
+     * @param out   The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    void writeAll(Iterable<Task> tasks, OutputStream out) throws IOException {
+        assert tasks != null && out != null : "Tasks and stream cannot be null";
+
+        // Allocated on first use, as most codecs only ever decode
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        }
+        buffer.clear();
+        for (Task task : tasks) {
+            int maxLength = maxEncodedLength(task);
+            if (buffer.remaining() < maxLength) {
+                flush(out);
+                if (buffer.capacity() < maxLength) {
+                    buffer = ByteBuffer.allocate(maxLength);
+                }
+            }
+            encode(task, buffer);
+        }
+        flush(out);
+    }
+
+    /**
+     * Encodes a task as a task file line ending in a line break.
+     *
+     * @param task The task.
+     * @param out  The buffer to write the UTF-8 bytes to, which must have room for them.
+     */
+    static void encode(Task task, ByteBuffer out) {
+        assert task != null : "Task cannot be null";
+
+        if (task instanceof Deadline) {
+            out.put((byte) 'D');
+        } else if (task instanceof Event) {
+            out.put((byte) 'E');
+        } else {
+            out.put((byte) 'T');
+        }
+        putAscii(out, DELIMITER);
+        out.put((byte) (task.getIsDone() ? '1' : '0'));
+        putAscii(out, DELIMITER);
+        putUtf8(out, task.getName());
+
+        if (task instanceof Deadline) {
+            putAscii(out, DELIMITER);
+            putAscii(out, DateParser.format(((Deadline) task).getByDate()));
+        } else if (task instanceof Event) {
+            Event event = (Event) task;
+            putAscii(out, DELIMITER);
+            putAscii(out, "From: ");
+            putAscii(out, DateParser.format(event.getFromDate()));
+            putAscii(out, DELIMITER);
+            putAscii(out, "To: ");
+            putAscii(out, DateParser.format(event.getToDate()));
+        }
+        out.put((byte) '\n');
+    }
+
+    /**
+     * Returns an upper bound on the number of bytes {@link #encode} writes for a task.
+     */
+    static int maxEncodedLength(Task task) {
+        return 64 + MAX_BYTES_PER_CHAR * task.getName().length();
+    }
+
+    /**
+     * Decodes the task on a line, or on part of a longer text.
+     * Spaces around the line and around each field are ignored, as by {@link String#trim()}.
+     *
+     * @param line  The text containing the line.
+     * @param start The index of the first character of the line.
+     * @param end   The index just past the last character of the line, excluding any line break.
+     * @return The task.
+     * @throws MintelException If the line is not a valid task, with a message describing the problem.
+     */
+    Task decode(CharSequence line, int start, int end) throws MintelException {
+        assert line != null : "Line cannot be null";
+        assert 0 <= start && start <= end && end <= line.length() : "Invalid line range";
+
+        int fieldCount = splitFields(line, start, end);
+        if (firstBlankField >= 0) {
+            throw new MintelException("Empty field at position " + (firstBlankField + 1));
+        }
+
+        char type = fieldLength(0) == 1 ? line.charAt(fieldStarts[0]) : 0;
+        switch (type) {
+        case 'T':
+            checkFieldCount(fieldCount, "Todo", TODO_FIELDS);
+            break;
+        case 'D':
+            checkFieldCount(fieldCount, "Deadline", DEADLINE_FIELDS);
+            break;
+        case 'E':
+            checkFieldCount(fieldCount, "Event", EVENT_FIELDS);
+            break;
+        default:
+            throw new MintelException("Unknown task type: " + field(line, 0));
+        }
+
+        boolean isDone = fieldLength(1) == 1 && line.charAt(fieldStarts[1]) == '1';
+        String name = StringInterner.intern(line, fieldStarts[2], fieldEnds[2]);
+        Task task;
+        if (type == 'D') {
+            task = new Deadline(name, parseDate(line, fieldStarts[3], fieldEnds[3]));
+        } else if (type == 'E') {
+            if (fieldLength(3) < FROM_PREFIX_LENGTH || fieldLength(4) < TO_PREFIX_LENGTH) {
+                throw new MintelException("Invalid event format");
+            }
+            LocalDate from = parseDate(line, fieldStarts[3] + FROM_PREFIX_LENGTH, fieldEnds[3]);
+            LocalDate to = parseDate(line, fieldStarts[4] + TO_PREFIX_LENGTH, fieldEnds[4]);
+            task = new Event(name, from, to);
+        } else {
+            task = new Todo(name);
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        return task;
+    }
+
+    /**
+     * Decodes the task on a whole line.
+     *
+     * @param line The line, without its line break.
+     * @return The task.
+     * @throws MintelException If the line is not a valid task.
+     */
+    Task decode(CharSequence line) throws MintelException {
+        return decode(line, 0, line.length());
+    }
+
+    /**
+     * Returns how many pipe-separated fields a task file line of the given type has, type letter included.
+     *
+     * @param type The type letter.
+     * @return The number of fields, or -1 if the letter is not a task type.
+     */
+    static int fieldCountOf(String type) {
+        switch (type) {
+        case "T":
+            return TODO_FIELDS;
+        case "D":
+            return DEADLINE_FIELDS;
+        case "E":
+            return EVENT_FIELDS;
+        default:
+            return -1;
+        }
+    }
+
+    /**
+     * Records the trimmed bounds of each pipe-separated field of the line, and the first blank field.
+     *
+     * @return The number of fields, which is one more than the number of pipes.
+     */
+    private int splitFields(CharSequence line, int start, int end) {
+        int fieldCount = 0;
+        int fieldStart = start;
+        firstBlankField = -1;
+        for (int pos = start; pos <= end; pos++) {
+            if (pos < end && line.charAt(pos) != PIPE) {
+                continue;
+            }
+            int trimmedStart = skipLeadingSpace(line, fieldStart, pos);
+            int trimmedEnd = skipTrailingSpace(line, trimmedStart, pos);
+            if (trimmedStart == trimmedEnd && firstBlankField < 0) {
+                firstBlankField = fieldCount;
+            }
+            if (fieldCount < MAX_FIELDS) {
+                fieldStarts[fieldCount] = trimmedStart;
+                fieldEnds[fieldCount] = trimmedEnd;
+            }
+            fieldCount++;
+            fieldStart = pos + 1;
+        }
+        return fieldCount;
+    }
+
+    private void checkFieldCount(int fieldCount, String taskType, int expectedFields) throws MintelException {
+        if (fieldCount != expectedFields) {
+            throw new MintelException(taskType + " should have " + expectedFields + " fields");
+        }
+    }
+
+    private int fieldLength(int field) {
+        return fieldEnds[field] - fieldStarts[field];
+    }
+
+    private String field(CharSequence line, int field) {
+        return line.subSequence(fieldStarts[field], fieldEnds[field]).toString();
+    }
+
+    private static LocalDate parseDate(CharSequence line, int start, int end) throws InvalidDateFormatException {
+        int trimmedStart = skipLeadingSpace(line, start, end);
+        LocalDate date = DateParser.parseOrNull(line, trimmedStart, skipTrailingSpace(line, trimmedStart, end));
+        if (date == null) {
+            throw new InvalidDateFormatException("");
+        }
+        return date;
+    }
+
+    private static int skipLeadingSpace(CharSequence line, int from, int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int skipTrailingSpace(CharSequence line, int from, int to) {
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    private static void putAscii(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            out.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes text as UTF-8, replacing unpaired surrogates with '?' as {@link String#getBytes} does.
+     */
+    private static void putUtf8(ByteBuffer out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                out.put((byte) (0xF0 | codePoint >> 18));
+                out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                out.put((byte) '?');
+            }
+        }
+    }
+
+    private void flush(OutputStream out) throws IOException {
+        out.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+}
@@ -0,0 +1,78 @@
+package mintel.storage;
+
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+
+/**
+ * Validates a single task file line and turns it into a Task.
+ * Invalid lines are skipped and described in the warning list given at construction.
+ */
+class TaskFileParser {
+    private final List<String> warnings;
+    private final TaskCodec codec = new TaskCodec();
+
+    /**
+     * Constructs a TaskFileParser that reports problems to the given warnings.
+     *
+     * @param warnings The list to add warnings to.
+     */
+    TaskFileParser(List<String> warnings) {
+        assert warnings != null : "Warning list cannot be null";
+        this.warnings = warnings;
+    }
+
+    /**
+     * Decodes a line, or part of a longer text, and adds the resulting task to the list.
+     * The text is only copied into a String when a warning needs it.
+     *
+     * @param line       The text containing the line.
+     * @param start      The index of the first character of the line.
+     * @param end        The index just past the last character of the line, excluding any line break.
+     * @param lineNumber The 1-based line number, used in warnings.
+     * @param tasks      The list to add the task to.
+     */
+    void parseLine(CharSequence line, int start, int end, int lineNumber, List<Task> tasks) {
+        try {
+            tasks.add(codec.decode(line, start, end));
+        } catch (MintelException e) {
+            addWarning(line.subSequence(start, end).toString().trim(), lineNumber, e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes a whole line and adds the resulting task to the list.
+     *
+     * @param line       The line, without its line break.
+     * @param lineNumber The 1-based line number, used in warnings.
+     * @param tasks      The list to add the task to.
+     */
+    void parseLine(String line, int lineNumber, List<Task> tasks) {
+        parseLine(line, 0, line.length(), lineNumber, tasks);
+    }
+
+    /**
+     * Frames the warnings of a finished load with a count of the issues first and a summary last.
+     * Nothing is added when there are no warnings, and only then are the tasks counted, which would
+     * decode every line of a lazily loaded list.
+     *
+     * @param warnings The warnings of the load, two lines per issue.
+     * @param tasks    The tasks that were loaded.
+     */
+    static void addSummaryWarning(List<String> warnings, List<Task> tasks) {
+        if (!warnings.isEmpty()) {
+            warnings.add(0, "Meow~ Found " + (warnings.size() / 2) + " issue(s) in file:");
+            warnings.add("Loaded " + tasks.size() + " valid tasks.");
+            warnings.add("Invalid Tasks will be removed once a valid command is given!");
+        }
+    }
+
+    /**
+     * Adds a two-line warning for a skipped line.
+     */
+    private void addWarning(String line, int lineNumber, String problem) {
+        warnings.add("Meow~ Skipping invalid line " + lineNumber + ": " + line);
+        warnings.add("  └─ " + problem);
+    }
+}
@@ -0,0 +1,231 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import mintel.model.task.Task;
+
+/**
+ * Reads a task file into a single buffer and scans the bytes once for line breaks.
+ * Each line is decoded into a reused character buffer and handed to {@link TaskCodec} as it is,
+ * so only the task name of a valid line becomes a String.
+ *
+ * <p>The file is read rather than memory-mapped. A mapping stays open until the garbage collector
+ * frees its buffer, and on Windows an open mapping stops the next save from replacing the file.
+ *
+ * <p>{@link #readLazily(TaskFileParser)} instead only records where each line is and leaves the
+ * decoding to {@link LazyTaskList}.
+ */
+class TaskFileReader {
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final int SPACE = ' ';
+    private static final int INITIAL_SCRATCH_SIZE = 256;
+
+    private final Path path;
+    private final CharsetDecoder utf8 = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer scratch;
+
+    /**
+     * Constructs a TaskFileReader for the given task file.
+     *
+     * @param path The path to the task file.
+     */
+    TaskFileReader(Path path) {
+        assert path != null : "Path cannot be null";
+
+        this.path = path;
+        this.scratch = CharBuffer.allocate(INITIAL_SCRATCH_SIZE);
+    }
+
+    /**
+     * Returns whether the file is small enough to be read into a single buffer.
+     *
+     * @param path The path to the task file.
+     * @return true if the file can be read by this reader.
+     * @throws IOException If the file size cannot be read.
+     */
+    static boolean fitsInBuffer(Path path) throws IOException {
+        return Files.size(path) <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Reads the whole file into memory, closing it before returning.
+     *
+     * @return A buffer holding the file, from position 0 to its limit.
+     * @throws IOException If the file cannot be read.
+     */
+    ByteBuffer readAll() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            assert size <= Integer.MAX_VALUE : "File is too large for a single buffer";
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Parses every line of the file into tasks.
+     *
+     * @param parser The parser used to validate fields and report warnings.
+     * @param tasks  The list to add the tasks to.
+     * @throws IOException If the file cannot be read.
+     */
+    void read(TaskFileParser parser, List<Task> tasks) throws IOException {
+        ByteBuffer buffer = readAll();
+        readRange(buffer, 0, buffer.limit(), 1, parser, tasks);
+    }
+
+    /**
+     * Reads the file into memory and indexes its non-blank lines without parsing them.
+     * The file can be replaced while records remain undecoded, as the list holds only the bytes read.
+     *
+     * @param parser The parser used to validate fields and report warnings when a line is decoded.
+     * @return A list that parses each line the first time it is reached.
+     * @throws IOException If the file cannot be read.
+     */
+    LazyTaskList readLazily(TaskFileParser parser) throws IOException {
+        ByteBuffer buffer = readAll();
+        return new LazyTaskList(indexLines(buffer), (start, end, lineNumber, tasks) ->
+                readRange(buffer, start, end, lineNumber, parser, tasks));
+    }
+
+    /**
+     * Finds the byte range and line number of every non-blank line.
+     */
+    private RecordIndex indexLines(ByteBuffer buffer) {
+        RecordIndex index = new RecordIndex();
+        int end = buffer.limit();
+        int lineNumber = 1;
+        int lineStart = 0;
+        boolean isBlank = true;
+
+        for (int pos = 0; pos < end; pos++) {
+            byte b = buffer.get(pos);
+            if (b != NEWLINE && b != CARRIAGE_RETURN) {
+                isBlank = isBlank && (b & 0xFF) <= SPACE;
+                continue;
+            }
+
+            if (!isBlank) {
+                index.add(lineStart, pos, lineNumber);
+            }
+            lineNumber++;
+            isBlank = true;
+
+            if (b == CARRIAGE_RETURN && pos + 1 < end && buffer.get(pos + 1) == NEWLINE) {
+                pos++;
+            }
+            lineStart = pos + 1;
+        }
+
+        if (!isBlank) {
+            index.add(lineStart, end, lineNumber);
+        }
+        return index;
+    }
+
+    /**
+     * Parses the lines in a byte range of the buffer.
+     * The range must start at the beginning of a line and end after a line break or at the end of the file.
+     *
+     * @param buffer          The file contents.
+     * @param start           The offset of the first byte of the range.
+     * @param end             The offset just past the last byte of the range.
+     * @param firstLineNumber The 1-based line number of the first line in the range.
+     * @param parser          The parser used to validate fields and report warnings.
+     * @param tasks           The list to add the tasks to.
+     */
+    void readRange(ByteBuffer buffer, int start, int end, int firstLineNumber,
+            TaskFileParser parser, List<Task> tasks) {
+        assert start >= 0 && start <= end && end <= buffer.limit() : "Invalid byte range";
+
+        // A view of its own, so that decoding can move its position while other threads read the buffer
+        ByteBuffer view = buffer.duplicate();
+        int lineNumber = firstLineNumber;
+        int lineStart = start;
+
+        for (int pos = start; pos < end; pos++) {
+            byte b = buffer.get(pos);
+            if (b != NEWLINE && b != CARRIAGE_RETURN) {
+                continue;
+            }
+
+            processLine(view, lineStart, pos, lineNumber, parser, tasks);
+            lineNumber++;
+
+            if (b == CARRIAGE_RETURN && pos + 1 < end && buffer.get(pos + 1) == NEWLINE) {
+                pos++;
+            }
+            lineStart = pos + 1;
+        }
+
+        if (lineStart < end) {
+            processLine(view, lineStart, end, lineNumber, parser, tasks);
+        }
+    }
+
+    /**
+     * Decodes a single non-blank line and hands it to the parser.
+     */
+    private void processLine(ByteBuffer view, int lineStart, int lineEnd, int lineNumber,
+            TaskFileParser parser, List<Task> tasks) {
+        int trimmedStart = skipLeadingSpace(view, lineStart, lineEnd);
+        int trimmedEnd = skipTrailingSpace(view, trimmedStart, lineEnd);
+        if (trimmedStart == trimmedEnd) {
+            return;
+        }
+
+        CharBuffer line = decode(view, trimmedStart, trimmedEnd);
+        parser.parseLine(line, 0, line.length(), lineNumber, tasks);
+    }
+
+    private int skipLeadingSpace(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) & 0xFF) <= SPACE) {
+            from++;
+        }
+        return from;
+    }
+
+    private int skipTrailingSpace(ByteBuffer buffer, int from, int to) {
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= SPACE) {
+            to--;
+        }
+        return to;
+    }
+
+    /**
+     * Decodes a UTF-8 byte range of the buffer into the scratch character buffer, which is overwritten
+     * by the next call.
+     */
+    private CharBuffer decode(ByteBuffer view, int from, int to) {
+        int maxChars = to - from;
+        if (maxChars > scratch.capacity()) {
+            scratch = CharBuffer.allocate(Math.max(maxChars, scratch.capacity() * 2));
+        }
+        view.limit(to).position(from);
+        scratch.clear();
+        utf8.reset();
+        utf8.decode(view, scratch, true);
+        utf8.flush(scratch);
+        view.clear();
+        return scratch.flip();
+    }
+}
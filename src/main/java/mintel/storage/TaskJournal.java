@@ -0,0 +1,228 @@
+package mintel.storage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+
+/**
+ * Append-only log of task mutations kept next to the task file.
+ * Each mutation is a single line, so recording a change costs the same regardless of list size.
+ * The journal is replayed on top of the task file when loading.
+ *
+ * <p>Before the task file is rewritten, the active journal is rotated into a numbered generation
+ * file (list_of_task.journal.1, .2, ...) so that changes made while the write is in progress go to
+ * a fresh journal. A generation is discarded once a task file containing it has been written, and
+ * generations that the loaded snapshot already contains are never replayed twice.
+ */
+public class TaskJournal {
+    private static final String SNAPSHOT_EXTENSION = ".txt";
+    private static final String JOURNAL_EXTENSION = ".journal";
+
+    private final Path journalPath;
+    private final TaskCodec codec = new TaskCodec();
+    private int recordCount;
+    private long generation;
+    private boolean hasReplayedGenerations;
+
+    /**
+     * Constructs a TaskJournal for the given task file.
+     * The journal lives beside the task file, e.g. list_of_task.txt -> list_of_task.journal.
+     *
+     * @param snapshotPath The path to the task file.
+     */
+    public TaskJournal(String snapshotPath) {
+        assert snapshotPath != null : "Snapshot path cannot be null";
+        assert snapshotPath.endsWith(SNAPSHOT_EXTENSION) : "Snapshot should be a .txt file: " + snapshotPath;
+
+        String base = snapshotPath.substring(0, snapshotPath.length() - SNAPSHOT_EXTENSION.length());
+        this.journalPath = Paths.get(base + JOURNAL_EXTENSION);
+        this.recordCount = 0;
+        this.generation = 0;
+    }
+
+    /**
+     * Returns the number of records in the active journal since it was last cleared or rotated.
+     *
+     * @return The record count.
+     */
+    public int getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Returns whether the journal holds changes that no task file contains yet, either in the active
+     * journal or in generations left behind by a save that did not finish.
+     *
+     * @return true if the task file is missing changes.
+     */
+    public boolean hasUnsavedRecords() {
+        return this.recordCount > 0 || this.hasReplayedGenerations;
+    }
+
+    /**
+     * Appends a single mutation to the end of the journal.
+     *
+     * @param mutation The mutation to record.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void append(TaskMutation mutation) throws IOException {
+        assert mutation != null : "Mutation cannot be null";
+
+        Path parent = journalPath.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        byte[] record = (mutation.toJournalString() + "\n").getBytes(StandardCharsets.UTF_8);
+        Files.write(journalPath, record, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.recordCount++;
+    }
+
+    /**
+     * Replays every rotated generation newer than the loaded snapshot, oldest first, and then the
+     * active journal onto the given tasks.
+     * Records that cannot be applied are skipped and reported in the warnings.
+     *
+     * @param tasks               The tasks loaded from the task file.
+     * @param warnings            The list to add warnings to.
+     * @param snapshotGeneration  The newest generation already contained in the loaded tasks.
+     * @throws MintelException If the journal exists but cannot be read.
+     */
+    public void replay(List<Task> tasks, List<String> warnings, long snapshotGeneration) throws MintelException {
+        assert tasks != null : "Task list cannot be null";
+        assert warnings != null : "Warning list cannot be null";
+
+        this.recordCount = 0;
+        this.generation = Math.max(this.generation, snapshotGeneration);
+        try {
+            TreeMap<Long, Path> generations = findGenerations();
+            if (!generations.isEmpty()) {
+                this.generation = Math.max(this.generation, generations.lastKey());
+            }
+
+            List<Path> journals = new ArrayList<>(generations.tailMap(snapshotGeneration, false).values());
+            this.hasReplayedGenerations = !journals.isEmpty();
+            journals.add(journalPath);
+
+            int entryNumber = 0;
+            for (Path journal : journals) {
+                if (Files.exists(journal)) {
+                    entryNumber = replayFile(journal, entryNumber, tasks, warnings);
+                }
+            }
+        } catch (IOException e) {
+            throw new MintelException(e.getMessage() + " Meow...");
+        }
+    }
+
+    /**
+     * Replays a single journal file.
+     *
+     * @return The number of the last entry replayed so far.
+     */
+    private int replayFile(Path journal, int entryNumber, List<Task> tasks, List<String> warnings)
+            throws IOException {
+        boolean isActive = journal.equals(journalPath);
+
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String record;
+            while ((record = reader.readLine()) != null) {
+                record = record.trim();
+                if (record.isEmpty()) {
+                    continue;
+                }
+
+                entryNumber++;
+                if (isActive) {
+                    this.recordCount++;
+                }
+                replayRecord(record, entryNumber, tasks, warnings);
+            }
+        }
+        return entryNumber;
+    }
+
+    /**
+     * Applies a single journal record, adding a warning if it fails.
+     */
+    private void replayRecord(String record, int entryNumber, List<Task> tasks, List<String> warnings) {
+        try {
+            TaskMutation.fromJournalString(record).applyTo(tasks, codec);
+        } catch (MintelException e) {
+            warnings.add("Meow~ Skipping invalid journal entry " + entryNumber + ": " + record);
+            warnings.add("  └─ " + e.getMessage());
+        }
+    }
+
+    /**
+     * Moves the active journal aside into the next generation file.
+     * Must be called under the same lock that guards {@link #append(TaskMutation)}.
+     *
+     * @return The generation number; every change made before this call belongs to it or an older one.
+     * @throws IOException If the journal cannot be renamed.
+     */
+    public long rotate() throws IOException {
+        do {
+            this.generation++;
+        } while (Files.exists(generationPath(this.generation)));
+
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, generationPath(this.generation));
+        }
+        this.recordCount = 0;
+        this.hasReplayedGenerations = false;
+        return this.generation;
+    }
+
+    /**
+     * Deletes the rotated generations up to and including the given one.
+     * Called once a task file containing those changes has been written.
+     *
+     * @param lastGeneration The newest generation to delete.
+     * @throws IOException If a generation file cannot be deleted.
+     */
+    public void discardUpTo(long lastGeneration) throws IOException {
+        for (Path journal : findGenerations().headMap(lastGeneration, true).values()) {
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    private Path generationPath(long generationNumber) {
+        return journalPath.resolveSibling(journalPath.getFileName() + "." + generationNumber);
+    }
+
+    /**
+     * Lists the rotated generation files by generation number.
+     */
+    private TreeMap<Long, Path> findGenerations() throws IOException {
+        TreeMap<Long, Path> generations = new TreeMap<>();
+        Path directory = journalPath.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return generations;
+        }
+
+        String prefix = journalPath.getFileName() + ".";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path path : stream) {
+                String suffix = path.getFileName().toString().substring(prefix.length());
+                try {
+                    generations.put(Long.parseLong(suffix), path);
+                } catch (NumberFormatException e) {
+                    // Not a journal generation, e.g. an editor backup file
+                }
+            }
+        }
+        return generations;
+    }
+}
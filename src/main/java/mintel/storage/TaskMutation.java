@@ -0,0 +1,330 @@
+package mintel.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import mintel.exception.MintelException;
+import mintel.exception.OutOfRangeException;
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskSplice;
+
+/**
+ * Represents a single change made to the task list that can be recorded in the journal.
+ * A mutation is either adding a task, marking/unmarking or deleting one or more tasks, or splicing,
+ * which replaces a run of tasks with others and is how undo and redo are journaled.
+ */
+public class TaskMutation {
+    private static final String DELIMITER = " | ";
+    private static final String INDEX_DELIMITER = ",";
+    private static final Pattern FIELD_SPLITTER = Pattern.compile("\\|");
+
+    /**
+     * Kinds of changes that can be journaled.
+     */
+    public enum Type {
+        ADD, MARK, UNMARK, DELETE, SPLICE
+    }
+
+    private final Type type;
+    private final String taskString;
+    private final long taskId;
+    private final int[] indexes;
+
+    private TaskMutation(Type type, String taskString, long taskId, int[] indexes) {
+        assert type != null : "Mutation type cannot be null";
+
+        this.type = type;
+        this.taskString = taskString;
+        this.taskId = taskId;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Creates a mutation recording that a task was added to the end of the list.
+     *
+     * @param task The task that was added.
+     * @return The add mutation.
+     */
+    public static TaskMutation add(Task task) {
+        assert task != null : "Added task cannot be null";
+        return new TaskMutation(Type.ADD, task.toStringFile(), task.getId(), new int[0]);
+    }
+
+    /**
+     * Creates a mutation recording that a task was marked or unmarked.
+     *
+     * @param index  The zero-based index of the task.
+     * @param isDone {@code true} if the task was marked as done.
+     * @return The mark or unmark mutation.
+     */
+    public static TaskMutation mark(int index, boolean isDone) {
+        assert index >= 0 : "Index cannot be negative";
+        return mark(new int[] {index}, isDone);
+    }
+
+    /**
+     * Creates a mutation recording that several tasks were marked or unmarked together.
+     *
+     * @param indexes The zero-based indexes of the tasks, sorted and distinct.
+     * @param isDone  {@code true} if the tasks were marked as done.
+     * @return The mark or unmark mutation.
+     */
+    public static TaskMutation mark(int[] indexes, boolean isDone) {
+        assert indexes.length > 0 : "At least one task must be marked";
+        return new TaskMutation(isDone ? Type.MARK : Type.UNMARK, null, 0, indexes.clone());
+    }
+
+    /**
+     * Creates a mutation recording that a task was deleted.
+     *
+     * @param index The zero-based index of the deleted task.
+     * @return The delete mutation.
+     */
+    public static TaskMutation delete(int index) {
+        assert index >= 0 : "Index cannot be negative";
+        return delete(new int[] {index});
+    }
+
+    /**
+     * Creates a mutation recording that several tasks were deleted together.
+     *
+     * @param indexes The zero-based indexes the tasks had before the deletion, sorted and distinct.
+     * @return The delete mutation.
+     */
+    public static TaskMutation delete(int[] indexes) {
+        assert indexes.length > 0 : "At least one task must be deleted";
+        return new TaskMutation(Type.DELETE, null, 0, indexes.clone());
+    }
+
+    /**
+     * Creates a mutation recording that a run of tasks was replaced by others, as undo and redo do.
+     * The inserted tasks are written out in one record, so that replaying a journal never finds the
+     * run removed without its replacement.
+     *
+     * @param splice The change.
+     * @return The splice mutation.
+     */
+    public static TaskMutation splice(TaskSplice splice) {
+        assert splice != null : "Splice cannot be null";
+
+        String inserted = splice.getInserted().stream()
+                .map(task -> task.getId() + DELIMITER + task.toStringFile())
+                .collect(Collectors.joining(DELIMITER));
+        return new TaskMutation(Type.SPLICE, inserted, 0,
+                new int[] {splice.getStart(), splice.getRemovedCount()});
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the journal representation of this mutation.
+     * Format: ADD | task ID | task file string, MARK/UNMARK/DELETE | index[,index...], or
+     * SPLICE | start | removed count followed by | task ID | task file string for each inserted task.
+     * The task ID of an added task is left out if it has none, as in journals written before tasks had IDs.
+     *
+     * @return The journal record without a trailing newline.
+     */
+    public String toJournalString() {
+        if (this.type == Type.ADD) {
+            return this.type + DELIMITER + (this.taskId > 0 ? this.taskId + DELIMITER : "") + this.taskString;
+        }
+        if (this.type == Type.SPLICE) {
+            return this.type + DELIMITER + this.indexes[0] + DELIMITER + this.indexes[1]
+                    + (this.taskString.isEmpty() ? "" : DELIMITER + this.taskString);
+        }
+        return this.type + DELIMITER + Arrays.stream(this.indexes)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.joining(INDEX_DELIMITER));
+    }
+
+    /**
+     * Creates a mutation from its journal representation.
+     *
+     * @param record A single journal record.
+     * @return The mutation described by the record.
+     * @throws MintelException If the record is malformed.
+     */
+    public static TaskMutation fromJournalString(String record) throws MintelException {
+        assert record != null : "Journal record cannot be null";
+
+        int split = record.indexOf(DELIMITER);
+        if (split < 0) {
+            throw new MintelException("Invalid journal record! Meow...");
+        }
+
+        Type type;
+        try {
+            type = Type.valueOf(record.substring(0, split).trim());
+        } catch (IllegalArgumentException e) {
+            throw new MintelException("Unknown journal record type! Meow...");
+        }
+
+        String payload = record.substring(split + DELIMITER.length()).trim();
+        if (type == Type.ADD) {
+            return fromAddPayload(payload);
+        }
+        if (type == Type.SPLICE) {
+            return fromSplicePayload(payload);
+        }
+
+        try {
+            String[] parts = payload.split(INDEX_DELIMITER);
+            int[] indexes = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                indexes[i] = Integer.parseInt(parts[i].trim());
+                if (i > 0 && indexes[i] <= indexes[i - 1]) {
+                    throw new MintelException("Invalid task number in journal! Meow...");
+                }
+            }
+            return new TaskMutation(type, null, 0, indexes);
+        } catch (NumberFormatException e) {
+            throw new MintelException("Invalid task number in journal! Meow...");
+        }
+    }
+
+    /**
+     * Creates an add mutation from the part of its record after the type.
+     * A task file string starts with its type letter, so a leading number can only be a task ID.
+     */
+    private static TaskMutation fromAddPayload(String payload) throws MintelException {
+        int split = payload.indexOf(DELIMITER);
+        if (split < 0 || !Character.isDigit(payload.charAt(0))) {
+            return new TaskMutation(Type.ADD, payload, 0, new int[0]);
+        }
+
+        try {
+            long taskId = Long.parseLong(payload.substring(0, split).trim());
+            return new TaskMutation(Type.ADD, payload.substring(split + DELIMITER.length()).trim(), taskId, new int[0]);
+        } catch (NumberFormatException e) {
+            throw new MintelException("Invalid task ID in journal! Meow...");
+        }
+    }
+
+    /**
+     * Creates a splice mutation from the part of its record after the type.
+     * The inserted tasks are kept as written, and only decoded when the mutation is applied.
+     */
+    private static TaskMutation fromSplicePayload(String payload) throws MintelException {
+        String[] parts = FIELD_SPLITTER.split(payload, 3);
+        if (parts.length < 2) {
+            throw new MintelException("Invalid journal record! Meow...");
+        }
+
+        try {
+            int start = Integer.parseInt(parts[0].trim());
+            int removedCount = Integer.parseInt(parts[1].trim());
+            if (start < 0 || removedCount < 0) {
+                throw new MintelException("Invalid task number in journal! Meow...");
+            }
+            String inserted = parts.length == 3 ? parts[2].trim() : "";
+            return new TaskMutation(Type.SPLICE, inserted, 0, new int[] {start, removedCount});
+        } catch (NumberFormatException e) {
+            throw new MintelException("Invalid task number in journal! Meow...");
+        }
+    }
+
+    /**
+     * Replays this mutation onto a list of tasks.
+     *
+     * @param tasks The tasks to apply the mutation to.
+     * @throws MintelException If the task cannot be parsed or the index is out of range.
+     */
+    public void applyTo(List<Task> tasks) throws MintelException {
+        applyTo(tasks, new TaskCodec());
+    }
+
+    /**
+     * Replays this mutation onto a list of tasks, decoding an added task with the given codec.
+     *
+     * @param tasks The tasks to apply the mutation to.
+     * @param codec The codec to decode the task with, reused across the records of a journal.
+     * @throws MintelException If the task cannot be parsed or the index is out of range.
+     */
+    void applyTo(List<Task> tasks, TaskCodec codec) throws MintelException {
+        assert tasks != null : "Task list cannot be null";
+        assert codec != null : "Codec cannot be null";
+
+        if (this.type == Type.ADD) {
+            Task task = codec.decode(this.taskString);
+            if (this.taskId > 0) {
+                task.setId(this.taskId);
+            }
+            tasks.add(task);
+            return;
+        }
+        if (this.type == Type.SPLICE) {
+            applySpliceTo(tasks, codec);
+            return;
+        }
+
+        if (this.indexes[0] < 0 || this.indexes[this.indexes.length - 1] >= tasks.size()) {
+            throw new OutOfRangeException();
+        }
+
+        switch (this.type) {
+        case MARK:
+            for (int index : this.indexes) {
+                tasks.get(index).markAsDone();
+            }
+            break;
+        case UNMARK:
+            for (int index : this.indexes) {
+                tasks.get(index).unmarkAsDone();
+            }
+            break;
+        case DELETE:
+            // From the back, so that the earlier indexes still point at the same tasks
+            for (int i = this.indexes.length - 1; i >= 0; i--) {
+                tasks.remove(this.indexes[i]);
+            }
+            break;
+        default:
+            throw new MintelException("Unknown journal record type! Meow...");
+        }
+    }
+
+    /**
+     * Replaces the run of tasks this splice removed with the tasks it inserted.
+     * Every inserted task is decoded before the list is touched, so a bad record leaves it unchanged.
+     */
+    private void applySpliceTo(List<Task> tasks, TaskCodec codec) throws MintelException {
+        int start = this.indexes[0];
+        int removedCount = this.indexes[1];
+        if (start > tasks.size() || removedCount > tasks.size() - start) {
+            throw new OutOfRangeException();
+        }
+
+        List<Task> inserted = new ArrayList<>();
+        if (!this.taskString.isEmpty()) {
+            String[] fields = FIELD_SPLITTER.split(this.taskString, -1);
+            int field = 0;
+            while (field < fields.length) {
+                // Each task is its ID followed by as many fields as its type letter calls for
+                int taskFields = field + 1 < fields.length ? TaskCodec.fieldCountOf(fields[field + 1].trim()) : -1;
+                if (taskFields < 0 || field + 1 + taskFields > fields.length) {
+                    throw new MintelException("Invalid journal record! Meow...");
+                }
+                Task task = codec.decode(String.join("|", Arrays.copyOfRange(fields, field + 1,
+                        field + 1 + taskFields)));
+                try {
+                    long taskId = Long.parseLong(fields[field].trim());
+                    if (taskId > 0) {
+                        task.setId(taskId);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new MintelException("Invalid task ID in journal! Meow...");
+                }
+                inserted.add(task);
+                field += 1 + taskFields;
+            }
+        }
+
+        tasks.subList(start, start + removedCount).clear();
+        tasks.addAll(start, inserted);
+    }
+}
@@ -0,0 +1,377 @@
+package mintel.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.StringInterner;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Reads and writes tasks in a compact binary snapshot format.
+ * Dates are stored as epoch days, so loading a snapshot never parses or formats date strings.
+ *
+ * <p>Layout: magic (int), format version (short), journal generation (long, since version 2),
+ * record count (int), then one record per task: type (byte), done flag (byte), task ID (long, since
+ * version 3), name length (int), UTF-8 name bytes, and one epoch-day int for a deadline or two for an event.
+ * The journal generation is the newest rotated journal whose changes the snapshot already contains.
+ * The whole file may additionally be compressed, see {@link FileCompression}.
+ */
+public class TaskSnapshotCodec {
+    private static final int MAGIC = 0x4D4E544C;
+    private static final short FORMAT_VERSION = 3;
+    private static final short FIRST_VERSION_WITH_GENERATION = 2;
+    private static final short FIRST_VERSION_WITH_IDS = 3;
+
+    private static final byte TYPE_TODO = 'T';
+    private static final byte TYPE_DEADLINE = 'D';
+    private static final byte TYPE_EVENT = 'E';
+    private static final int RECORD_HEADER_BYTES = 6;
+    private static final int ID_BYTES = 8;
+    private static final int DATE_BYTES = 4;
+    /** The fewest bytes a record can take: its header and a one-byte name. */
+    private static final int MIN_RECORD_BYTES = RECORD_HEADER_BYTES + 1;
+    /** The most tasks a list is sized for up front, as the count of a compressed file cannot be checked. */
+    private static final int MAX_PRESIZED_TASKS = 1 << 16;
+    /** The size of the first piece a name is read into, which grows only as the name's bytes arrive. */
+    private static final int NAME_CHUNK_BYTES = 4096;
+
+    private final FileCompression compression;
+
+    /**
+     * Constructs a TaskSnapshotCodec for uncompressed snapshot files.
+     */
+    public TaskSnapshotCodec() {
+        this(FileCompression.NONE);
+    }
+
+    /**
+     * Constructs a TaskSnapshotCodec for snapshot files compressed as given.
+     * {@link #write(List, OutputStream, long)} still writes uncompressed bytes; the caller compresses them.
+     *
+     * @param compression How snapshot files are compressed.
+     */
+    public TaskSnapshotCodec(FileCompression compression) {
+        assert compression != null : "Compression cannot be null";
+        this.compression = compression;
+    }
+
+    /**
+     * Writes the tasks as a snapshot to the given stream.
+     * The stream is flushed but not closed.
+     *
+     * @param tasks             The tasks to write.
+     * @param output            The stream to write to.
+     * @param journalGeneration The newest journal generation contained in the tasks.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(List<Task> tasks, OutputStream output, long journalGeneration) throws IOException {
+        assert tasks != null : "Task list to write cannot be null";
+        assert output != null : "Output stream cannot be null";
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(journalGeneration);
+        out.writeInt(tasks.size());
+
+        for (Task task : tasks) {
+            writeTask(out, task);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a single task record.
+     */
+    private void writeTask(DataOutputStream out, Task task) throws IOException {
+        if (task instanceof Deadline) {
+            out.writeByte(TYPE_DEADLINE);
+        } else if (task instanceof Event) {
+            out.writeByte(TYPE_EVENT);
+        } else {
+            assert task instanceof Todo : "Unknown task type: " + task.getClass();
+            out.writeByte(TYPE_TODO);
+        }
+
+        out.writeBoolean(task.getIsDone());
+        out.writeLong(task.getId());
+        byte[] name = task.getName().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(name.length);
+        out.write(name);
+
+        if (task instanceof Deadline) {
+            out.writeInt((int) ((Deadline) task).getByDate().toEpochDay());
+        } else if (task instanceof Event) {
+            out.writeInt((int) ((Event) task).getFromDate().toEpochDay());
+            out.writeInt((int) ((Event) task).getToDate().toEpochDay());
+        }
+    }
+
+    /**
+     * Reads all tasks from a snapshot file.
+     *
+     * @param path The path of the snapshot file.
+     * @return The tasks in the snapshot, in their saved order.
+     * @throws IOException     If the file cannot be read or is truncated.
+     * @throws MintelException If the file is not a snapshot of a supported version or holds an invalid task.
+     */
+    public ArrayList<Task> read(Path path) throws IOException, MintelException {
+        assert path != null : "Snapshot path cannot be null";
+
+        try (InputStream file = Files.newInputStream(path);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(compression.wrapInput(file)))) {
+            short version = readVersion(in);
+            readJournalGeneration(in, version);
+
+            int count = in.readInt();
+            // A corrupted count or name length must fail here rather than allocate what the file cannot hold
+            if (count < 0 || (compression == FileCompression.NONE && count > Files.size(path) / MIN_RECORD_BYTES)) {
+                throw new MintelException("Corrupted snapshot file! Meow...");
+            }
+
+            ArrayList<Task> tasks = new ArrayList<>(Math.min(count, MAX_PRESIZED_TASKS));
+            for (int i = 0; i < count; i++) {
+                tasks.add(readTask(in, version >= FIRST_VERSION_WITH_IDS));
+            }
+            return tasks;
+        } catch (EOFException e) {
+            throw new MintelException("Corrupted snapshot file! Meow...");
+        }
+    }
+
+    /**
+     * Reads a snapshot file into memory and indexes its records without decoding them.
+     * The record boundaries and types are checked up front, so a truncated or corrupted file is
+     * rejected here rather than halfway through the session.
+     *
+     * @param path     The path of the snapshot file.
+     * @param warnings The list to add warnings to if a record turns out to hold an invalid task.
+     * @return A list that decodes each record the first time it is reached.
+     * @throws IOException     If the file cannot be read.
+     * @throws MintelException If the file is not a snapshot of a supported version or is corrupted.
+     */
+    LazyTaskList readLazily(Path path, List<String> warnings) throws IOException, MintelException {
+        assert path != null : "Snapshot path cannot be null";
+        assert warnings != null : "Warning list cannot be null";
+        assert compression == FileCompression.NONE : "Compressed snapshots cannot be indexed in place";
+
+        byte[] bytes = Files.readAllBytes(path);
+        ByteArrayInputStream headerStream = new ByteArrayInputStream(bytes);
+        DataInputStream in = new DataInputStream(headerStream);
+        short version = readVersion(in);
+        readJournalGeneration(in, version);
+        int count = in.readInt();
+        if (count < 0) {
+            throw new MintelException("Corrupted snapshot file! Meow...");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int headerBytes = version >= FIRST_VERSION_WITH_IDS ? RECORD_HEADER_BYTES + ID_BYTES : RECORD_HEADER_BYTES;
+        RecordIndex index = indexRecords(buffer, bytes.length - headerStream.available(), count, headerBytes);
+        return new LazyTaskList(index, (start, end, recordNumber, tasks) ->
+                decodeRecord(buffer, start, headerBytes, recordNumber, tasks, warnings));
+    }
+
+    /**
+     * Finds the byte range of every record, checking that each has a known type and fits in the file.
+     */
+    private RecordIndex indexRecords(ByteBuffer buffer, int firstRecord, int count, int headerBytes)
+            throws MintelException {
+        RecordIndex index = new RecordIndex();
+        int limit = buffer.limit();
+        int pos = firstRecord;
+
+        for (int i = 0; i < count; i++) {
+            if (limit - pos < headerBytes) {
+                throw new MintelException("Corrupted snapshot file! Meow...");
+            }
+            int dateCount = getDateCount(buffer.get(pos));
+            int nameLength = buffer.getInt(pos + headerBytes - Integer.BYTES);
+            if (dateCount < 0 || nameLength <= 0
+                    || limit - pos - headerBytes < (long) nameLength + dateCount * DATE_BYTES) {
+                throw new MintelException("Corrupted snapshot file! Meow...");
+            }
+
+            int end = pos + headerBytes + nameLength + dateCount * DATE_BYTES;
+            index.add(pos, end, i + 1);
+            pos = end;
+        }
+        return index;
+    }
+
+    /**
+     * Returns how many dates a record of the given type holds, or -1 for an unknown type.
+     */
+    private int getDateCount(byte type) {
+        switch (type) {
+        case TYPE_TODO:
+            return 0;
+        case TYPE_DEADLINE:
+            return 1;
+        case TYPE_EVENT:
+            return 2;
+        default:
+            return -1;
+        }
+    }
+
+    /**
+     * Decodes a single indexed record, adding a warning instead of the task if it is invalid.
+     */
+    private void decodeRecord(ByteBuffer buffer, int start, int headerBytes, int recordNumber, List<Task> tasks,
+            List<String> warnings) {
+        byte type = buffer.get(start);
+        boolean isDone = buffer.get(start + 1) != 0;
+        long id = headerBytes > RECORD_HEADER_BYTES ? buffer.getLong(start + 2) : 0;
+        int nameLength = buffer.getInt(start + headerBytes - Integer.BYTES);
+        String name = StringInterner.intern(
+                new String(buffer.array(), start + headerBytes, nameLength, StandardCharsets.UTF_8));
+        int datePos = start + headerBytes + nameLength;
+
+        try {
+            Task task;
+            switch (type) {
+            case TYPE_DEADLINE:
+                task = new Deadline(name, LocalDate.ofEpochDay(buffer.getInt(datePos)));
+                break;
+            case TYPE_EVENT:
+                task = new Event(name, LocalDate.ofEpochDay(buffer.getInt(datePos)),
+                        LocalDate.ofEpochDay(buffer.getInt(datePos + DATE_BYTES)));
+                break;
+            default:
+                task = new Todo(name);
+                break;
+            }
+
+            if (isDone) {
+                task.markAsDone();
+            }
+            if (id > 0) {
+                task.setId(id);
+            }
+            tasks.add(task);
+        } catch (MintelException e) {
+            warnings.add("Meow~ Skipping invalid snapshot record " + recordNumber + ": " + name);
+            warnings.add("  └─ " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads only the journal generation from a snapshot's header.
+     *
+     * @param path The path of the snapshot file.
+     * @return The journal generation, or 0 if the file is missing, unreadable or predates generations.
+     */
+    public long readJournalGeneration(Path path) {
+        assert path != null : "Snapshot path cannot be null";
+
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (InputStream file = Files.newInputStream(path);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(compression.wrapInput(file)))) {
+            return readJournalGeneration(in, readVersion(in));
+        } catch (IOException | MintelException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Checks the magic number and version.
+     *
+     * @return The format version of the snapshot.
+     */
+    private short readVersion(DataInputStream in) throws IOException, MintelException {
+        if (in.readInt() != MAGIC) {
+            throw new MintelException("Not a Mintel snapshot file! Meow...");
+        }
+        short version = in.readShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new MintelException("Unsupported snapshot version " + version + "! Meow...");
+        }
+        return version;
+    }
+
+    /**
+     * Reads the journal generation that follows the version, if the version has one.
+     */
+    private long readJournalGeneration(DataInputStream in, short version) throws IOException {
+        return version >= FIRST_VERSION_WITH_GENERATION ? in.readLong() : 0;
+    }
+
+    /**
+     * Reads the bytes of a name, growing the array only as the bytes arrive, so a corrupted length
+     * fails at the end of the file instead of allocating the whole length up front.
+     */
+    private static byte[] readNameBytes(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, NAME_CHUNK_BYTES)];
+        int read = 0;
+        while (read < length) {
+            if (read == bytes.length) {
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+            }
+            int count = in.read(bytes, read, bytes.length - read);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            read += count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads a single task record.
+     */
+    private Task readTask(DataInputStream in, boolean hasId) throws IOException, MintelException {
+        byte type = in.readByte();
+        boolean isDone = in.readBoolean();
+        long id = hasId ? in.readLong() : 0;
+        int nameLength = in.readInt();
+        if (nameLength <= 0) {
+            throw new MintelException("Corrupted snapshot file! Meow...");
+        }
+        String name = StringInterner.intern(new String(readNameBytes(in, nameLength), StandardCharsets.UTF_8));
+
+        Task task;
+        switch (type) {
+        case TYPE_TODO:
+            task = new Todo(name);
+            break;
+        case TYPE_DEADLINE:
+            task = new Deadline(name, LocalDate.ofEpochDay(in.readInt()));
+            break;
+        case TYPE_EVENT:
+            task = new Event(name, LocalDate.ofEpochDay(in.readInt()), LocalDate.ofEpochDay(in.readInt()));
+            break;
+        default:
+            throw new MintelException("Unknown task type in snapshot! Meow...");
+        }
+
+        if (isDone) {
+            task.markAsDone();
+        }
+        if (id > 0) {
+            task.setId(id);
+        }
+        return task;
+    }
+}
@@ -0,0 +1,85 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskList;
+
+/**
+ * Where the task list is kept between sessions.
+ * Commands only see this interface, so the backend can be chosen per deployment and the
+ * command layer can run without touching the disk.
+ *
+ * <p>Implementations: {@link Storage} (task file with journal, binary snapshot and background saves),
+ * {@link BufferedNioTaskStore} (a single task file rewritten on every change) and
+ * {@link InMemoryTaskStore} (nothing on disk).
+ */
+public interface TaskStore {
+
+    /**
+     * Loads the saved tasks, skipping any that are invalid.
+     *
+     * @return The loaded tasks.
+     * @throws MintelException If the saved tasks cannot be read at all.
+     */
+    List<Task> loadTasks() throws MintelException;
+
+    /**
+     * Returns the warnings added since this method was last called or tasks were last loaded,
+     * e.g. about invalid saved tasks that were skipped.
+     *
+     * @return The new warnings, possibly empty.
+     */
+    List<String> takeNewWarnings();
+
+    /**
+     * Saves the whole task list.
+     *
+     * @param tasks The tasks to save.
+     * @throws IOException If the tasks cannot be saved.
+     */
+    void saveTasks(List<Task> tasks) throws IOException;
+
+    /**
+     * Records a single change that was just applied to the task list.
+     *
+     * @param mutation The change.
+     * @param tasks    The task list after the change.
+     * @throws IOException If the change cannot be saved.
+     */
+    void appendMutation(TaskMutation mutation, TaskList tasks) throws IOException;
+
+    /**
+     * Saves the task list if it changed since it was last saved.
+     *
+     * @param tasks The task list.
+     * @throws IOException If the tasks cannot be saved.
+     */
+    void saveIfDirty(TaskList tasks) throws IOException;
+
+    /**
+     * Saves the whole task list now, unless the saved copy already matches it, and waits until it is
+     * written. Changes recorded only in a journal are folded back into the saved file, so anything that
+     * reads the file directly sees every change.
+     *
+     * @param tasks The task list.
+     * @throws IOException If the tasks cannot be saved.
+     */
+    void checkpoint(TaskList tasks) throws IOException;
+
+    /**
+     * Waits until every change recorded so far has been saved.
+     *
+     * @throws IOException If a pending save fails.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes pending changes and releases any resources held by the store.
+     *
+     * @throws IOException If the final save fails.
+     */
+    void close() throws IOException;
+}
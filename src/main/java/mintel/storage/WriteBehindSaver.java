@@ -0,0 +1,202 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import mintel.model.task.Task;
+import mintel.model.tasklist.TaskListSnapshot;
+
+/**
+ * Saves the task list on a background thread, at most once per staleness window.
+ * Save requests that arrive while a save is already scheduled are folded into it, so a burst of
+ * commands causes a single write. The list is read when the save runs, under the task list lock,
+ * and copied there, so commands can keep changing the list while the file is being written. The
+ * snapshot of a {@link mintel.model.tasklist.ConcurrentTaskList} is immutable already and is written
+ * as is, so the lock is then held only to read it and rotate the journal.
+ *
+ * <p>Every request is numbered. A save completes the number it took, and with it every earlier one,
+ * once its write has finished or failed, so a flush can wait for a save another thread has taken.
+ */
+class WriteBehindSaver {
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Storage storage;
+    private final Object taskLock;
+    private final long maxStalenessMillis;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Object writeMonitor = new Object();
+
+    private Supplier<List<Task>> requestedTasks;
+    private boolean isScheduled;
+    private long requestedSequence;
+    private long completedSequence;
+    private long writtenGeneration;
+    private IOException lastFailure;
+
+    /**
+     * Constructs a WriteBehindSaver.
+     *
+     * @param storage            The storage that writes the files.
+     * @param taskLock           The lock held by anything that changes the task list.
+     * @param maxStalenessMillis The longest time a requested save may be delayed.
+     */
+    WriteBehindSaver(Storage storage, Object taskLock, long maxStalenessMillis) {
+        assert storage != null : "Storage cannot be null";
+        assert taskLock != null : "Task lock cannot be null";
+        assert maxStalenessMillis >= 0 : "Staleness window cannot be negative";
+
+        this.storage = storage;
+        this.taskLock = taskLock;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "mintel-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A save still waiting at close is written by close itself rather than after the delay
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Requests that the given tasks be saved within the staleness window.
+     * Only the latest request is kept, and its tasks are read when the save runs.
+     *
+     * @param tasks Supplies the tasks to save; called under the task lock.
+     */
+    synchronized void requestSave(Supplier<List<Task>> tasks) {
+        assert tasks != null : "Task list to save cannot be null";
+
+        this.requestedTasks = tasks;
+        this.requestedSequence++;
+        if (!isScheduled && !executor.isShutdown()) {
+            isScheduled = true;
+            executor.schedule(this::writeRequested, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any requested save immediately and waits until every save requested so far has been
+     * written, including one the background thread is writing at the time.
+     *
+     * @throws IOException If this or an earlier background write failed.
+     */
+    void flush() throws IOException {
+        long target;
+        synchronized (this) {
+            target = requestedSequence;
+        }
+
+        writeRequested();
+        awaitCompleted(target);
+
+        synchronized (writeMonitor) {
+            IOException failure = lastFailure;
+            lastFailure = null;
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread, writes any pending save and waits for the thread to finish.
+     *
+     * @throws IOException If the final write fails.
+     */
+    void close() throws IOException {
+        executor.shutdown();
+        try {
+            flush();
+        } finally {
+            try {
+                executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits until the save with the given number, or a later one, has completed.
+     */
+    private synchronized void awaitCompleted(long sequence) {
+        boolean isInterrupted = false;
+        while (completedSequence < sequence) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // The write cannot be abandoned halfway, so keep waiting and pass the interrupt on
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void complete(long sequence) {
+        if (sequence > completedSequence) {
+            completedSequence = sequence;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Reads the requested tasks under the task lock, copying them unless they are a snapshot,
+     * then writes them without holding it. A failure is kept for the next flush to report.
+     */
+    private void writeRequested() {
+        long sequence = 0;
+        try {
+            List<Task> snapshot;
+            long generation;
+
+            synchronized (taskLock) {
+                Supplier<List<Task>> requested;
+                synchronized (this) {
+                    requested = requestedTasks;
+                    if (requested != null) {
+                        // Only a save that takes a request may complete it; another thread may be writing it
+                        sequence = requestedSequence;
+                    }
+                    requestedTasks = null;
+                    isScheduled = false;
+                }
+                if (requested == null) {
+                    return;
+                }
+
+                List<Task> tasks = requested.get();
+                if (tasks instanceof TaskListSnapshot) {
+                    // Already immutable, so there is nothing to copy while holding the lock
+                    snapshot = tasks;
+                } else {
+                    snapshot = new ArrayList<>(tasks.size());
+                    for (Task task : tasks) {
+                        snapshot.add(task.copy());
+                    }
+                }
+                generation = storage.rotateJournal();
+            }
+
+            synchronized (writeMonitor) {
+                if (generation <= writtenGeneration) {
+                    return;
+                }
+                storage.writeSnapshotFiles(snapshot, generation);
+                storage.discardJournalUpTo(generation);
+                writtenGeneration = generation;
+            }
+        } catch (IOException e) {
+            synchronized (writeMonitor) {
+                lastFailure = e;
+            }
+        } finally {
+            complete(sequence);
+        }
+    }
+}
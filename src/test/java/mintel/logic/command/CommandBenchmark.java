@@ -0,0 +1,94 @@
+package mintel.logic.command;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import mintel.exception.MintelException;
+import mintel.logic.parser.Parser;
+import mintel.model.tasklist.TaskList;
+import mintel.storage.BufferedNioTaskStore;
+import mintel.storage.DurabilityPolicy;
+import mintel.storage.InMemoryTaskStore;
+import mintel.storage.Storage;
+import mintel.storage.TaskStore;
+
+/**
+ * Measures command latency against each storage backend, with the in-memory store showing the cost
+ * of the command layer alone.
+ * Commands run without a window, so assertions must stay disabled (the benchmark task does not enable them).
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.logic.command.CommandBenchmark [-Pargs="TASKS"]
+ */
+public class CommandBenchmark {
+    private static final int DEFAULT_TASKS = 2_000;
+
+    /**
+     * Adds, marks and finds tasks through the parser and commands for each backend and reports the latencies.
+     *
+     * @param args Optionally, the number of tasks to add.
+     */
+    public static void main(String[] args) throws IOException, MintelException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+
+        Path directory = Files.createTempDirectory("mintel-bench");
+        try {
+            Storage journalStorage = new Storage(directory.resolve("journal.txt").toString());
+            journalStorage.setDurabilityPolicy(DurabilityPolicy.NONE);
+            BufferedNioTaskStore nioStore = new BufferedNioTaskStore(directory.resolve("nio.txt").toString());
+            nioStore.setDurabilityPolicy(DurabilityPolicy.NONE);
+
+            System.out.printf("%d tasks per backend, no fsync%n", taskCount);
+            run("memory", new InMemoryTaskStore(), taskCount);
+            run("journal", journalStorage, taskCount);
+            run("nio", nioStore, taskCount);
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void run(String name, TaskStore store, int taskCount) throws IOException, MintelException {
+        TaskList tasks = new TaskList(store.loadTasks());
+
+        long[] addTimes = new long[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            addTimes[i] = execute("todo practice piano " + i, tasks, store);
+        }
+
+        long[] markTimes = new long[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            markTimes[i] = execute("mark " + (i + 1), tasks, store);
+        }
+
+        long[] findTimes = new long[Math.max(1, taskCount / 100)];
+        for (int i = 0; i < findTimes.length; i++) {
+            findTimes[i] = execute("find piano " + i, tasks, store);
+        }
+        store.close();
+
+        System.out.printf("%-8s add %s  mark %s  find %s%n", name, summarize(addTimes), summarize(markTimes),
+                summarize(findTimes));
+    }
+
+    /**
+     * Runs a single command the way Mintel does and returns how long it took in nanoseconds.
+     */
+    private static long execute(String input, TaskList tasks, TaskStore store) throws IOException, MintelException {
+        long start = System.nanoTime();
+        Parser.parse(input).execute(tasks, null, store);
+        store.saveIfDirty(tasks);
+        return System.nanoTime() - start;
+    }
+
+    private static String summarize(long[] times) {
+        Arrays.sort(times);
+        return String.format("median=%.1f us p99=%.1f us", times[times.length / 2] / 1e3,
+                times[(int) (times.length * 0.99)] / 1e3);
+    }
+}
@@ -1,6 +1,7 @@
 // File: src/test/java/mintel/logic/parser/ParserTest.java
 package mintel.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -10,10 +11,19 @@ import org.junit.jupiter.api.Test;
 
 import mintel.exception.InvalidCommandException;
 import mintel.exception.MintelException;
+import mintel.exception.OutOfRangeException;
 import mintel.logic.command.AddTodoCommand;
+import mintel.logic.command.AgendaCommand;
+import mintel.logic.command.BulkDeleteCommand;
+import mintel.logic.command.BulkMarkCommand;
 import mintel.logic.command.Command;
+import mintel.logic.command.DeleteCommand;
 import mintel.logic.command.ExitCommand;
 import mintel.logic.command.ListCommand;
+import mintel.logic.command.MarkCommand;
+import mintel.logic.command.StatsCommand;
+import mintel.logic.command.UndoCommand;
+import mintel.logic.command.ViewScheduleCommand;
 
 public class ParserTest {
 
@@ -69,4 +79,79 @@ public class ParserTest {
         assertNotNull(command);
         assertFalse(command.isExit());
     }
+
+    @Test
+    public void testParsePagedListCommand() throws MintelException {
+        assertTrue(Parser.parse("list page 3") instanceof ListCommand);
+        assertTrue(Parser.parse("list 101-200") instanceof ListCommand);
+
+        assertThrows(MintelException.class, () -> Parser.parse("list page 0"));
+        assertThrows(MintelException.class, () -> Parser.parse("list 200-100"));
+        assertThrows(MintelException.class, () -> Parser.parse("list everything"));
+    }
+
+    @Test
+    public void testListRangeIsLimitedToOnePage() throws MintelException {
+        assertTrue(Parser.parse("list 1-" + ListCommand.PAGE_SIZE) instanceof ListCommand);
+        assertTrue(Parser.parse("list 7-7") instanceof ListCommand);
+
+        assertThrows(MintelException.class, () -> Parser.parse("list 1-" + (ListCommand.PAGE_SIZE + 1)));
+        assertThrows(MintelException.class, () -> Parser.parse("list 1-2000000000"));
+    }
+
+    @Test
+    public void testParseBulkCommands() throws MintelException {
+        assertTrue(Parser.parse("mark 1-500") instanceof BulkMarkCommand);
+        assertTrue(Parser.parse("unmark all") instanceof BulkMarkCommand);
+        assertTrue(Parser.parse("delete 3, 7,9-20") instanceof BulkDeleteCommand);
+        assertTrue(Parser.parse("delete 3") instanceof DeleteCommand);
+
+        assertThrows(MintelException.class, () -> Parser.parse("mark 5-2"));
+        assertThrows(MintelException.class, () -> Parser.parse("delete 1,,2"));
+    }
+
+    @Test
+    public void testSpacesBetweenNumbersAreNotJoined() throws MintelException {
+        // As before bulk commands, only the first number counts, rather than "1 2" becoming task 12
+        assertTrue(Parser.parse("mark 1 2") instanceof MarkCommand);
+        assertTrue(Parser.parse("delete 1 0") instanceof DeleteCommand);
+        assertTrue(Parser.parse("mark abc") instanceof MarkCommand);
+        assertTrue(Parser.parse("delete x") instanceof DeleteCommand);
+
+        assertThrows(MintelException.class, () -> TaskSelection.parse("1 2"));
+        assertThrows(MintelException.class, () -> Parser.parse("mark 1 2,3"));
+        assertArrayEquals(new int[] {2, 6, 7, 8}, TaskSelection.parse(" 3 , 7 - 9 ").resolve(10));
+    }
+
+    @Test
+    public void testParseScheduleRangeCommands() throws MintelException {
+        assertTrue(Parser.parse("view 2026-03-15") instanceof ViewScheduleCommand);
+        assertTrue(Parser.parse("view 2026-03-15 2026-03-21") instanceof ViewScheduleCommand);
+        assertTrue(Parser.parse("agenda week") instanceof AgendaCommand);
+        assertTrue(Parser.parse("agenda month") instanceof AgendaCommand);
+        assertThrows(MintelException.class, () -> Parser.parse("agenda"));
+        assertThrows(MintelException.class, () -> Parser.parse("agenda year"));
+    }
+
+    @Test
+    public void testParseStatsCommand() throws MintelException {
+        Command command = Parser.parse("stats");
+        assertTrue(command instanceof StatsCommand);
+        assertFalse(command.isExit());
+    }
+
+    @Test
+    public void testParseUndoAndRedoCommands() throws MintelException {
+        assertTrue(Parser.parse("undo") instanceof UndoCommand);
+        assertTrue(Parser.parse("redo") instanceof UndoCommand);
+        assertThrows(InvalidCommandException.class, () -> Parser.parse("undo 2"));
+    }
+
+    @Test
+    public void testSelectionResolvesToSortedDistinctIndexes() throws MintelException {
+        assertArrayEquals(new int[] {2, 6, 7, 8, 9}, TaskSelection.parse("3,7,8-10,9").resolve(10));
+        assertArrayEquals(new int[] {0, 1, 2}, TaskSelection.parse("all").resolve(3));
+        assertArrayEquals(new int[0], TaskSelection.parse("all").resolve(0));
+        assertThrows(OutOfRangeException.class, () -> TaskSelection.parse("1-11").resolve(10));
+    }
 }
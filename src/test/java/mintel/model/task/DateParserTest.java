@@ -0,0 +1,61 @@
+package mintel.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.exception.InvalidDateFormatException;
+
+/**
+ * Test class for DateParser, checking it against java.time for every day of several years.
+ */
+public class DateParserTest {
+    private static final DateTimeFormatter DISPLAY = DateTimeFormatter.ofPattern("MMM dd yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter SHORT_DAY = DateTimeFormatter.ofPattern("MMM d yyyy", Locale.ENGLISH);
+
+    @Test
+    public void testEveryDayParsesInBothFormatsAndFormatsLikeJavaTime() {
+        for (LocalDate date = LocalDate.of(2023, 1, 1); date.getYear() < 2029; date = date.plusDays(1)) {
+            assertEquals(date, DateParser.parseOrNull(date.toString()));
+            assertEquals(date, DateParser.parseOrNull(date.format(DISPLAY)));
+            assertEquals(date, DateParser.parseOrNull(date.format(SHORT_DAY)));
+            assertEquals(date, DateParser.parseOrNull(date.format(DISPLAY).toUpperCase()));
+            assertEquals(date.format(DISPLAY), DateParser.format(date));
+        }
+    }
+
+    @Test
+    public void testDaysThatDoNotExistAreRejected() {
+        assertNull(DateParser.parseOrNull("2026-02-29"));
+        assertNull(DateParser.parseOrNull("Feb 29 2026"));
+        assertNull(DateParser.parseOrNull("2026-04-31"));
+        assertNull(DateParser.parseOrNull("Jun 31 2026"));
+        assertNull(DateParser.parseOrNull("2026-13-01"));
+        assertNull(DateParser.parseOrNull("Mar 00 2026"));
+        assertEquals(LocalDate.of(2024, 2, 29), DateParser.parseOrNull("Feb 29 2024"));
+    }
+
+    @Test
+    public void testOtherFormatsAreRejected() throws InvalidDateFormatException {
+        String[] invalid = {"", "   ", "2026/03/15", "2026-3-15", "15-03-2026", "not a date", "March 15 2026",
+            "Mar 152 2026", "Mar 15 26", "Mar15 2026", "Mar 15 2026x", "Mar 1 5 2026", "2026-03-15 extra"};
+        for (String text : invalid) {
+            assertNull(DateParser.parseOrNull(text), text);
+            assertThrows(InvalidDateFormatException.class, () -> DateParser.parse(text));
+        }
+        assertEquals(LocalDate.of(2026, 3, 15), DateParser.parse("  Mar  15   2026 "));
+    }
+
+    @Test
+    public void testDisplayStringsAreShared() {
+        LocalDate date = LocalDate.of(2026, 3, 2);
+        assertSame(DateParser.format(date), DateParser.format(LocalDate.of(2026, 3, 2)));
+    }
+}
@@ -0,0 +1,98 @@
+package mintel.model.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Random;
+
+import mintel.exception.MintelException;
+
+/**
+ * Compares DateParser with the formatter-per-call parsing Deadline and Event used before it,
+ * on the dates typed by users and on loading a file of deadlines.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.model.task.DateParsingBenchmark [-Pargs="DATES ROUNDS"]
+ */
+public class DateParsingBenchmark {
+    private static final int DEFAULT_DATES = 200_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int DAYS_SPANNED = 3 * 365;
+
+    /**
+     * Times parsing and formatting random dates in both formats, and loading deadlines from file strings.
+     *
+     * @param args Optionally, the number of dates and the number of timed rounds.
+     */
+    public static void main(String[] args) throws MintelException {
+        int dateCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_DATES;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Random random = new Random(1);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        DateTimeFormatter display = DateTimeFormatter.ofPattern("MMM dd yyyy", Locale.ENGLISH);
+        String[] typed = new String[dateCount];
+        String[] lines = new String[dateCount];
+        for (int i = 0; i < dateCount; i++) {
+            LocalDate date = start.plusDays(random.nextInt(DAYS_SPANNED));
+            typed[i] = i % 2 == 0 ? date.toString() : date.format(display);
+            lines[i] = "D | 0 | deadline " + i + " | " + date.format(display);
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            long checksum = 0;
+            long legacyStart = System.nanoTime();
+            for (String text : typed) {
+                LocalDate date = legacyParse(text);
+                checksum += date == null ? 0 : date.format(DateTimeFormatter.ofPattern("MMM dd yyyy")).length();
+            }
+            long legacyNanos = System.nanoTime() - legacyStart;
+
+            long parserStart = System.nanoTime();
+            for (String text : typed) {
+                checksum -= DateParser.format(DateParser.parse(text)).length();
+            }
+            long parserNanos = System.nanoTime() - parserStart;
+
+            long loadStart = System.nanoTime();
+            for (String line : lines) {
+                checksum += Task.fromFileString(line).getName().length();
+            }
+            long loadNanos = System.nanoTime() - loadStart;
+
+            System.out.printf("round %d (checksum %d)%n", round, checksum);
+            System.out.printf("  formatters per call: %.0f ns/date%n", (double) legacyNanos / dateCount);
+            System.out.printf("  DateParser:          %.0f ns/date (%.1fx)%n", (double) parserNanos / dateCount,
+                    (double) legacyNanos / parserNanos);
+            System.out.printf("  load deadline line:  %.0f ns/line%n", (double) loadNanos / dateCount);
+        }
+    }
+
+    /**
+     * Parses a date the way Deadline did before DateParser: new formatters on every call, with exceptions
+     * deciding which format applies. Dates it rejected are returned as null.
+     */
+    private static LocalDate legacyParse(String text) {
+        try {
+            DateTimeFormatter mmmSmart = new DateTimeFormatterBuilder()
+                    .parseCaseInsensitive()
+                    .appendPattern("MMM d yyyy")
+                    .toFormatter(Locale.ENGLISH)
+                    .withResolverStyle(ResolverStyle.SMART);
+            LocalDate date = LocalDate.parse(text, mmmSmart);
+            String roundTrip = date.format(DateTimeFormatter.ofPattern("MMM d yyyy"));
+            return roundTrip.equalsIgnoreCase(text) ? date : null;
+        } catch (DateTimeParseException e1) {
+            try {
+                DateTimeFormatter yyyySmart = DateTimeFormatter.ofPattern("yyyy-M-d")
+                        .withResolverStyle(ResolverStyle.SMART);
+                LocalDate date = LocalDate.parse(text, yyyySmart);
+                String padded = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+                return padded.equals(text) ? date : null;
+            } catch (DateTimeParseException e2) {
+                return null;
+            }
+        }
+    }
+}
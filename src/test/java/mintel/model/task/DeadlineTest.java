@@ -34,6 +34,17 @@ public class DeadlineTest {
         assertEquals("Mar 05 2026", deadline.displayBy);
     }
 
+    @Test
+    public void testValidDates_paddedDayReadsBackFromFile() throws Exception {
+        Deadline deadline = new Deadline("Test task", "Mar 02 2026");
+        assertEquals("2026-03-02", deadline.getByDate().toString());
+
+        Task loaded = Task.fromFileString(deadline.toStringFile());
+        assertEquals(deadline.toStringFile(), loaded.toStringFile());
+        Event event = new Event("Test event", "Mar 2 2026", "2026-03-09");
+        assertEquals(event.toStringFile(), Task.fromFileString(event.toStringFile()).toStringFile());
+    }
+
     @Test
     public void testInvalidDate_feb29NonLeapYear() {
         Exception exception = assertThrows(InvalidDateFormatException.class, () -> {
@@ -0,0 +1,47 @@
+package mintel.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that StringInterner shares equal names, and that display dates are shared as well.
+ */
+public class StringInternerTest {
+
+    @Test
+    public void testEqualNamesShareOneInstance() {
+        String first = StringInterner.intern(new String("weekly report"));
+        String second = StringInterner.intern(new String("weekly report"));
+        String slice = StringInterner.intern(new StringBuilder("| weekly report |"), 2, 15);
+
+        assertSame(first, second);
+        assertSame(first, slice);
+        assertNotSame(first, StringInterner.intern("weekly reports"));
+        assertEquals("", StringInterner.intern("abc", 1, 1));
+    }
+
+    @Test
+    public void testHistogramOfInternedNamesHasOneInstancePerName() {
+        Set<String> plain = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> interned = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> displayDates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10000; i++) {
+            String name = new StringBuilder("task ").append(i % 50).toString();
+            plain.add(name);
+            interned.add(StringInterner.intern(name));
+            displayDates.add(DateParser.format(LocalDate.of(2026, 3, 1 + i % 31)));
+        }
+
+        assertEquals(10000, plain.size());
+        assertEquals(50, interned.size());
+        assertEquals(31, displayDates.size());
+    }
+}
@@ -0,0 +1,108 @@
+package mintel.model.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Tests CompactTaskStore against an ordinary list of task objects.
+ */
+public class CompactTaskStoreTest {
+    private static final String[] NAMES = {"read", "weekly report", "café", "日程", "😀 party", "x"};
+
+    @Test
+    public void testRandomOperationsMatchArrayList() throws MintelException {
+        Random random = new Random(23);
+        List<Task> expected = new ArrayList<>();
+        CompactTaskStore store = new CompactTaskStore();
+
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(10);
+            if (expected.isEmpty() || operation < 5) {
+                Task task = randomTask(random, step);
+                expected.add(task);
+                store.add(task);
+            } else if (operation < 7) {
+                int index = random.nextInt(expected.size());
+                Task task = randomTask(random, step);
+                assertEquals(expected.set(index, task).toStringFile(), store.set(index, task).toStringFile());
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index).toStringFile(), store.remove(index).toStringFile());
+            } else {
+                int index = random.nextInt(expected.size());
+                boolean isDone = random.nextBoolean();
+                if (isDone) {
+                    expected.get(index).markAsDone();
+                } else {
+                    expected.get(index).unmarkAsDone();
+                }
+                store.setDone(index, isDone);
+            }
+        }
+
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toStringFile(), store.get(i).toStringFile());
+            assertEquals(expected.get(i).getId(), store.get(i).getId());
+            assertEquals(expected.get(i).getIsDone(), store.isDone(i));
+        }
+    }
+
+    @Test
+    public void testTaskListKeepsChangesToCompactTasks() throws MintelException {
+        CompactTaskStore store = new CompactTaskStore();
+        store.add(new Todo("read book"));
+        store.add(new Deadline("return book", "2026-03-15"));
+        store.add(new Event("book fair", "2026-03-14", "2026-03-16"));
+        TaskList tasks = new TaskList(store);
+
+        assertTrue(tasks.getScheduleByDate("2026-03-15").contains("return book"));
+        tasks.markTask(1, true);
+        assertTrue(tasks.get(1).getIsDone());
+
+        tasks.remove(0);
+        assertFalse(tasks.getFilteredTasks("read").contains("read book"));
+        assertTrue(tasks.getFilteredTasks("fair").contains("book fair"));
+        assertTrue(tasks.getScheduleByDate("2026-03-15").contains("[D][X] return book"));
+        assertEquals(2, tasks.size());
+    }
+
+    private Task randomTask(Random random, int step) throws MintelException {
+        String name = NAMES[random.nextInt(NAMES.length)] + " " + step;
+        LocalDate date = LocalDate.of(2026, 1, 1).plusDays(random.nextInt(400));
+
+        Task task;
+        switch (random.nextInt(3)) {
+        case 0:
+            task = new Todo(name);
+            break;
+        case 1:
+            task = new Deadline(name, date);
+            break;
+        default:
+            task = new Event(name, date, date.plusDays(1 + random.nextInt(10)));
+            break;
+        }
+        if (random.nextInt(3) == 0) {
+            task.setId(1 + step);
+        }
+        if (random.nextBoolean()) {
+            task.markAsDone();
+        }
+        return task;
+    }
+}
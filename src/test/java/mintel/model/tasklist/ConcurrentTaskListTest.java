@@ -0,0 +1,175 @@
+package mintel.model.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Test class for ConcurrentTaskList, running readers against a writer on several threads.
+ */
+public class ConcurrentTaskListTest {
+    private static final int WRITES = 20_000;
+    private static final int READERS = 3;
+
+    @Test
+    public void testReadersSeeConsistentSnapshotsWhileWriterChangesList() throws Exception {
+        ConcurrentTaskList tasks = new ConcurrentTaskList();
+        List<Task> expected = new ArrayList<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch started = new CountDownLatch(READERS);
+
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            Thread reader = new Thread(() -> {
+                started.countDown();
+                long lastVersion = -1;
+                try {
+                    while (isWriting.get()) {
+                        List<Task> snapshot = tasks.getAllTasks();
+                        long version = ((TaskListSnapshot) snapshot).getVersion();
+                        assertTrue(version >= lastVersion, "Versions must not go back");
+                        lastVersion = version;
+                        checkSnapshot(snapshot);
+                        tasks.getFilteredTasks("task");
+                        tasks.getScheduleByDate("2026-03-12");
+                        if (!tasks.isEmpty()) {
+                            tasks.getListPage(0, 50);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        started.await();
+
+        Random random = new Random(5);
+        for (int i = 0; i < WRITES; i++) {
+            int choice = random.nextInt(10);
+            if (choice < 5 || expected.size() < 10) {
+                Task task = i % 2 == 0 ? new Todo("task " + i)
+                        : new Deadline("task " + i, LocalDate.of(2026, 3, 10).plusDays(i % 5));
+                tasks.add(task);
+                expected.add(task);
+            } else if (choice < 7) {
+                int index = random.nextInt(expected.size());
+                tasks.markTask(index, true);
+            } else if (choice < 9) {
+                int index = random.nextInt(expected.size());
+                tasks.remove(index);
+                expected.remove(index);
+            } else {
+                tasks.removeTasks(new int[] {0, expected.size() - 1});
+                expected.remove(expected.size() - 1);
+                expected.remove(0);
+            }
+        }
+        isWriting.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Reader failed: " + failures.peek());
+        assertEquals(expected.size(), tasks.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toStringFile(), tasks.get(i).toStringFile());
+            assertEquals(expected.get(i).getId(), tasks.get(i).getId());
+        }
+        checkSnapshot(tasks.getAllTasks());
+    }
+
+    @Test
+    public void testSnapshotIsUnaffectedByLaterChanges() throws MintelException {
+        ConcurrentTaskList tasks = new ConcurrentTaskList();
+        for (int i = 0; i < 1200; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        List<Task> before = tasks.getAllTasks();
+        String listBefore = TaskList.formatList(before);
+
+        tasks.markTask(600, true);
+        tasks.remove(0);
+        tasks.removeTasks(new int[] {3, 4, 5});
+        tasks.markTasks(new int[] {0, 1}, true);
+
+        assertEquals(1200, before.size());
+        assertEquals(listBefore, TaskList.formatList(before));
+        assertEquals(1196, tasks.size());
+        assertEquals("[T][X] task 1", tasks.get(0).toString());
+        assertEquals("[T][X] task 600", tasks.get(tasks.indexOfId(601)).toString());
+    }
+
+    @Test
+    public void testUndoPublishesNewSnapshotAndLeavesOldOneAlone() throws MintelException {
+        ConcurrentTaskList tasks = new ConcurrentTaskList();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.remove(50);
+        List<Task> afterRemove = tasks.getAllTasks();
+        long versionAfterRemove = tasks.getVersion();
+
+        tasks.undo();
+
+        assertEquals(99, afterRemove.size());
+        assertEquals("[T][ ] task 51", afterRemove.get(50).toString());
+        assertEquals(100, tasks.size());
+        assertEquals("[T][ ] task 50", tasks.get(50).toString());
+        assertTrue(tasks.getVersion() > versionAfterRemove, "Undo must publish a newer version");
+        checkSnapshot(tasks.getAllTasks());
+
+        tasks.redo();
+        assertEquals(TaskList.formatList(afterRemove), TaskList.formatList(tasks.getAllTasks()));
+    }
+
+    @Test
+    public void testSnapshotSharesTasksWithUndoHistory() throws MintelException {
+        ConcurrentTaskList tasks = new ConcurrentTaskList(new ArrayList<>(List.of(new Todo("a"), new Todo("b"))));
+        assertEquals("[T][ ] b", tasks.get(1).toString());
+
+        tasks.markTask(0, true);
+        assertSame(tasks.getRecordedVersion().get(0), tasks.getAllTasks().get(0));
+        assertSame(tasks.getRecordedVersion().get(1), tasks.getAllTasks().get(1));
+
+        tasks.setHistoryLimit(0);
+        tasks.add(new Todo("c"));
+        assertEquals("[T][X] a", tasks.getAllTasks().get(0).toString());
+        assertEquals("[T][ ] c", tasks.get(2).toString());
+    }
+
+    /**
+     * Checks the invariants of a single snapshot: tasks are in the order they were added, which is
+     * the order of their IDs, and the list is the same size however it is walked.
+     */
+    private static void checkSnapshot(List<Task> snapshot) {
+        int count = 0;
+        long lastId = 0;
+        for (Task task : snapshot) {
+            assertTrue(task.getId() > lastId, "Task IDs must increase along the list");
+            lastId = task.getId();
+            count++;
+        }
+        assertEquals(snapshot.size(), count);
+        if (count > 0) {
+            assertEquals(lastId, snapshot.get(count - 1).getId());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package mintel.model.tasklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import mintel.exception.DateLogicException;
+import mintel.exception.InvalidDateFormatException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Compares schedule lookups through the date index with a linear scan over every task.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.model.tasklist.DateIndexBenchmark [-Pargs="TASKS QUERIES"]
+ */
+public class DateIndexBenchmark {
+    private static final int DEFAULT_TASKS = 1_000_000;
+    private static final int DEFAULT_QUERIES = 200;
+    private static final int DAYS_SPANNED = 3 * 365;
+    private static final int MAX_EVENT_DAYS = 14;
+
+    /**
+     * Builds a list of mixed tasks and times schedule queries for random dates both ways.
+     *
+     * @param args Optionally, the number of tasks and the number of queries.
+     */
+    public static void main(String[] args) throws DateLogicException, InvalidDateFormatException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int queryCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_QUERIES;
+
+        Random random = new Random(1);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            LocalDate date = start.plusDays(random.nextInt(DAYS_SPANNED));
+            switch (i % 3) {
+            case 0:
+                tasks.add(new Todo("todo " + i));
+                break;
+            case 1:
+                tasks.add(new Deadline("deadline " + i, date));
+                break;
+            default:
+                tasks.add(new Event("event " + i, date, date.plusDays(1 + random.nextInt(MAX_EVENT_DAYS))));
+                break;
+            }
+        }
+        TaskList taskList = new TaskList(tasks);
+
+        String[] dates = new String[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            dates[i] = start.plusDays(random.nextInt(DAYS_SPANNED)).toString();
+        }
+
+        long buildStart = System.nanoTime();
+        taskList.getScheduleByDate(dates[0]);
+        long buildNanos = System.nanoTime() - buildStart;
+
+        long checksum = 0;
+        long scanStart = System.nanoTime();
+        for (String date : dates) {
+            checksum += scanSchedule(tasks, LocalDate.parse(date));
+        }
+        long scanNanos = System.nanoTime() - scanStart;
+
+        long indexStart = System.nanoTime();
+        for (String date : dates) {
+            checksum -= taskList.getScheduleByDate(date).length();
+        }
+        long indexNanos = System.nanoTime() - indexStart;
+
+        System.out.printf("%d tasks, %d queries (checksum %d)%n", taskCount, queryCount, checksum);
+        System.out.printf("index build (first query): %.1f ms%n", buildNanos / 1e6);
+        System.out.printf("linear scan: %.3f ms/query%n", scanNanos / 1e6 / queryCount);
+        System.out.printf("date index:  %.3f ms/query%n", indexNanos / 1e6 / queryCount);
+    }
+
+    /**
+     * Builds a schedule by checking every task, as before the index existed.
+     *
+     * @return The length of the schedule, which should match the indexed one.
+     */
+    private static long scanSchedule(List<Task> tasks, LocalDate date) {
+        StringBuilder sb = new StringBuilder("MEOWRiffic! Schedule for " + date + ":\n");
+        int count = 0;
+        for (Task task : tasks) {
+            if (task instanceof Deadline && ((Deadline) task).getByDate().equals(date)
+                    || task instanceof Event && !date.isBefore(((Event) task).getFromDate())
+                    && !date.isAfter(((Event) task).getToDate())) {
+                count++;
+                sb.append(count).append(". ").append(task).append("\n");
+            }
+        }
+        return sb.toString().trim().length();
+    }
+}
@@ -0,0 +1,85 @@
+package mintel.model.tasklist;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Compares the heap used per task by a list of task objects and by a CompactTaskStore.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.model.tasklist.MemoryLayoutBenchmark [-Pargs=TASKS]
+ */
+public class MemoryLayoutBenchmark {
+    private static final int DEFAULT_TASKS = 1_000_000;
+    private static final int GC_ROUNDS = 5;
+
+    /**
+     * Builds each layout in turn and reports the heap it retains per task.
+     *
+     * @param args Optionally, the number of tasks.
+     */
+    public static void main(String[] args) throws MintelException, InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        System.out.printf("Holding %d tasks%n", count);
+
+        long objectBytes = measure(new ArrayList<>(), count);
+        report("task objects", objectBytes, count);
+        long compactBytes = measure(new CompactTaskStore(), count);
+        report("compact store", compactBytes, count);
+        System.out.printf("reduction: %.1fx%n", (double) objectBytes / compactBytes);
+    }
+
+    /**
+     * Fills the list and returns the growth in heap use it causes.
+     */
+    private static long measure(List<Task> tasks, int count) throws MintelException, InterruptedException {
+        long before = usedHeap();
+        addTasks(tasks, count);
+        long after = usedHeap();
+        assert tasks.size() == count : "Not every task was held";
+        return after - before;
+    }
+
+    private static void addTasks(List<Task> tasks, int count) throws MintelException {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = start.plusDays(i % 365);
+            Task task;
+            switch (i % 3) {
+            case 0:
+                task = new Todo("read chapter " + i);
+                break;
+            case 1:
+                task = new Deadline("submit report " + i, date);
+                break;
+            default:
+                task = new Event("team offsite " + i, date, date.plusDays(2));
+                break;
+            }
+            task.setId(i + 1);
+            if (i % 2 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void report(String layout, long bytes, int count) {
+        System.out.printf("%-14s %6d MB  %.1f bytes/task%n", layout + ":", bytes / (1024 * 1024),
+                (double) bytes / count);
+    }
+}
@@ -0,0 +1,75 @@
+package mintel.model.tasklist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Times a find-style scan, matching every name and formatting the matches, sequentially and on the
+ * fork-join pool for growing list sizes, to show where parallel execution starts to pay off.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.model.tasklist.ParallelQueryBenchmark [-Pargs="MAX_TASKS"]
+ */
+public class ParallelQueryBenchmark {
+    private static final int DEFAULT_MAX_TASKS = 1 << 20;
+    private static final int MIN_TASKS = 256;
+    private static final int TARGET_TASKS_PER_SIZE = 1 << 23;
+    private static final String[] WORDS = {"read", "book", "return", "piano", "lesson", "buy", "milk", "call"};
+
+    /**
+     * Runs the scan at each power of two up to the maximum list size and prints both timings.
+     *
+     * @param args Optionally, the maximum number of tasks.
+     */
+    public static void main(String[] args) {
+        int maxTasks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_TASKS;
+
+        Random random = new Random(1);
+        List<Task> tasks = new ArrayList<>(maxTasks);
+        for (int i = 0; i < maxTasks; i++) {
+            tasks.add(new Todo(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + i));
+        }
+
+        ParallelQueryExecutor sequential = new ParallelQueryExecutor(Integer.MAX_VALUE);
+        ParallelQueryExecutor parallel = new ParallelQueryExecutor(1);
+        System.out.printf("common pool parallelism: %d%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%10s %14s %14s %8s%n", "tasks", "sequential us", "parallel us", "speedup");
+
+        for (int size = MIN_TASKS; size <= maxTasks; size *= 2) {
+            List<Task> slice = tasks.subList(0, size);
+            int rounds = Math.max(3, TARGET_TASKS_PER_SIZE / size);
+
+            // Warm up both paths at this size before timing them
+            time(sequential, slice, rounds);
+            time(parallel, slice, rounds);
+            double sequentialMicros = time(sequential, slice, rounds);
+            double parallelMicros = time(parallel, slice, rounds);
+            System.out.printf("%10d %14.1f %14.1f %7.2fx%n", size, sequentialMicros, parallelMicros,
+                    sequentialMicros / parallelMicros);
+        }
+        System.out.printf("default threshold: %d tasks%n", ParallelQueryExecutor.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Returns the mean time of one scan in microseconds.
+     */
+    private static double time(ParallelQueryExecutor executor, List<Task> tasks, int rounds) {
+        long matched = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            matched += executor.map(tasks, task -> {
+                String name = task.getName().toLowerCase();
+                return name.contains("oo") && name.contains("e") ? task.toString() : null;
+            }).size();
+        }
+        long nanos = System.nanoTime() - start;
+        if (matched < 0) {
+            throw new AssertionError("Unreachable, keeps the scan from being optimised away");
+        }
+        return nanos / 1e3 / rounds;
+    }
+}
@@ -0,0 +1,46 @@
+package mintel.model.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for ParallelQueryExecutor, checking that both paths return the same results in order.
+ */
+public class ParallelQueryExecutorTest {
+
+    @Test
+    public void testParallelFilterKeepsOriginalOrder() {
+        List<Integer> items = IntStream.range(0, 50_000).boxed().collect(Collectors.toList());
+        List<Integer> expected = new ArrayList<>();
+        for (int item : items) {
+            if (item % 7 == 3) {
+                expected.add(item);
+            }
+        }
+
+        assertEquals(expected, new ParallelQueryExecutor(1).filter(items, item -> item % 7 == 3));
+        assertEquals(expected, new ParallelQueryExecutor(Integer.MAX_VALUE).filter(items, item -> item % 7 == 3));
+    }
+
+    @Test
+    public void testMapDropsNullResults() {
+        List<Integer> items = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+
+        List<String> results = new ParallelQueryExecutor(1).map(items, item -> item % 2 == 0 ? "#" + item : null);
+
+        assertEquals(5_000, results.size());
+        assertEquals("#0", results.get(0));
+        assertEquals("#9998", results.get(results.size() - 1));
+    }
+
+    @Test
+    public void testEmptyInput() {
+        assertEquals(List.of(), new ParallelQueryExecutor(1).filter(List.<Integer>of(), item -> true));
+    }
+}
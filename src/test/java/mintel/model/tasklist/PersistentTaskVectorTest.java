@@ -0,0 +1,125 @@
+package mintel.model.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Tests PersistentTaskVector against copies of an ordinary list kept at every version.
+ */
+public class PersistentTaskVectorTest {
+
+    @Test
+    public void testEveryVersionKeepsItsTasks() {
+        Random random = new Random(11);
+        List<PersistentTaskVector> versions = new ArrayList<>();
+        List<List<String>> expected = new ArrayList<>();
+        PersistentTaskVector vector = PersistentTaskVector.empty();
+        List<String> model = new ArrayList<>();
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = model.isEmpty() ? 0 : random.nextInt(10);
+            Task task = new Todo("task " + step);
+            if (operation < 5) {
+                vector = vector.withAdded(task);
+                model.add(task.toStringFile());
+            } else if (operation < 7) {
+                int index = random.nextInt(model.size());
+                vector = vector.with(index, task);
+                model.set(index, task.toStringFile());
+            } else {
+                int index = random.nextInt(model.size());
+                vector = vector.withRemoved(index);
+                model.remove(index);
+            }
+            if (step % 50 == 0) {
+                versions.add(vector);
+                expected.add(new ArrayList<>(model));
+            }
+        }
+        assertTrue(vector.depth() >= 2, "The tree should have grown several levels");
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expected.get(i), toStrings(versions.get(i)));
+        }
+        assertEquals(model, toStrings(PersistentTaskVector.of(vector.copies())));
+    }
+
+    @Test
+    public void testCopiesDoNotChangeTheVector() {
+        PersistentTaskVector vector = PersistentTaskVector.empty().withAdded(new Todo("read book"));
+        List<Task> copies = vector.copies();
+        copies.get(0).markAsDone();
+
+        assertFalse(vector.get(0).getIsDone());
+        assertFalse(copies.get(0).getIsDone());
+        assertEquals(0, PersistentTaskVector.empty().size());
+        assertEquals(0, vector.withRemoved(0).size());
+    }
+
+    @Test
+    public void testSharedEndsMatchComparingEveryTask() {
+        Random random = new Random(23);
+        PersistentTaskVector vector = PersistentTaskVector.empty();
+        for (int i = 0; i < 3000; i++) {
+            vector = vector.withAdded(new Todo("task " + i));
+        }
+
+        for (int step = 0; step < 200; step++) {
+            PersistentTaskVector changed = vector;
+            for (int change = random.nextInt(3); change >= 0; change--) {
+                int index = random.nextInt(changed.size());
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    changed = changed.with(index, new Todo("changed " + step));
+                } else if (operation == 1) {
+                    changed = changed.withRemoved(index);
+                } else {
+                    changed = changed.withAdded(new Todo("added " + step));
+                }
+            }
+
+            assertEquals(scanPrefix(vector, changed), vector.sharedPrefixLength(changed));
+            assertEquals(scanPrefix(changed, vector), changed.sharedPrefixLength(vector));
+            assertEquals(scanSuffix(vector, changed), vector.sharedSuffixLength(changed));
+            assertEquals(scanSuffix(changed, vector), changed.sharedSuffixLength(vector));
+            vector = changed;
+        }
+        assertEquals(vector.size(), vector.sharedPrefixLength(vector));
+        assertEquals(vector.size(), vector.sharedSuffixLength(vector));
+    }
+
+    private int scanPrefix(PersistentTaskVector first, PersistentTaskVector second) {
+        int shared = 0;
+        while (shared < Math.min(first.size(), second.size()) && first.get(shared) == second.get(shared)) {
+            shared++;
+        }
+        return shared;
+    }
+
+    private int scanSuffix(PersistentTaskVector first, PersistentTaskVector second) {
+        int shared = 0;
+        while (shared < Math.min(first.size(), second.size())
+                && first.get(first.size() - 1 - shared) == second.get(second.size() - 1 - shared)) {
+            shared++;
+        }
+        return shared;
+    }
+
+    private List<String> toStrings(PersistentTaskVector vector) {
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < vector.size(); i++) {
+            strings.add(vector.get(i).toStringFile());
+        }
+        return strings;
+    }
+}
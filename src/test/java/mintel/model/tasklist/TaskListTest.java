@@ -0,0 +1,494 @@
+package mintel.model.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.exception.DataValidationException;
+import mintel.exception.DateLogicException;
+import mintel.exception.MintelException;
+import mintel.exception.OutOfRangeException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Test class for TaskList, focusing on duplicate detection.
+ */
+public class TaskListTest {
+
+    @Test
+    public void testDuplicateDetectedRegardlessOfStatus() throws MintelException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.markTask(0, true);
+
+        assertThrows(DataValidationException.class, () -> tasks.add(new Todo("read book")));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void testSameNameWithDifferentTypeOrDatesIsNotDuplicate() throws MintelException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("project"));
+        tasks.add(new Deadline("project", "2026-03-15"));
+        tasks.add(new Event("project", "2026-03-15", "2026-03-16"));
+
+        assertDoesNotThrow(() -> tasks.add(new Deadline("project", "2026-03-16")));
+        assertDoesNotThrow(() -> tasks.add(new Event("project", "2026-03-15", "2026-03-17")));
+        assertThrows(DataValidationException.class, () -> tasks.add(new Deadline("project", "Mar 15 2026")));
+        assertThrows(DataValidationException.class, () -> tasks.add(new Event("project", "2026-03-15", "2026-03-16")));
+    }
+
+    @Test
+    public void testRemovedTaskCanBeAddedAgain() throws MintelException {
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.remove(0);
+
+        assertDoesNotThrow(() -> tasks.add(new Todo("read book")));
+    }
+
+    @Test
+    public void testLoadedDuplicatesStayIndexedUntilAllRemoved() throws MintelException {
+        List<Task> loaded = new ArrayList<>();
+        loaded.add(new Todo("read book"));
+        loaded.add(new Todo("read book"));
+        TaskList tasks = new TaskList(loaded);
+
+        assertThrows(DataValidationException.class, () -> tasks.add(new Todo("read book")));
+        tasks.remove(0);
+        assertThrows(DataValidationException.class, () -> tasks.add(new Todo("read book")));
+        tasks.remove(0);
+        assertDoesNotThrow(() -> tasks.add(new Todo("read book")));
+    }
+
+    @Test
+    public void testScheduleMatchesLinearScan() throws MintelException {
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        TaskList tasks = new TaskList();
+
+        for (int round = 0; round < 300; round++) {
+            LocalDate from = start.plusDays(random.nextInt(30));
+            int kind = random.nextInt(4);
+            if (kind == 0) {
+                tasks.add(new Todo("todo " + round));
+            } else if (kind == 1) {
+                tasks.add(new Deadline("deadline " + round, from));
+            } else if (kind == 2) {
+                tasks.add(new Event("event " + round, from, from.plusDays(1 + random.nextInt(5))));
+            } else if (!tasks.isEmpty()) {
+                tasks.remove(random.nextInt(tasks.size()));
+            }
+
+            if (round % 10 == 0) {
+                LocalDate date = start.plusDays(random.nextInt(36));
+                assertEquals(scanSchedule(tasks, date), tasks.getScheduleByDate(date.toString()));
+            }
+        }
+    }
+
+    @Test
+    public void testScheduleBetweenMatchesScanOfEachDay() throws MintelException {
+        Random random = new Random(7);
+        LocalDate start = LocalDate.of(2026, 3, 1);
+        TaskList tasks = new TaskList();
+
+        for (int round = 0; round < 300; round++) {
+            LocalDate from = start.plusDays(random.nextInt(60));
+            int kind = random.nextInt(4);
+            if (kind == 0) {
+                tasks.add(new Todo("todo " + round));
+            } else if (kind == 1) {
+                tasks.add(new Deadline("deadline " + round, from));
+            } else if (kind == 2) {
+                tasks.add(new Event("event " + round, from, from.plusDays(1 + random.nextInt(20))));
+            } else if (!tasks.isEmpty()) {
+                tasks.remove(random.nextInt(tasks.size()));
+            }
+
+            if (round % 10 == 0) {
+                LocalDate first = start.plusDays(random.nextInt(70) - 5);
+                LocalDate last = first.plusDays(random.nextInt(31));
+                String expected = scanScheduleBetween(tasks, first, last);
+                assertEquals(expected, tasks.getScheduleBetween(first.toString(), last.toString()));
+                assertEquals(expected, new ConcurrentTaskList(tasks.getAllTasks()).getScheduleBetween(first, last));
+            }
+        }
+    }
+
+    @Test
+    public void testScheduleBetweenRejectsBackwardsAndLongRanges() {
+        TaskList tasks = new TaskList();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+
+        assertThrows(DateLogicException.class, () -> tasks.getScheduleBetween(day, day.minusDays(1)));
+        assertThrows(MintelException.class,
+                () -> tasks.getScheduleBetween(day, day.plusDays(TaskList.MAX_SCHEDULE_DAYS)));
+        assertDoesNotThrow(() -> tasks.getScheduleBetween(day, day.plusDays(TaskList.MAX_SCHEDULE_DAYS - 1)));
+    }
+
+    @Test
+    public void testStatsMatchRecountAfterRandomOperations() throws MintelException {
+        Random random = new Random(11);
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        TaskList tasks = new TaskList();
+
+        for (int round = 0; round < 2000; round++) {
+            LocalDate from = start.plusDays(random.nextInt(120));
+            int operation = random.nextInt(7);
+            if (operation == 0) {
+                tasks.add(new Todo("todo " + round));
+            } else if (operation == 1) {
+                tasks.add(new Deadline("deadline " + round, from));
+            } else if (operation == 2) {
+                tasks.add(new Event("event " + round, from, from.plusDays(1 + random.nextInt(5))));
+            } else if (tasks.isEmpty()) {
+                continue;
+            } else if (operation == 3) {
+                tasks.remove(random.nextInt(tasks.size()));
+            } else if (operation == 4) {
+                tasks.markTask(random.nextInt(tasks.size()), random.nextBoolean());
+            } else if (operation == 5) {
+                int first = random.nextInt(tasks.size());
+                int[] indexes = {first, Math.min(tasks.size() - 1, first + random.nextInt(3))};
+                tasks.markTasks(indexes[0] == indexes[1] ? new int[] {first} : indexes, random.nextBoolean());
+            } else {
+                tasks.removeTasks(new int[] {random.nextInt(tasks.size())});
+            }
+
+            if (round % 25 == 0) {
+                // Days move mostly forward, as they do in use, but sometimes back
+                LocalDate today = start.plusDays(round / 15 + random.nextInt(10) - 3);
+                assertStatsMatchRecount(tasks, today);
+            }
+        }
+    }
+
+    @Test
+    public void testFindMatchesSubstringScan() throws MintelException {
+        Random random = new Random(7);
+        String[] words = {"Read", "book", "BOOKshelf", "return", "aa", "aaa", "piano", "Ab"};
+        String[][] queries = {{"book"}, {"BOOK", "read"}, {"a"}, {"aa"}, {"aaa", "ab"}, {"ook", "she"},
+                {"piano", "missing"}, {"eturn"}, {"o", "k"}};
+        TaskList tasks = new TaskList();
+
+        for (int round = 0; round < 400; round++) {
+            if (random.nextInt(3) > 0 || tasks.isEmpty()) {
+                String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                        + " " + round;
+                tasks.add(new Todo(name));
+            } else {
+                tasks.remove(random.nextInt(tasks.size()));
+            }
+
+            if (round % 20 == 0) {
+                for (String[] query : queries) {
+                    assertEquals(scanFind(tasks, query), tasks.getFilteredTasks(query));
+                }
+            }
+        }
+
+        while (tasks.size() > 10) {
+            tasks.remove(random.nextInt(tasks.size()));
+        }
+        for (String[] query : queries) {
+            assertEquals(scanFind(tasks, query), tasks.getFilteredTasks(query));
+        }
+    }
+
+    @Test
+    public void testListPageKeepsNumbersAndStopsAtEnd() throws MintelException {
+        TaskList tasks = new TaskList();
+        assertEquals("Meow~ Your list is empty!", tasks.getListPage(0, 10));
+        for (int i = 1; i <= 5; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        assertEquals("MEOWRiffic! Here are the tasks in your list:\n3.[T][ ] task 3\n4.[T][ ] task 4",
+                tasks.getListPage(2, 4));
+        assertEquals(tasks.getListPage(0, 5), tasks.getListPage(0, 100));
+        assertEquals(tasks.getListString(), tasks.getListPage(0, 5));
+        assertThrows(OutOfRangeException.class, () -> tasks.getListPage(5, 10));
+        assertTrue(tasks.hasTaskAt(4));
+        assertFalse(tasks.hasTaskAt(5));
+    }
+
+    @Test
+    public void testIdsAndPositionsMatchArrayListAcrossDeletes() throws MintelException {
+        Random random = new Random(3);
+        TaskList tasks = new TaskList();
+        List<Task> expected = new ArrayList<>();
+        long addedCount = 0;
+
+        for (int round = 0; round < 3000; round++) {
+            if (random.nextInt(5) < 2 || expected.isEmpty()) {
+                Task task = new Todo("task " + round);
+                tasks.add(task);
+                expected.add(task);
+                assertEquals(++addedCount, task.getId());
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), tasks.remove(index));
+            }
+
+            if (round % 100 == 0) {
+                assertEquals(expected.size(), tasks.size());
+                assertEquals(expected, new ArrayList<>(tasks.getAllTasks()));
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), tasks.get(i));
+                    assertEquals(i, tasks.indexOfId(expected.get(i).getId()));
+                }
+            }
+        }
+
+        while (tasks.size() > 1) {
+            tasks.remove(0);
+        }
+        Task last = expected.get(expected.size() - 1);
+        assertEquals(last, tasks.getById(last.getId()));
+        assertEquals(-1, tasks.indexOfId(1));
+        assertThrows(MintelException.class, () -> tasks.getById(1));
+    }
+
+    @Test
+    public void testRemoveTasksMatchesRemovingOneByOne() throws MintelException {
+        Random random = new Random(11);
+        TaskList tasks = new TaskList();
+        List<Task> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Task task = new Deadline("task " + i, LocalDate.of(2026, 3, 10).plusDays(i % 7));
+            tasks.add(task);
+            expected.add(task);
+        }
+        tasks.getScheduleByDate("2026-03-12");
+
+        for (int round = 0; round < 12 && !expected.isEmpty(); round++) {
+            int[] indexes = random.ints(1 + random.nextInt(expected.size()), 0, expected.size())
+                    .distinct().sorted().toArray();
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                expected.remove(indexes[i]);
+            }
+            tasks.removeTasks(indexes);
+
+            assertEquals(expected, new ArrayList<>(tasks.getAllTasks()));
+            if (!expected.isEmpty()) {
+                assertEquals(expected.size() - 1, tasks.indexOfId(expected.get(expected.size() - 1).getId()));
+            }
+            assertEquals(scanSchedule(tasks, LocalDate.of(2026, 3, 12)), tasks.getScheduleByDate("2026-03-12"));
+        }
+        assertThrows(OutOfRangeException.class, () -> tasks.removeTasks(new int[] {0, tasks.size()}));
+    }
+
+    @Test
+    public void testLoadedTasksWithoutIdsAreNumberedAfterExistingIds() throws MintelException {
+        List<Task> loaded = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            loaded.add(new Todo("task " + i));
+        }
+        loaded.get(1).setId(7);
+        TaskList tasks = new TaskList(loaded);
+
+        tasks.add(new Todo("task 3"));
+
+        assertEquals(8, tasks.get(0).getId());
+        assertEquals(7, tasks.get(1).getId());
+        assertEquals(9, tasks.get(2).getId());
+        assertEquals(10, tasks.get(3).getId());
+    }
+
+    /**
+     * Finds tasks by checking every name for every keyword.
+     */
+    @Test
+    public void testUndoAndRedoReturnToEveryEarlierState() throws MintelException {
+        for (TaskList tasks : new TaskList[] {new TaskList(), new ConcurrentTaskList()}) {
+            Random random = new Random(25);
+            List<String> states = new ArrayList<>();
+            states.add(tasks.getListString());
+            for (int step = 0; step < 300; step++) {
+                applyRandomChange(tasks, random, step);
+                states.add(tasks.getListString());
+            }
+
+            for (int i = states.size() - 2; i >= 0; i--) {
+                tasks.undo();
+                assertEquals(states.get(i), tasks.getListString());
+                assertEquals(scanFind(tasks, "event"), tasks.getFilteredTasks("event"));
+            }
+            assertThrows(MintelException.class, tasks::undo);
+            for (int i = 1; i < states.size(); i++) {
+                tasks.redo();
+                assertEquals(states.get(i), tasks.getListString());
+            }
+            assertThrows(MintelException.class, tasks::redo);
+
+            // A change after an undo starts a new branch, with nothing left to redo
+            tasks.undo();
+            tasks.undo();
+            tasks.add(new Todo("new branch"));
+            assertEquals(0, tasks.getRedoCount());
+            assertThrows(MintelException.class, tasks::redo);
+            tasks.undo();
+            assertEquals(states.get(states.size() - 3), tasks.getListString());
+            assertStatsMatchRecount(tasks, LocalDate.of(2026, 3, 15));
+        }
+    }
+
+    @Test
+    public void testHistoryLimitForgetsOldestChanges() throws MintelException {
+        TaskList tasks = new TaskList();
+        tasks.setHistoryLimit(20 * (TaskHistory.NODE_BYTES + TaskHistory.TASK_COPY_BYTES));
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        int undoCount = tasks.getUndoCount();
+        assertTrue(undoCount > 0 && undoCount <= 20, "Undo count was " + undoCount);
+        for (int i = 0; i < undoCount; i++) {
+            tasks.undo();
+        }
+        assertEquals(100 - undoCount, tasks.size());
+        assertThrows(MintelException.class, tasks::undo);
+
+        tasks.setHistoryLimit(0);
+        tasks.markTask(0, true);
+        assertEquals(0, tasks.getUndoCount());
+        assertThrows(MintelException.class, tasks::undo);
+    }
+
+    /**
+     * Makes one random add, delete or mark, then checks the list's queries against a scan.
+     */
+    private void applyRandomChange(TaskList tasks, Random random, int step) throws MintelException {
+        int choice = tasks.isEmpty() ? 0 : random.nextInt(6);
+        LocalDate date = LocalDate.of(2026, 3, 1).plusDays(random.nextInt(60));
+        switch (choice) {
+        case 0:
+        case 1:
+            tasks.add(random.nextBoolean() ? new Deadline("deadline " + step, date)
+                    : new Event("event " + step, date, date.plusDays(1 + random.nextInt(5))));
+            break;
+        case 2:
+            tasks.remove(random.nextInt(tasks.size()));
+            break;
+        case 3:
+            int first = random.nextInt(tasks.size());
+            tasks.removeTasks(first + 1 < tasks.size() ? new int[] {first, first + 1} : new int[] {first});
+            break;
+        case 4:
+            tasks.markTask(random.nextInt(tasks.size()), random.nextBoolean());
+            break;
+        default:
+            int[] indexes = tasks.size() > 1 ? new int[] {0, tasks.size() - 1} : new int[] {0};
+            tasks.markTasks(indexes, random.nextBoolean());
+            break;
+        }
+        // Queries build the name and date indexes, which undo and redo must not leave stale
+        assertEquals(scanFind(tasks, "deadline"), tasks.getFilteredTasks("deadline"));
+        assertEquals(scanScheduleBetween(tasks, date, date.plusDays(7)),
+                tasks.getScheduleBetween(date, date.plusDays(7)));
+    }
+
+    private String scanFind(TaskList tasks, String... keywords) {
+        StringBuilder sb = new StringBuilder();
+        int counter = 1;
+        for (Task task : tasks.getAllTasks()) {
+            boolean containsAllKeywords = true;
+            for (String keyword : keywords) {
+                containsAllKeywords &= task.getName().toLowerCase().contains(keyword.toLowerCase());
+            }
+            if (containsAllKeywords) {
+                sb.append(counter).append(".").append(task).append("\n");
+                counter++;
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Checks every count in the list's stats against a count over all of its tasks.
+     */
+    private void assertStatsMatchRecount(TaskList tasks, LocalDate today) {
+        TaskStats stats = tasks.getStats(today);
+        int[] counts = new int[TaskStats.Type.values().length];
+        int[] doneCounts = new int[TaskStats.Type.values().length];
+        int overdueCount = 0;
+        Map<YearMonth, Integer> deadlinesByMonth = new TreeMap<>();
+        Map<YearMonth, Integer> doneDeadlinesByMonth = new TreeMap<>();
+        for (Task task : tasks.getAllTasks()) {
+            TaskStats.Type type = TaskStats.Type.of(task);
+            counts[type.ordinal()]++;
+            doneCounts[type.ordinal()] += task.getIsDone() ? 1 : 0;
+            if (task instanceof Deadline) {
+                LocalDate by = ((Deadline) task).getByDate();
+                deadlinesByMonth.merge(YearMonth.from(by), 1, Integer::sum);
+                if (task.getIsDone()) {
+                    doneDeadlinesByMonth.merge(YearMonth.from(by), 1, Integer::sum);
+                } else if (by.isBefore(today)) {
+                    overdueCount++;
+                }
+            }
+        }
+
+        for (TaskStats.Type type : TaskStats.Type.values()) {
+            assertEquals(counts[type.ordinal()], stats.getCount(type));
+            assertEquals(doneCounts[type.ordinal()], stats.getDoneCount(type));
+        }
+        assertEquals(tasks.size(), stats.getTotalCount());
+        assertEquals(overdueCount, stats.getOverdueCount());
+        assertEquals(deadlinesByMonth, stats.getDeadlinesByMonth());
+        assertEquals(doneDeadlinesByMonth, stats.getDoneDeadlinesByMonth());
+    }
+
+    /**
+     * Builds the schedule for a range of dates by checking every task on each day.
+     */
+    private String scanScheduleBetween(TaskList tasks, LocalDate from, LocalDate to) {
+        StringBuilder sb = new StringBuilder();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            String schedule = scanSchedule(tasks, day);
+            if (schedule.startsWith("MEOWRiffic!")) {
+                String heading = day.getDayOfWeek().toString().substring(0, 1)
+                        + day.getDayOfWeek().toString().substring(1, 3).toLowerCase() + ", " + day + ":";
+                sb.append("\n\n").append(heading).append(schedule.substring(schedule.indexOf('\n')));
+            }
+        }
+        if (sb.length() == 0) {
+            return "Meow~ No deadlines or events scheduled from " + from + " to " + to + ".";
+        }
+        return "MEOWRiffic! Schedule from " + from + " to " + to + ":" + sb;
+    }
+
+    /**
+     * Builds the schedule for a date by checking every task.
+     */
+    private String scanSchedule(TaskList tasks, LocalDate date) {
+        StringBuilder sb = new StringBuilder("MEOWRiffic! Schedule for " + date + ":\n");
+        int count = 0;
+        for (Task task : tasks.getAllTasks()) {
+            boolean isOnDate = task instanceof Deadline && ((Deadline) task).getByDate().equals(date)
+                    || task instanceof Event && !date.isBefore(((Event) task).getFromDate())
+                    && !date.isAfter(((Event) task).getToDate());
+            if (isOnDate) {
+                count++;
+                sb.append(count).append(". ").append(task).append("\n");
+            }
+        }
+        return count == 0 ? "Meow~ No deadlines or events scheduled on " + date + "." : sb.toString().trim();
+    }
+}
@@ -0,0 +1,93 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Compares file sizes and load times of plain and gzip-compressed task files and binary snapshots.
+ * Loads are single-threaded so that the numbers show the cost of the format rather than of the parallel loader.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.storage.CompressionBenchmark [-Pargs="TASKS ROUNDS"]
+ */
+public class CompressionBenchmark {
+    private static final int DEFAULT_TASKS = 200_000;
+    private static final int DEFAULT_ROUNDS = 5;
+
+    /**
+     * Saves the same tasks plainly and compressed, then loads each file several times and reports the best time.
+     *
+     * @param args Optionally, the number of tasks and the number of load rounds.
+     */
+    public static void main(String[] args) throws IOException, MintelException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            if (i % 2 == 0) {
+                tasks.add(new Todo("practice piano for the recital " + i));
+            } else {
+                tasks.add(new Deadline("submit report " + i, "Mar " + (i % 18 + 10) + " 2026"));
+            }
+        }
+
+        Path directory = Files.createTempDirectory("mintel-bench");
+        try {
+            System.out.printf("%d tasks, best of %d loads%n", taskCount, rounds);
+            for (FileCompression compression : FileCompression.values()) {
+                Path textPath = directory.resolve("tasks.txt" + compression.getExtension());
+                String filePath = textPath.toString();
+                Path binaryPath = directory.resolve("tasks.bin" + compression.getExtension());
+
+                Storage storage = new Storage(filePath);
+                storage.setDurabilityPolicy(DurabilityPolicy.NONE);
+                long saveStart = System.nanoTime();
+                storage.saveTasks(tasks);
+                long saveNanos = System.nanoTime() - saveStart;
+
+                Files.setLastModifiedTime(binaryPath, FileTime.fromMillis(0));
+                long textNanos = bestLoadTime(filePath, rounds, taskCount);
+                Files.setLastModifiedTime(binaryPath, FileTime.fromMillis(System.currentTimeMillis()));
+                Files.setLastModifiedTime(textPath, FileTime.fromMillis(0));
+                long binaryNanos = bestLoadTime(filePath, rounds, taskCount);
+
+                System.out.printf("%-5s save=%.0f ms  text %.2f MB load=%.0f ms  binary %.2f MB load=%.0f ms%n",
+                        compression, saveNanos / 1e6, Files.size(textPath) / (1024.0 * 1024.0), textNanos / 1e6,
+                        Files.size(binaryPath) / (1024.0 * 1024.0), binaryNanos / 1e6);
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static long bestLoadTime(String filePath, int rounds, int expectedCount) throws MintelException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            Storage storage = new Storage(filePath);
+            storage.setLoadParallelism(1);
+
+            long start = System.nanoTime();
+            List<Task> tasks = storage.loadTasks();
+            best = Math.min(best, System.nanoTime() - start);
+
+            if (tasks.size() != expectedCount) {
+                throw new IllegalStateException("Loaded " + tasks.size() + " tasks, expected " + expectedCount);
+            }
+        }
+        return best;
+    }
+}
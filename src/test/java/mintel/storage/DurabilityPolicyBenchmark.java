@@ -0,0 +1,75 @@
+package mintel.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Compares save throughput of the durability policies.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.storage.DurabilityPolicyBenchmark [-Pargs="TASKS SAVES"]
+ */
+public class DurabilityPolicyBenchmark {
+    private static final int DEFAULT_TASKS = 10_000;
+    private static final int DEFAULT_SAVES = 50;
+    private static final int WARMUP_SAVES = 5;
+
+    /**
+     * Saves the same task list repeatedly under each policy and reports the throughput.
+     *
+     * @param args Optionally, the number of tasks and the number of saves per policy.
+     */
+    public static void main(String[] args) throws IOException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TASKS;
+        int saves = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAVES;
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new Todo("practice piano for the recital " + i));
+        }
+
+        Path directory = Files.createTempDirectory("mintel-bench");
+        try {
+            System.out.printf("Saving %d tasks, %d saves per policy%n", taskCount, saves);
+            for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+                Storage storage = new Storage(directory.resolve(policy + ".txt").toString());
+                storage.setDurabilityPolicy(policy);
+
+                for (int i = 0; i < WARMUP_SAVES; i++) {
+                    storage.saveTasks(tasks);
+                }
+
+                long[] times = new long[saves];
+                for (int i = 0; i < saves; i++) {
+                    long start = System.nanoTime();
+                    storage.saveTasks(tasks);
+                    times[i] = System.nanoTime() - start;
+                }
+                report(policy, times, Files.size(directory.resolve(policy + ".txt")));
+            }
+        } finally {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void report(DurabilityPolicy policy, long[] times, long fileBytes) {
+        long total = Arrays.stream(times).sum();
+        Arrays.sort(times);
+        double savesPerSecond = times.length / (total / 1e9);
+        double megabytesPerSecond = savesPerSecond * fileBytes / (1024.0 * 1024.0);
+        System.out.printf("%-9s median=%.2f ms  p99=%.2f ms  %.1f saves/s  %.1f MB/s%n", policy,
+                times[times.length / 2] / 1e6, times[(int) (times.length * 0.99)] / 1e6,
+                savesPerSecond, megabytesPerSecond);
+    }
+}
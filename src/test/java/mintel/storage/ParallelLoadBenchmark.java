@@ -0,0 +1,90 @@
+package mintel.storage;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import mintel.model.task.Task;
+
+/**
+ * Measures how task file loading scales with the number of parse workers.
+ * Run with: ./gradlew benchmark -Pbenchmark=mintel.storage.ParallelLoadBenchmark [-Pargs=LINES]
+ */
+public class ParallelLoadBenchmark {
+    private static final int DEFAULT_LINES = 1_000_000;
+    private static final int[] WORKER_COUNTS = {1, 2, 4, 8};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Generates a task file and reports the median load time for each worker count.
+     *
+     * @param args Optionally, the number of lines to generate.
+     */
+    public static void main(String[] args) throws IOException {
+        int lines = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LINES;
+        Path file = Files.createTempFile("mintel-bench", ".txt");
+        try {
+            writeTaskFile(file, lines);
+            System.out.printf("Loading %d lines (%d MB)%n", lines, Files.size(file) / (1024 * 1024));
+
+            long baseline = 0;
+            for (int workers : WORKER_COUNTS) {
+                long median = measure(file, workers);
+                if (workers == 1) {
+                    baseline = median;
+                }
+                System.out.printf("workers=%d  median=%d ms  speedup=%.2fx%n",
+                        workers, median, (double) baseline / median);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long measure(Path file, int workers) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            load(file, workers);
+        }
+
+        long[] times = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            int loaded = load(file, workers);
+            times[i] = (System.nanoTime() - start) / 1_000_000;
+            assert loaded > 0 : "Nothing was loaded";
+        }
+        Arrays.sort(times);
+        return times[MEASURED_ROUNDS / 2];
+    }
+
+    private static int load(Path file, int workers) throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        new ParallelTaskFileLoader(file, workers).load(tasks, new ArrayList<>());
+        return tasks.size();
+    }
+
+    private static void writeTaskFile(Path file, int lines) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                switch (i % 3) {
+                case 0:
+                    writer.write("T | 0 | read chapter " + i);
+                    break;
+                case 1:
+                    writer.write("D | 1 | submit report " + i + " | Mar " + (i % 28 + 1) + " 2026");
+                    break;
+                default:
+                    writer.write("E | 0 | conference " + i + " | From: Jan 10 2026 | To: May 10 2026");
+                    break;
+                }
+                writer.newLine();
+            }
+        }
+    }
+}
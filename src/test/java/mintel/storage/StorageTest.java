@@ -0,0 +1,689 @@
+package mintel.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mintel.exception.MintelException;
+import mintel.logic.command.UndoCommand;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+import mintel.model.tasklist.ConcurrentTaskList;
+import mintel.model.tasklist.TaskList;
+
+public class StorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String taskFile() {
+        return tempDir.resolve("tasks.txt").toString();
+    }
+
+    @Test
+    public void testJournalReplay() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        tasks.add(new Todo("read book"));
+        storage.appendMutation(TaskMutation.add(tasks.get(0)), tasks);
+        tasks.add(new Todo("return book"));
+        storage.appendMutation(TaskMutation.add(tasks.get(1)), tasks);
+        tasks.markTask(1, true);
+        storage.appendMutation(TaskMutation.mark(1, true), tasks);
+        tasks.remove(0);
+        storage.appendMutation(TaskMutation.delete(0), tasks);
+
+        assertFalse(Files.exists(tempDir.resolve("tasks.txt")));
+        assertTrue(Files.exists(tempDir.resolve("tasks.journal")));
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(1, reloaded.size());
+        assertEquals("T | 1 | return book", reloaded.get(0).toStringFile());
+    }
+
+    @Test
+    public void testCheckpointClearsJournal() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        storage.setCheckpointInterval(2);
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        for (int i = 0; i < 3; i++) {
+            tasks.add(new Todo("task " + i));
+            storage.appendMutation(TaskMutation.add(tasks.get(i)), tasks);
+        }
+
+        assertTrue(Files.exists(tempDir.resolve("tasks.txt")));
+        assertFalse(Files.exists(tempDir.resolve("tasks.journal")));
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(3, reloaded.size());
+    }
+
+    @Test
+    public void testCloseFoldsJournalIntoTaskFile() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        storage.enableWriteBehind(tasks, 60_000);
+
+        synchronized (tasks) {
+            tasks.add(new Todo("read book"));
+            storage.appendMutation(TaskMutation.add(tasks.get(0)), tasks);
+            tasks.markTask(0, true);
+            storage.appendMutation(TaskMutation.mark(0, true), tasks);
+        }
+        assertFalse(Files.exists(tempDir.resolve("tasks.txt")));
+
+        storage.close();
+        assertEquals(List.of("T | 1 | read book"), Files.readAllLines(tempDir.resolve("tasks.txt")));
+        assertFalse(Files.exists(tempDir.resolve("tasks.journal")));
+    }
+
+    @Test
+    public void testCheckpointSkipsSaveWhenFileIsCurrent() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | chores\n"));
+        TaskList tasks = new TaskList(storage.loadTasks());
+        Files.setLastModifiedTime(tempDir.resolve("tasks.txt"), FileTime.fromMillis(0));
+
+        storage.checkpoint(tasks);
+        assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(tempDir.resolve("tasks.txt")));
+
+        tasks.markTask(0, true);
+        storage.appendMutation(TaskMutation.mark(0, true), tasks);
+        storage.checkpoint(tasks);
+        assertEquals(List.of("T | 1 | chores"), Files.readAllLines(tempDir.resolve("tasks.txt")));
+        assertFalse(Files.exists(tempDir.resolve("tasks.journal")));
+    }
+
+    @Test
+    public void testUndoFollowedByChangeSurvivesCrash() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        storage.enableWriteBehind(tasks, 60_000);
+
+        synchronized (tasks) {
+            for (String name : new String[] {"A", "B", "C"}) {
+                tasks.add(new Todo(name));
+                storage.appendMutation(TaskMutation.add(tasks.get(tasks.size() - 1)), tasks);
+                storage.saveIfDirty(tasks);
+            }
+            tasks.remove(0);
+            storage.appendMutation(TaskMutation.delete(0), tasks);
+            new UndoCommand(true).execute(tasks, null, storage);
+            tasks.markTask(0, true);
+            storage.appendMutation(TaskMutation.mark(0, true), tasks);
+            storage.saveIfDirty(tasks);
+        }
+
+        // The storage is never flushed or closed, as after a crash
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(3, reloaded.size());
+        assertEquals("T | 1 | A", reloaded.get(0).toStringFile());
+        assertEquals("T | 0 | B", reloaded.get(1).toStringFile());
+        assertEquals("T | 0 | C", reloaded.get(2).toStringFile());
+    }
+
+    @Test
+    public void testUndoIsJournaledWithoutRewritingTaskFile() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        for (String name : new String[] {"A", "B", "C", "D"}) {
+            tasks.add(new Todo(name));
+        }
+        storage.checkpoint(tasks);
+        byte[] saved = Files.readAllBytes(tempDir.resolve("tasks.txt"));
+
+        tasks.removeTasks(new int[] {0, 2});
+        storage.appendMutation(TaskMutation.delete(new int[] {0, 2}), tasks);
+        new UndoCommand(true).execute(tasks, null, storage);
+        new UndoCommand(false).execute(tasks, null, storage);
+        new UndoCommand(true).execute(tasks, null, storage);
+        tasks.markTask(3, true);
+        storage.appendMutation(TaskMutation.mark(3, true), tasks);
+        storage.saveIfDirty(tasks);
+
+        assertTrue(Arrays.equals(saved, Files.readAllBytes(tempDir.resolve("tasks.txt"))));
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(4, reloaded.size());
+        assertEquals("T | 0 | A", reloaded.get(0).toStringFile());
+        assertEquals("T | 1 | D", reloaded.get(3).toStringFile());
+        assertEquals(tasks.get(2).getId(), reloaded.get(2).getId());
+    }
+
+    @Test
+    public void testUndoAndRedoSplicesReplayOntoSavedTasks() throws MintelException {
+        Random random = new Random(25);
+        TaskList tasks = new TaskList();
+        List<Task> mirror = new ArrayList<>();
+        TaskCodec codec = new TaskCodec();
+        for (int step = 0; step < 200; step++) {
+            if (tasks.isEmpty() || random.nextInt(3) == 0) {
+                tasks.add(new Todo("task " + step));
+                TaskMutation.add(tasks.get(tasks.size() - 1)).applyTo(mirror, codec);
+            } else if (random.nextBoolean()) {
+                int index = random.nextInt(tasks.size());
+                tasks.markTask(index, true);
+                TaskMutation.mark(index, true).applyTo(mirror, codec);
+            } else {
+                int[] indexes = tasks.size() > 1 ? new int[] {0, tasks.size() - 1} : new int[] {0};
+                tasks.removeTasks(indexes);
+                TaskMutation.delete(indexes).applyTo(mirror, codec);
+            }
+
+            // Round-trips each splice through its journal record, as a reload would
+            for (int undo = random.nextInt(3); undo > 0 && tasks.getUndoCount() > 0; undo--) {
+                String record = TaskMutation.splice(tasks.undo()).toJournalString();
+                TaskMutation.fromJournalString(record).applyTo(mirror, codec);
+            }
+            if (tasks.getRedoCount() > 0 && random.nextBoolean()) {
+                String record = TaskMutation.splice(tasks.redo()).toJournalString();
+                TaskMutation.fromJournalString(record).applyTo(mirror, codec);
+            }
+
+            assertEquals(tasks.size(), mirror.size());
+            for (int i = 0; i < mirror.size(); i++) {
+                assertEquals(tasks.get(i).toStringFile(), mirror.get(i).toStringFile());
+                assertEquals(tasks.get(i).getId(), mirror.get(i).getId());
+            }
+        }
+    }
+
+    @Test
+    public void testWriteBehindSavesLatestSnapshotOfConcurrentList() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new ConcurrentTaskList(storage.loadTasks());
+        storage.enableWriteBehind(tasks, 60_000);
+
+        synchronized (tasks) {
+            tasks.add(new Todo("A"));
+            storage.saveIfDirty(tasks);
+            // Journaled after the save was requested, so only the saver can put it in the task file
+            tasks.add(new Todo("B"));
+            storage.appendMutation(TaskMutation.add(tasks.get(1)), tasks);
+        }
+        storage.flush();
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(2, reloaded.size());
+        assertEquals("T | 0 | A", reloaded.get(0).toStringFile());
+        assertEquals("T | 0 | B", reloaded.get(1).toStringFile());
+    }
+
+    @Test
+    public void testFlushWaitsForBackgroundWriteInProgress() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        Storage storage = new Storage(taskFile()) {
+            @Override
+            void writeSnapshotFiles(List<Task> tasks, long generation) throws IOException {
+                isWriting.countDown();
+                try {
+                    canFinish.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.writeSnapshotFiles(tasks, generation);
+            }
+        };
+        storage.enableWriteBehind(new Object(), 0);
+        storage.saveTasks(List.of(new Todo("A")));
+        isWriting.await();
+
+        // The background thread has taken the save, so this flush has nothing left to write itself
+        Thread closer = new Thread(() -> {
+            try {
+                storage.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        closer.start();
+        closer.join(200);
+        assertTrue(closer.isAlive(), "Close must wait for the write in progress");
+
+        canFinish.countDown();
+        closer.join();
+        assertEquals("T | 0 | A", Files.readString(tempDir.resolve("tasks.txt")).trim());
+    }
+
+    @Test
+    public void testCorruptedSnapshotSizesAreRejectedWithoutAllocating() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new TaskSnapshotCodec().write(List.of(new Todo("read book")), out, 0);
+        byte[] valid = out.toByteArray();
+        Path snapshot = tempDir.resolve("tasks.bin");
+
+        // The record count follows the magic, version and journal generation
+        byte[] hugeCount = valid.clone();
+        ByteBuffer.wrap(hugeCount).putInt(14, Integer.MAX_VALUE);
+        Files.write(snapshot, hugeCount);
+        MintelException e = assertThrows(MintelException.class, () -> new TaskSnapshotCodec().read(snapshot));
+        assertEquals("Corrupted snapshot file! Meow...", e.getMessage());
+
+        // The name length follows the record's type, done flag and ID
+        byte[] hugeName = valid.clone();
+        ByteBuffer.wrap(hugeName).putInt(28, Integer.MAX_VALUE);
+        Files.write(snapshot, hugeName);
+        e = assertThrows(MintelException.class, () -> new TaskSnapshotCodec().read(snapshot));
+        assertEquals("Corrupted snapshot file! Meow...", e.getMessage());
+
+        Path compressed = tempDir.resolve("tasks.bin.gz");
+        try (OutputStream gzip = FileCompression.GZIP.wrapOutput(Files.newOutputStream(compressed))) {
+            gzip.write(hugeName);
+        }
+        assertThrows(MintelException.class, () -> new TaskSnapshotCodec(FileCompression.GZIP).read(compressed));
+    }
+
+    @Test
+    public void testInvalidJournalEntrySkipped() throws MintelException, IOException {
+        Files.writeString(tempDir.resolve("tasks.txt"), "T | 0 | chores\n");
+        Files.writeString(tempDir.resolve("tasks.journal"), "MARK | 5\nMARK | 0\n");
+
+        Storage storage = new Storage(taskFile());
+        List<Task> tasks = storage.loadTasks();
+
+        assertEquals(1, tasks.size());
+        assertTrue(tasks.get(0).getIsDone());
+        assertFalse(storage.getWarnings().isEmpty());
+    }
+
+    @Test
+    public void testLoadSkipsInvalidLines() throws MintelException {
+        String content = "D | 1 | project | Mar 20 2026\r\n"
+                + "\r\n"
+                + "T | 0 |  \n"
+                + "X | 0 | unknown\n"
+                + "  E | 0 | festival | From: Jan 10 2026 | To: May 10 2026  \n"
+                + "D | 0 | bad date | Feb 30 2026\n"
+                + "T | 0 | chores";
+        Storage storage = new Storage(writeTaskFile(content));
+        List<Task> tasks = storage.loadTasks();
+
+        assertEquals(3, tasks.size());
+        assertEquals("E | 0 | festival | From: Jan 10 2026 | To: May 10 2026", tasks.get(1).toStringFile());
+        assertEquals("T | 0 | chores", tasks.get(2).toStringFile());
+
+        List<String> warnings = storage.getWarnings();
+        assertEquals("Meow~ Found 3 issue(s) in file:", warnings.get(0));
+        assertEquals("Meow~ Skipping invalid line 3: T | 0 |", warnings.get(1));
+        assertEquals("  └─ Empty field at position 3", warnings.get(2));
+        assertEquals("Meow~ Skipping invalid line 4: X | 0 | unknown", warnings.get(3));
+        assertEquals("  └─ Unknown task type: X", warnings.get(4));
+        assertEquals("Meow~ Skipping invalid line 6: D | 0 | bad date | Feb 30 2026", warnings.get(5));
+    }
+
+    @Test
+    public void testBinarySnapshotPreferredWhenUpToDate() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | chores\n"
+                + "D | 1 | project | Mar 20 2026\n"
+                + "E | 0 | festival | From: Jan 10 2026 | To: May 10 2026\n"));
+        List<Task> tasks = storage.loadTasks();
+        storage.saveTasks(tasks);
+        assertTrue(Files.exists(tempDir.resolve("tasks.bin")));
+
+        Files.writeString(tempDir.resolve("tasks.txt"), "T | 0 | edited by hand\n");
+        Files.setLastModifiedTime(tempDir.resolve("tasks.bin"),
+                Files.getLastModifiedTime(tempDir.resolve("tasks.txt")));
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(3, reloaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toStringFile(), reloaded.get(i).toStringFile());
+            assertEquals(tasks.get(i).toString(), reloaded.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testTextFileUsedWhenNewerThanBinarySnapshot() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | chores\n"));
+        storage.saveTasks(storage.loadTasks());
+
+        Files.writeString(tempDir.resolve("tasks.txt"), "T | 0 | edited by hand\n");
+        Files.setLastModifiedTime(tempDir.resolve("tasks.bin"), FileTime.fromMillis(0));
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals("T | 0 | edited by hand", reloaded.get(0).toStringFile());
+    }
+
+    @Test
+    public void testParallelLoadMatchesSequentialLoad() throws MintelException, IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append("T | 0 | todo ").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+            content.append("D | 1 | deadline ").append(i).append(" | Mar 15 2026\n");
+            if (i % 50 == 0) {
+                content.append("D | 0 | broken ").append(i).append("\n\n");
+            }
+        }
+        Path file = Path.of(writeTaskFile(content.toString()));
+
+        Storage storage = new Storage(file.toString());
+        storage.setLoadParallelism(1);
+        List<Task> expected = storage.loadTasks();
+
+        for (int parallelism : new int[] {2, 4, 7}) {
+            List<Task> tasks = new ArrayList<>();
+            List<String> warnings = new ArrayList<>();
+            new ParallelTaskFileLoader(file, parallelism).load(tasks, warnings);
+
+            assertEquals(expected.size(), tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(expected.get(i).toStringFile(), tasks.get(i).toStringFile());
+            }
+            assertEquals(storage.getWarnings().subList(1, warnings.size() + 1), warnings);
+        }
+    }
+
+    @Test
+    public void testRepeatedNamesShareOneInstanceAfterLoading() throws MintelException, IOException {
+        String[] names = {"standup", "weekly report", "gym"};
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            content.append("D | 0 | ").append(names[i % names.length]).append(" | Mar ").append(i % 28 + 1)
+                    .append(" 2026\n");
+        }
+        Storage storage = new Storage(writeTaskFile(content.toString()));
+        List<Task> tasks = storage.loadTasks();
+        assertEquals(names.length, countNameInstances(tasks));
+
+        storage.saveTasks(tasks);
+        assertEquals(names.length, countNameInstances(new Storage(taskFile()).loadTasks()));
+    }
+
+    @Test
+    public void testJournaledTasksAreDecodedLikeTaskFileLines() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("D | 0 | standup | Mar 20 2026\n"));
+        TaskList tasks = new TaskList(storage.loadTasks());
+        tasks.add(new Todo("standup"));
+        storage.appendMutation(TaskMutation.add(tasks.get(1)), tasks);
+        tasks.add(new Event("offsite", "2026-03-10", "2026-03-12"));
+        storage.appendMutation(TaskMutation.add(tasks.get(2)), tasks);
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(3, reloaded.size());
+        assertEquals(tasks.get(2).toStringFile(), reloaded.get(2).toStringFile());
+        // The name replayed from the journal is shared with the one read from the task file
+        assertEquals(1, countNameInstances(reloaded.subList(0, 2)));
+    }
+
+    /**
+     * Returns the number of distinct String instances holding the names of the tasks.
+     */
+    private int countNameInstances(List<Task> tasks) {
+        Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task task : tasks) {
+            instances.add(task.getName());
+        }
+        return instances.size();
+    }
+
+    @Test
+    public void testWriteBehindCoalescesUntilFlush() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        storage.setCheckpointInterval(1);
+        TaskList tasks = new TaskList(storage.loadTasks());
+        storage.enableWriteBehind(tasks, 60_000);
+
+        for (int i = 0; i < 5; i++) {
+            synchronized (tasks) {
+                tasks.add(new Todo("task " + i));
+                storage.appendMutation(TaskMutation.add(tasks.get(i)), tasks);
+            }
+        }
+        assertFalse(Files.exists(tempDir.resolve("tasks.txt")));
+
+        storage.flush();
+        assertEquals(5, Files.readAllLines(tempDir.resolve("tasks.txt")).size());
+
+        synchronized (tasks) {
+            tasks.markTask(0, true);
+            storage.appendMutation(TaskMutation.mark(0, true), tasks);
+        }
+        storage.close();
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(5, reloaded.size());
+        assertTrue(reloaded.get(0).getIsDone());
+    }
+
+    @Test
+    public void testRotatedJournalReplayedBeforeActiveJournal() throws MintelException, IOException {
+        Files.writeString(tempDir.resolve("tasks.txt"), "T | 0 | chores\n");
+        Files.writeString(tempDir.resolve("tasks.journal.1"), "ADD | T | 0 | homework\n");
+        Files.writeString(tempDir.resolve("tasks.journal"), "MARK | 1\n");
+
+        List<Task> tasks = new Storage(taskFile()).loadTasks();
+
+        assertEquals(2, tasks.size());
+        assertEquals("T | 1 | homework", tasks.get(1).toStringFile());
+    }
+
+    @Test
+    public void testJournalContainedInSnapshotNotReplayedAgain() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        tasks.add(new Todo("homework"));
+        storage.appendMutation(TaskMutation.add(tasks.get(0)), tasks);
+        String journalRecord = Files.readString(tempDir.resolve("tasks.journal"));
+        storage.saveTasks(tasks.getAllTasks());
+
+        // Simulate a crash after the snapshot was renamed into place but before the journal was discarded
+        Files.writeString(tempDir.resolve("tasks.journal.1"), journalRecord);
+
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(1, reloaded.size());
+        assertFalse(Files.exists(tempDir.resolve("tasks.txt.tmp")));
+    }
+
+    @Test
+    public void testSaveIfDirtySkipsUnchangedList() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | chores"));
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        storage.saveIfDirty(tasks);
+        assertEquals(0, storage.getPerformedSaveCount());
+        assertEquals(1, storage.getSkippedSaveCount());
+
+        tasks.markTask(0, true);
+        storage.saveIfDirty(tasks);
+        storage.saveIfDirty(tasks);
+        assertEquals(1, storage.getPerformedSaveCount());
+        assertEquals(2, storage.getSkippedSaveCount());
+        assertEquals("T | 1 | chores", Files.readString(tempDir.resolve("tasks.txt")).trim());
+
+        tasks.add(new Todo("laundry"));
+        storage.appendMutation(TaskMutation.add(tasks.get(1)), tasks);
+        storage.saveIfDirty(tasks);
+        assertEquals(1, storage.getPerformedSaveCount());
+    }
+
+    @Test
+    public void testSaveIfDirtyRewritesFileWithInvalidLines() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | chores\nX | 0 | unknown\n"));
+        TaskList tasks = new TaskList(storage.loadTasks());
+
+        storage.saveIfDirty(tasks);
+        assertEquals(1, storage.getPerformedSaveCount());
+        assertEquals("T | 0 | chores", Files.readString(tempDir.resolve("tasks.txt")).trim());
+    }
+
+    @Test
+    public void testLazyLoadDecodesOnlyReachedLines() throws MintelException, IOException {
+        Storage storage = new Storage(writeTaskFile("T | 0 | first\nX | 0 | unknown\n\nT | 0 | second\n"));
+        storage.setLazyLoading(true);
+        TaskList tasks = new TaskList(storage.loadTasks());
+        assertTrue(storage.takeNewWarnings().isEmpty());
+
+        assertEquals("T | 0 | first", tasks.get(0).toStringFile());
+        assertTrue(storage.takeNewWarnings().isEmpty());
+
+        assertEquals("T | 0 | second", tasks.get(1).toStringFile());
+        List<String> warnings = storage.takeNewWarnings();
+        assertEquals("Meow~ Skipping invalid line 2: X | 0 | unknown", warnings.get(0));
+        assertEquals("  └─ Unknown task type: X", warnings.get(1));
+        assertEquals(2, tasks.size());
+
+        storage.saveIfDirty(tasks);
+        assertEquals("T | 0 | first\nT | 0 | second", Files.readString(tempDir.resolve("tasks.txt")).trim());
+    }
+
+    @Test
+    public void testLazyLoadStaysLazyThroughConcurrentTaskListStartup() throws MintelException, IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("T | 0 | task ").append(i).append('\n');
+        }
+        Object taskLock = new Object();
+        Storage storage = new Storage(writeTaskFile(content.toString()));
+        storage.setLazyLoading(true);
+        storage.enableWriteBehind(taskLock, 60_000);
+
+        // The same steps as Mintel.initializeTasks, followed by a first "list" command
+        List<Task> loaded = storage.loadTasks();
+        TaskList tasks = new ConcurrentTaskList(loaded);
+        tasks.setHistoryLimit(TaskList.DEFAULT_HISTORY_BYTES);
+        assertTrue(storage.takeNewWarnings().isEmpty());
+        synchronized (taskLock) {
+            assertTrue(tasks.getListPage(0, 100).endsWith("100.[T][ ] task 99"));
+            assertTrue(tasks.hasTaskAt(100));
+            storage.saveIfDirty(tasks);
+        }
+
+        assertTrue(loaded instanceof LazyTaskList);
+        assertFalse(((LazyTaskList) loaded).isFullyDecoded());
+
+        synchronized (taskLock) {
+            tasks.markTask(0, true);
+            storage.saveIfDirty(tasks);
+        }
+        storage.close();
+        assertEquals("T | 1 | task 0", new Storage(taskFile()).loadTasks().get(0).toStringFile());
+    }
+
+    @Test
+    public void testLazyLoadMatchesEagerLoad() throws MintelException, IOException {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(Task.fromFileString("E | " + (i % 2) + " | event " + i
+                    + " | From: Jan 10 2026 | To: May 10 2026"));
+            tasks.add(Task.fromFileString("D | 0 | deadline " + i + " | Mar 20 2026"));
+        }
+        new Storage(taskFile()).saveTasks(tasks);
+        Files.setLastModifiedTime(tempDir.resolve("tasks.txt"), FileTime.fromMillis(0));
+
+        Storage lazyStorage = new Storage(taskFile());
+        lazyStorage.setLazyLoading(true);
+        List<Task> lazyTasks = lazyStorage.loadTasks();
+        lazyTasks.add(new Todo("appended"));
+        lazyTasks.remove(3);
+
+        List<Task> eagerTasks = new Storage(taskFile()).loadTasks();
+        eagerTasks.add(new Todo("appended"));
+        eagerTasks.remove(3);
+
+        assertEquals(eagerTasks.size(), lazyTasks.size());
+        for (int i = 0; i < eagerTasks.size(); i++) {
+            assertEquals(eagerTasks.get(i).toStringFile(), lazyTasks.get(i).toStringFile());
+        }
+    }
+
+    @Test
+    public void testCompressedFilesRoundTrip() throws MintelException, IOException {
+        String filePath = tempDir.resolve("tasks.txt.gz").toString();
+        Storage storage = new Storage(filePath);
+        TaskList tasks = new TaskList(storage.loadTasks());
+        tasks.add(Task.fromFileString("D | 1 | project | Mar 20 2026"));
+        tasks.add(new Todo("chores"));
+        storage.saveTasks(tasks.getAllTasks());
+        tasks.add(new Todo("laundry"));
+        storage.appendMutation(TaskMutation.add(tasks.get(2)), tasks);
+
+        byte[] textBytes = Files.readAllBytes(tempDir.resolve("tasks.txt.gz"));
+        assertEquals((byte) 0x1f, textBytes[0]);
+        assertEquals((byte) 0x8b, textBytes[1]);
+        assertTrue(Files.exists(tempDir.resolve("tasks.bin.gz")));
+        assertTrue(Files.exists(tempDir.resolve("tasks.journal")));
+
+        List<Task> fromSnapshot = new Storage(filePath).loadTasks();
+        Files.delete(tempDir.resolve("tasks.bin.gz"));
+        List<Task> fromText = new Storage(filePath).loadTasks();
+
+        for (List<Task> reloaded : List.of(fromSnapshot, fromText)) {
+            assertEquals(3, reloaded.size());
+            assertEquals("D | 1 | project | Mar 20 2026", reloaded.get(0).toStringFile());
+            assertEquals("T | 0 | laundry", reloaded.get(2).toStringFile());
+        }
+    }
+
+    @Test
+    public void testTaskIdsSurviveSnapshotAndJournal() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        for (int i = 0; i < 3; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.remove(1);
+        storage.saveTasks(tasks.getAllTasks());
+        tasks.add(new Todo("task 3"));
+        storage.appendMutation(TaskMutation.add(tasks.get(2)), tasks);
+
+        TaskList reloaded = new TaskList(new Storage(taskFile()).loadTasks());
+        assertEquals(3, reloaded.size());
+        assertEquals(List.of(1L, 3L, 4L), List.of(reloaded.get(0).getId(), reloaded.get(1).getId(),
+                reloaded.get(2).getId()));
+        assertEquals("T | 0 | task 3", reloaded.getById(4).toStringFile());
+        reloaded.add(new Todo("task 4"));
+        assertEquals(5, reloaded.get(3).getId());
+    }
+
+    @Test
+    public void testBulkMutationsReplayAsOneRecordEach() throws MintelException, IOException {
+        Storage storage = new Storage(taskFile());
+        TaskList tasks = new TaskList(storage.loadTasks());
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        storage.saveTasks(tasks.getAllTasks());
+
+        tasks.markTasks(new int[] {1, 2, 3}, true);
+        storage.appendMutation(TaskMutation.mark(new int[] {1, 2, 3}, true), tasks);
+        tasks.removeTasks(new int[] {0, 2, 4});
+        storage.appendMutation(TaskMutation.delete(new int[] {0, 2, 4}), tasks);
+
+        assertEquals(2, Files.readAllLines(tempDir.resolve("tasks.journal")).size());
+        List<Task> reloaded = new Storage(taskFile()).loadTasks();
+        assertEquals(2, reloaded.size());
+        assertEquals("T | 1 | task 1", reloaded.get(0).toStringFile());
+        assertEquals("T | 1 | task 3", reloaded.get(1).toStringFile());
+    }
+
+    private String writeTaskFile(String content) {
+        try {
+            return Files.writeString(tempDir.resolve("tasks.txt"), content).toString();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package mintel.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Deadline;
+import mintel.model.task.Event;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+
+/**
+ * Round-trip property tests for TaskCodec against Task.toStringFile and Task.fromFileString.
+ */
+public class TaskCodecTest {
+    private static final String[] NAME_PARTS = {"read", "book", "weekly report", "café", "日程", "😀", "a-b", "x"};
+
+    @Test
+    public void testEncodingMatchesToStringFileBytes() throws IOException, MintelException {
+        Random random = new Random(3);
+        List<Task> tasks = new ArrayList<>();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        // Enough tasks to fill the write buffer several times over
+        for (int i = 0; i < 5000; i++) {
+            Task task = randomTask(random);
+            tasks.add(task);
+            expected.write((task.toStringFile() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        new TaskCodec().writeAll(tasks, actual);
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    public void testDecodingRestoresEncodedTasks() throws MintelException {
+        Random random = new Random(5);
+        TaskCodec codec = new TaskCodec();
+        for (int i = 0; i < 5000; i++) {
+            Task task = randomTask(random);
+            String line = task.toStringFile();
+
+            Task decoded = codec.decode(line);
+            assertEquals(line, decoded.toStringFile());
+            assertEquals(task.getClass(), decoded.getClass());
+            assertEquals(Task.fromFileString(line).toStringFile(), decoded.toStringFile());
+
+            // A slice of a longer text, with spaces around the fields, reads the same
+            String padded = "  " + line.replace(" | ", "  |\t") + " ";
+            CharSequence text = CharBuffer.wrap("xx" + padded + "yy");
+            assertEquals(line, codec.decode(text, 2, 2 + padded.length()).toStringFile());
+        }
+    }
+
+    @Test
+    public void testInvalidLinesAreReported() {
+        assertProblem("Empty field at position 3", "T | 0 |  ");
+        assertProblem("Empty field at position 5", "T | 0 | a | b |  | c");
+        assertProblem("Todo should have 3 fields", "T | 0 | a | b");
+        assertProblem("Deadline should have 4 fields", "D | 0 | a");
+        assertProblem("Event should have 5 fields", "E | 0 | a | From: Mar 15 2026");
+        assertProblem("Unknown task type: X", "X | 0 | a");
+        assertProblem("Invalid event format", "E | 0 | a | Fro | To: Mar 16 2026");
+        assertProblem("Date format is invalid!", "D | 0 | a | Feb 30 2026");
+        assertProblem("'From' date should be before", "E | 0 | a | From: Mar 16 2026 | To: Mar 15 2026");
+    }
+
+    private void assertProblem(String problem, String line) {
+        try {
+            new TaskCodec().decode(line);
+        } catch (MintelException e) {
+            assertTrue(e.getMessage().contains(problem), () -> e.getMessage() + " should mention " + problem);
+            return;
+        }
+        throw new AssertionError("Expected a problem with: " + line);
+    }
+
+    private Task randomTask(Random random) throws MintelException {
+        StringBuilder name = new StringBuilder(NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+        for (int words = random.nextInt(3); words > 0; words--) {
+            name.append(' ').append(NAME_PARTS[random.nextInt(NAME_PARTS.length)]);
+        }
+        LocalDate date = LocalDate.of(1 + random.nextInt(9998), 1, 1).plusDays(random.nextInt(365));
+
+        Task task;
+        switch (random.nextInt(3)) {
+        case 0:
+            task = new Todo(name.toString());
+            break;
+        case 1:
+            task = new Deadline(name.toString(), date);
+            break;
+        default:
+            task = new Event(name.toString(), date, date.plusDays(1 + random.nextInt(30)));
+            break;
+        }
+        if (random.nextBoolean()) {
+            task.markAsDone();
+        }
+        return task;
+    }
+}
@@ -0,0 +1,97 @@
+package mintel.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mintel.exception.MintelException;
+import mintel.model.task.Task;
+import mintel.model.task.Todo;
+import mintel.model.tasklist.TaskList;
+
+public class TaskStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testInMemoryStoreKeepsAppendedChanges() throws MintelException, IOException {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        applyChanges(store);
+
+        assertReloaded(store.loadTasks());
+        assertEquals(0, store.getSaveCount());
+    }
+
+    @Test
+    public void testInMemoryStoreCopiesSavedTasks() throws MintelException {
+        InMemoryTaskStore store = new InMemoryTaskStore();
+        TaskList tasks = new TaskList(store.loadTasks());
+        tasks.add(new Todo("read book"));
+        store.saveIfDirty(tasks);
+
+        tasks.markTask(0, true);
+        assertEquals("T | 0 | read book", store.loadTasks().get(0).toStringFile());
+    }
+
+    @Test
+    public void testBufferedNioStoreRoundTrip() throws MintelException, IOException {
+        String filePath = tempDir.resolve("tasks.txt").toString();
+        applyChanges(new BufferedNioTaskStore(filePath));
+
+        assertReloaded(new BufferedNioTaskStore(filePath).loadTasks());
+        assertFalse(Files.exists(tempDir.resolve("tasks.journal")));
+        assertFalse(Files.exists(tempDir.resolve("tasks.bin")));
+    }
+
+    @Test
+    public void testBufferedNioStoreReportsInvalidLines() throws MintelException, IOException {
+        Path taskFile = Files.writeString(tempDir.resolve("tasks.txt"), "T | 0 | chores\nX | 0 | unknown\n");
+        BufferedNioTaskStore store = new BufferedNioTaskStore(taskFile.toString());
+        TaskList tasks = new TaskList(store.loadTasks());
+
+        List<String> warnings = store.takeNewWarnings();
+        assertEquals(List.of("Meow~ Found 1 issue(s) in file:",
+                "Meow~ Skipping invalid line 2: X | 0 | unknown",
+                "  └─ Unknown task type: X",
+                "Loaded 1 valid tasks.",
+                "Invalid Tasks will be removed once a valid command is given!"), warnings);
+        Storage storage = new Storage(taskFile.toString());
+        storage.loadTasks();
+        assertEquals(storage.takeNewWarnings(), warnings);
+        assertTrue(store.takeNewWarnings().isEmpty());
+
+        store.saveIfDirty(tasks);
+        assertEquals("T | 0 | chores", Files.readString(taskFile).trim());
+    }
+
+    /**
+     * Adds two tasks, marks the second and deletes the first, recording each change in the store.
+     */
+    private void applyChanges(TaskStore store) throws MintelException, IOException {
+        TaskList tasks = new TaskList(store.loadTasks());
+
+        tasks.add(new Todo("read book"));
+        store.appendMutation(TaskMutation.add(tasks.get(0)), tasks);
+        tasks.add(new Todo("return book"));
+        store.appendMutation(TaskMutation.add(tasks.get(1)), tasks);
+        tasks.markTask(1, true);
+        store.appendMutation(TaskMutation.mark(1, true), tasks);
+        tasks.remove(0);
+        store.appendMutation(TaskMutation.delete(0), tasks);
+        store.close();
+    }
+
+    private void assertReloaded(List<Task> reloaded) {
+        assertEquals(1, reloaded.size());
+        assertEquals("T | 1 | return book", reloaded.get(0).toStringFile());
+    }
+}